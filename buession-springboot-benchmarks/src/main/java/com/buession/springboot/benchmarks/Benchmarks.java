@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.benchmarks;
+
+import com.buession.security.web.xss.Options;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 基准测试公共配置
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public final class Benchmarks {
+
+	/**
+	 * 请求路径
+	 */
+	public final static String REQUEST_URI = "/api/users";
+
+	/**
+	 * 请求参数
+	 */
+	public final static String QUERY_STRING = "id=1&name=buession&keyword=%3Cscript%3Ealert(1)%3C%2Fscript%3E";
+
+	private Benchmarks() {
+
+	}
+
+	/**
+	 * 返回自定义响应头配置
+	 *
+	 * @return 自定义响应头配置
+	 */
+	public static Map<String, String> responseHeaders() {
+		final Map<String, String> headers = new LinkedHashMap<>(4);
+
+		headers.put("X-Frame-Options", "SAMEORIGIN");
+		headers.put("X-Content-Type-Options", "nosniff");
+		headers.put("X-Java-Version", "$java.version");
+		headers.put("Cache-Control", "no-store");
+
+		return headers;
+	}
+
+	/**
+	 * 返回 XSS 过滤配置
+	 *
+	 * @return XSS 过滤配置
+	 */
+	public static Options xssOptions() {
+		return Options.Builder.getInstance().policy(Options.Policy.ESCAPE).escape(new Options.Escape()).build();
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.benchmarks.reactive;
+
+import com.buession.security.web.xss.reactive.XssFilter;
+import com.buession.springboot.benchmarks.Benchmarks;
+import com.buession.springboot.web.reactive.filter.ResponseHeadersFilter;
+import com.buession.springboot.web.reactive.filter.ServerInfoFilter;
+import com.buession.springboot.web.utils.ResponseHeaderBlock;
+import com.buession.web.reactive.filter.PoweredByFilter;
+import com.buession.web.reactive.filter.PrintUrlFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.handler.DefaultWebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebFlux Filter 单请求开销基准测试，通过 {@link DefaultWebFilterChain} 直接执行
+ * {@link com.buession.springboot.web.reactive.autoconfigure.ReactiveServerConfiguration}、
+ * {@link com.buession.springboot.web.reactive.autoconfigure.ReactiveWebSecurityConfiguration} 注册的 Filter；
+ * filter 为 none 时为基准，仅包含模拟请求、响应的开销；末端 Handler 读取全部查询参数，以计入 XSS 过滤的开销
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactiveFilterChainBenchmark {
+
+	@Param({"none", "responseHeaders", "poweredBy", "serverInfo", "printUrl", "xss", "all"})
+	public String filter;
+
+	private List<WebFilter> filters;
+
+	@Setup
+	public void setup() {
+		switch(filter){
+			case "responseHeaders":
+				filters = Collections.singletonList(responseHeadersFilter());
+				break;
+			case "poweredBy":
+				filters = Collections.singletonList(new PoweredByFilter());
+				break;
+			case "serverInfo":
+				filters = Collections.singletonList(serverInfoFilter());
+				break;
+			case "printUrl":
+				filters = Collections.singletonList(new PrintUrlFilter());
+				break;
+			case "xss":
+				filters = Collections.singletonList(new XssFilter(Benchmarks.xssOptions()));
+				break;
+			case "all":
+				filters = Arrays.asList(responseHeadersFilter(), new PoweredByFilter(), serverInfoFilter(),
+						new PrintUrlFilter(), new XssFilter(Benchmarks.xssOptions()));
+				break;
+			default:
+				filters = Collections.emptyList();
+				break;
+		}
+	}
+
+	@Benchmark
+	public void filter(final Blackhole blackhole) {
+		final MockServerWebExchange exchange = MockServerWebExchange.from(
+				MockServerHttpRequest.get(Benchmarks.REQUEST_URI + '?' + Benchmarks.QUERY_STRING));
+
+		final WebHandler handler = (ex)->{
+			ex.getRequest().getQueryParams().forEach((name, values)->{
+				blackhole.consume(name);
+
+				for(String value : values){
+					blackhole.consume(value);
+				}
+			});
+			return Mono.empty();
+		};
+
+		new DefaultWebFilterChain(handler, filters).filter(exchange).block();
+
+		blackhole.consume(exchange.getResponse());
+	}
+
+	private static ResponseHeadersFilter responseHeadersFilter() {
+		return new ResponseHeadersFilter(new ResponseHeaderBlock(Benchmarks.responseHeaders(), null));
+	}
+
+	private static ServerInfoFilter serverInfoFilter() {
+		return new ServerInfoFilter(null, null, null, null, null);
+	}
+
+}
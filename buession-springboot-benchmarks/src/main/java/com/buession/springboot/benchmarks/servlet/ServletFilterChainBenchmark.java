@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.benchmarks.servlet;
+
+import com.buession.security.web.xss.servlet.XssFilter;
+import com.buession.springboot.benchmarks.Benchmarks;
+import com.buession.springboot.web.servlet.filter.ResponseHeadersFilter;
+import com.buession.springboot.web.servlet.filter.ServerInfoFilter;
+import com.buession.springboot.web.utils.ResponseHeaderBlock;
+import com.buession.web.servlet.filter.PoweredByFilter;
+import com.buession.web.servlet.filter.PrintUrlFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.Filter;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServlet;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet Filter 单请求开销基准测试，通过 {@link MockFilterChain} 直接执行
+ * {@link com.buession.springboot.web.servlet.autoconfigure.ServletServerConfiguration}、
+ * {@link com.buession.springboot.web.servlet.autoconfigure.ServletWebSecurityConfiguration} 注册的 Filter；
+ * filter 为 none 时为基准，仅包含模拟请求、响应的开销；末端 Servlet 读取全部请求参数，以计入 XSS 过滤的开销
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServletFilterChainBenchmark {
+
+	@Param({"none", "responseHeaders", "poweredBy", "serverInfo", "printUrl", "xss", "all"})
+	public String filter;
+
+	private Filter[] filters;
+
+	@Setup
+	public void setup() {
+		switch(filter){
+			case "responseHeaders":
+				filters = new Filter[]{responseHeadersFilter()};
+				break;
+			case "poweredBy":
+				filters = new Filter[]{new PoweredByFilter()};
+				break;
+			case "serverInfo":
+				filters = new Filter[]{serverInfoFilter()};
+				break;
+			case "printUrl":
+				filters = new Filter[]{new PrintUrlFilter()};
+				break;
+			case "xss":
+				filters = new Filter[]{new XssFilter(Benchmarks.xssOptions())};
+				break;
+			case "all":
+				filters = new Filter[]{responseHeadersFilter(), new PoweredByFilter(), serverInfoFilter(),
+						new PrintUrlFilter(), new XssFilter(Benchmarks.xssOptions())};
+				break;
+			default:
+				filters = new Filter[0];
+				break;
+		}
+	}
+
+	@Benchmark
+	public void doFilter(final Blackhole blackhole) throws ServletException, IOException {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", Benchmarks.REQUEST_URI);
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		request.setQueryString(Benchmarks.QUERY_STRING);
+		request.setParameter("id", "1");
+		request.setParameter("name", "buession");
+		request.setParameter("keyword", "<script>alert(1)</script>");
+
+		new MockFilterChain(new ParameterConsumingServlet(blackhole), filters).doFilter(request, response);
+
+		blackhole.consume(response);
+	}
+
+	private static ResponseHeadersFilter responseHeadersFilter() {
+		return new ResponseHeadersFilter(new ResponseHeaderBlock(Benchmarks.responseHeaders(), null));
+	}
+
+	private static ServerInfoFilter serverInfoFilter() {
+		return new ServerInfoFilter(null, null, null, null, null);
+	}
+
+	private final static class ParameterConsumingServlet extends HttpServlet {
+
+		private final static long serialVersionUID = 1L;
+
+		private final transient Blackhole blackhole;
+
+		ParameterConsumingServlet(final Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void service(ServletRequest request, ServletResponse response) {
+			for(Map.Entry<String, String[]> e : request.getParameterMap().entrySet()){
+				blackhole.consume(e.getKey());
+
+				for(String value : e.getValue()){
+					blackhole.consume(value);
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.benchmarks.web;
+
+import com.buession.springboot.web.utils.ServerInfoFilterUtils;
+import com.buession.springboot.web.utils.ServerInfoFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server 信息响应头格式化基准测试，对比每次格式化的 {@link ServerInfoFilterUtils#format} 与缓存结果的
+ * {@link ServerInfoFormatter#format}；以 -prof gc 运行可观察每次操作的内存分配
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerInfoFormatBenchmark {
+
+	private final static String PREFIX = "Buession/";
+
+	private final static String STRIP_PREFIX = "web-";
+
+	private final static String SUFFIX = " (Linux)";
+
+	private final static String STRIP_SUFFIX = ".buession.com";
+
+	private String serverName;
+
+	private ServerInfoFormatter formatter;
+
+	@Setup
+	public void setup() {
+		serverName = "web-node-01.buession.com";
+		formatter = new ServerInfoFormatter(PREFIX, STRIP_PREFIX, SUFFIX, STRIP_SUFFIX);
+	}
+
+	@Benchmark
+	public String format() {
+		return ServerInfoFilterUtils.format(serverName, PREFIX, STRIP_PREFIX, SUFFIX, STRIP_SUFFIX);
+	}
+
+	@Benchmark
+	public String cachedFormat() {
+		return formatter.format(serverName);
+	}
+
+}
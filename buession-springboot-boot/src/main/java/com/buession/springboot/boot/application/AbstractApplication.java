@@ -27,10 +27,15 @@
 package com.buession.springboot.boot.application;
 
 import com.buession.springboot.boot.config.RuntimeProperties;
+import com.buession.springboot.boot.startup.ClassDataSharingTrainer;
+import com.buession.springboot.boot.startup.StartupProfilingReporter;
+import com.buession.springboot.boot.warmup.ApplicationWarmUpListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.context.ConfigurableApplicationContext;
 
@@ -69,6 +74,13 @@ public abstract class AbstractApplication implements Application {
 	 */
 	private Boolean lazyInitialization;
 
+	/**
+	 * 是否开启启动耗时分析，为空时由系统属性 spring.startup-profiling.enabled 决定
+	 *
+	 * @since 2.3.4
+	 */
+	private Boolean startupProfiling;
+
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	/**
@@ -88,7 +100,9 @@ public abstract class AbstractApplication implements Application {
 	 * @throws IllegalAccessException
 	 * 		没有访问权限的异常
 	 * @since 1.3.1
+	 * @deprecated 使用 {@link #AbstractApplication(Banner)}
 	 */
+	@Deprecated
 	protected AbstractApplication(final Class<? extends Banner> banner) throws InstantiationException,
 			IllegalAccessException{
 		if(banner != null){
@@ -138,6 +152,16 @@ public abstract class AbstractApplication implements Application {
 		this.lazyInitialization = lazyInitialization;
 	}
 
+	@Override
+	public Boolean getStartupProfiling(){
+		return startupProfiling;
+	}
+
+	@Override
+	public void setStartupProfiling(Boolean startupProfiling){
+		this.startupProfiling = startupProfiling;
+	}
+
 	@Override
 	public Class<? extends ConfigurableApplicationContext> getConfigurableApplicationContext(){
 		return configurableApplicationContext;
@@ -172,13 +196,58 @@ public abstract class AbstractApplication implements Application {
 		propertyMapper.from(getConfigurableApplicationContext()).to(springApplicationBuilder::contextClass);
 		propertyMapper.from(getLazyInitialization()).to(springApplicationBuilder::lazyInitialization);
 
-		springApplicationBuilder.properties(createRuntimeProperties()).logStartupInfo(true);
+		springApplicationBuilder.properties(createRuntimeProperties()).logStartupInfo(true)
+				.listeners(new ApplicationWarmUpListener());
+
+		if(isStartupProfilingEnabled()){
+			final BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(
+					StartupProfilingReporter.DEFAULT_CAPACITY);
+
+			springApplicationBuilder.applicationStartup(applicationStartup)
+					.listeners(new StartupProfilingReporter(applicationStartup));
+		}
 
 		return springApplicationBuilder;
 	}
 
 	protected void doStartup(final Class<? extends Application> clazz, final String[] args){
-		springApplicationBuilder(clazz).run(args);
+		if(ClassDataSharingTrainer.isTraining(args)){
+			doCdsTraining(clazz, args);
+		}else{
+			springApplicationBuilder(clazz).run(args);
+		}
+	}
+
+	/**
+	 * AppCDS 训练运行，启动应用并完成预热后生成动态 CDS 归档，然后关闭应用上下文并退出 JVM
+	 *
+	 * @param clazz
+	 * 		启动应用程序类
+	 * @param args
+	 * 		启动参数
+	 *
+	 * @see ClassDataSharingTrainer
+	 * @since 2.3.4
+	 */
+	protected void doCdsTraining(final Class<? extends Application> clazz, final String[] args){
+		final ConfigurableApplicationContext context = springApplicationBuilder(clazz).run(args);
+		final boolean archived = new ClassDataSharingTrainer().archive(context.getEnvironment());
+		final int exitCode = SpringApplication.exit(context);
+
+		System.exit(archived ? exitCode : 1);
+	}
+
+	/**
+	 * 返回是否开启启动耗时分析；{@link #getStartupProfiling()} 为 null 时，由系统属性
+	 * {@link StartupProfilingReporter#ENABLED_PROPERTY} 决定
+	 *
+	 * @return 是否开启启动耗时分析
+	 *
+	 * @since 2.3.4
+	 */
+	protected boolean isStartupProfilingEnabled(){
+		return getStartupProfiling() == null ? Boolean.getBoolean(StartupProfilingReporter.ENABLED_PROPERTY) :
+				getStartupProfiling();
 	}
 
 	protected RuntimeProperties createRuntimeProperties(){
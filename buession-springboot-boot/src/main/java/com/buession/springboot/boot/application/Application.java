@@ -91,6 +91,28 @@ public interface Application extends Launcher, Daemon {
 	 */
 	void setLazyInitialization(Boolean lazyInitialization);
 
+	/**
+	 * 返回是否开启启动耗时分析
+	 *
+	 * @return 是否开启启动耗时分析，默认返回 null，即由系统属性 spring.startup-profiling.enabled 决定
+	 *
+	 * @since 2.3.4
+	 */
+	default Boolean getStartupProfiling(){
+		return null;
+	}
+
+	/**
+	 * 设置是否开启启动耗时分析；开启后，应用就绪时输出各配置类、Bean、启动步骤的耗时排行
+	 *
+	 * @param startupProfiling
+	 * 		是否开启启动耗时分析；默认实现忽略该值，与 {@link #getStartupProfiling()} 保持一致
+	 *
+	 * @since 2.3.4
+	 */
+	default void setStartupProfiling(Boolean startupProfiling){
+	}
+
 	/**
 	 * 返回可配置的应用上下文类
 	 *
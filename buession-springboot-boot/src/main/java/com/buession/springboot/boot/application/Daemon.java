@@ -32,4 +32,33 @@ package com.buession.springboot.boot.application;
  */
 public interface Daemon {
 
+	/**
+	 * 以守护进程模式启动的参数
+	 *
+	 * @since 2.3.4
+	 */
+	String DAEMON_ARGUMENT = "--daemon";
+
+	/**
+	 * 返回启动参数中是否包含 {@value #DAEMON_ARGUMENT}
+	 *
+	 * @param args
+	 * 		启动参数
+	 *
+	 * @return 是否以守护进程模式启动
+	 *
+	 * @since 2.3.4
+	 */
+	static boolean isDaemon(final String[] args){
+		if(args != null){
+			for(String arg : args){
+				if(DAEMON_ARGUMENT.equals(arg)){
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
 }
@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.autoconfigure;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.converter.mapper.PropertyMapper;
+import com.buession.core.validator.Validate;
+import com.buession.springboot.boot.concurrent.AdaptiveThreadPoolSizer;
+import com.buession.springboot.boot.concurrent.CompositeTaskDecorator;
+import com.buession.springboot.boot.concurrent.ContextPropagatingTaskDecorator;
+import com.buession.springboot.boot.concurrent.ContextPropagator;
+import com.buession.springboot.boot.concurrent.DefaultForkJoinWorkerThreadFactory;
+import com.buession.springboot.boot.concurrent.ExecutorServiceLifecycle;
+import com.buession.springboot.boot.concurrent.InstrumentedThreadPoolExecutor;
+import com.buession.springboot.boot.concurrent.PrioritizedTask;
+import com.buession.springboot.boot.concurrent.SaturableForkJoinPool;
+import com.buession.springboot.boot.concurrent.SaturationPolicy;
+import com.buession.springboot.boot.utils.VirtualThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 根据 {@link ThreadPoolProperties} 创建线程池及其组件，默认线程池和命名线程池共用
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+final class ExecutorServiceFactory {
+
+	private final static int DEFAULT_PRIORITY_QUEUE_CAPACITY = 11;
+
+	private final static Logger logger = LoggerFactory.getLogger(ExecutorServiceFactory.class);
+
+	private ExecutorServiceFactory() {
+
+	}
+
+	/**
+	 * 根据配置创建线程池
+	 *
+	 * @param properties
+	 * 		线程池配置
+	 * @param taskDecorator
+	 * 		任务装饰器，可为 null
+	 *
+	 * @return 线程池
+	 */
+	static ExecutorService create(final ThreadPoolProperties properties, final TaskDecorator taskDecorator) {
+		switch(ThreadPoolConfiguration.ExecutorType.resolve(properties.getMode(), properties.getType())){
+			case VIRTUAL:
+				return createVirtualThreadExecutor(properties, taskDecorator);
+			case FORK_JOIN:
+				return createForkJoinPool(properties, createForkJoinWorkerThreadFactory(properties), taskDecorator);
+			default:
+				return createThreadPoolExecutor(properties, createWorkQueue(properties),
+						createThreadFactory(properties), createRejectedHandler(properties), taskDecorator);
+		}
+	}
+
+	/**
+	 * 创建任务装饰器链，上下文传播位于最外层，其后依次为其它任务装饰器
+	 *
+	 * @param contextPropagators
+	 * 		线程上下文传播器
+	 * @param taskDecorators
+	 * 		任务装饰器
+	 *
+	 * @return 任务装饰器，没有任何线程上下文传播器和任务装饰器时返回 null
+	 */
+	static TaskDecorator createTaskDecorator(final Stream<? extends ContextPropagator<?>> contextPropagators,
+											 final Stream<? extends TaskDecorator> taskDecorators) {
+		final List<ContextPropagator<?>> propagators = contextPropagators.collect(Collectors.toList());
+		final List<TaskDecorator> decorators = new ArrayList<>();
+
+		if(propagators.isEmpty() == false){
+			decorators.add(new ContextPropagatingTaskDecorator(propagators));
+		}
+
+		taskDecorators.forEach(decorators::add);
+
+		return CompositeTaskDecorator.of(decorators);
+	}
+
+	/**
+	 * 根据配置返回线程池类型
+	 *
+	 * @param properties
+	 * 		线程池配置
+	 *
+	 * @return 线程池类型
+	 */
+	static Class<? extends ExecutorService> determineType(final ThreadPoolProperties properties) {
+		switch(ThreadPoolConfiguration.ExecutorType.resolve(properties.getMode(), properties.getType())){
+			case VIRTUAL:
+				return ExecutorService.class;
+			case FORK_JOIN:
+				return SaturableForkJoinPool.class;
+			default:
+				return InstrumentedThreadPoolExecutor.class;
+		}
+	}
+
+	static BlockingQueue<Runnable> createWorkQueue(final ThreadPoolProperties properties) {
+		final ThreadPoolProperties.Queue queue = properties.getQueue();
+
+		if(queue == null){
+			return new LinkedBlockingDeque<>();
+		}
+
+		final ThreadPoolProperties.Queue.Type type = Optional.ofNullable(queue.getType())
+				.orElse(ThreadPoolProperties.Queue.Type.LINKED);
+
+		switch(type){
+			case ARRAY:
+				if(queue.getCapacity() == null){
+					throw new BeanInitializationException(
+							"The capacity of the thread pool work queue must be set, when queue type is ARRAY.");
+				}
+				return new ArrayBlockingQueue<>(queue.getCapacity(), queue.isFair());
+			case SYNCHRONOUS:
+				return new SynchronousQueue<>(queue.isFair());
+			case LINKED_TRANSFER:
+				if(queue.getCapacity() != null){
+					throw new BeanInitializationException(
+							"The capacity of the thread pool work queue could not be set, when queue type is LINKED_TRANSFER, it is always unbounded.");
+				}
+				return new LinkedTransferQueue<>();
+			case PRIORITY:
+				if(queue.getCapacity() != null){
+					throw new BeanInitializationException(
+							"The capacity of the thread pool work queue could not be set, when queue type is PRIORITY, it is always unbounded.");
+				}
+				return new PriorityBlockingQueue<>(DEFAULT_PRIORITY_QUEUE_CAPACITY, PrioritizedTask.COMPARATOR);
+			default:
+				return queue.getCapacity() == null ? new LinkedBlockingDeque<>() :
+						new LinkedBlockingDeque<>(queue.getCapacity());
+		}
+	}
+
+	static ThreadFactory createThreadFactory(final ThreadPoolProperties properties) {
+		final DefaultThreadFactory threadFactory = Validate.hasText(properties.getNamePrefix()) ?
+				new DefaultThreadFactory(properties.getNamePrefix()) : new DefaultThreadFactory();
+		final PropertyMapper propertyMapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+
+		propertyMapper.from(properties.getPriority()).to(threadFactory::setPriority);
+		propertyMapper.from(properties.getDaemon()).to(threadFactory::setDaemon);
+
+		return threadFactory;
+	}
+
+	static RejectedExecutionHandler createRejectedHandler(final ThreadPoolProperties properties) {
+		final ThreadPoolProperties.RejectedPolicy rejectedPolicy = Optional.ofNullable(properties.getRejectedPolicy())
+				.orElse(ThreadPoolProperties.RejectedPolicy.ABORT);
+
+		switch(rejectedPolicy){
+			case CALLER_RUNS:
+				return new ThreadPoolExecutor.CallerRunsPolicy();
+			case DISCARD:
+				return new ThreadPoolExecutor.DiscardPolicy();
+			case DISCARD_OLDEST:
+				return new ThreadPoolExecutor.DiscardOldestPolicy();
+			default:
+				return new ThreadPoolExecutor.AbortPolicy();
+		}
+	}
+
+	static ThreadPoolExecutor createThreadPoolExecutor(final ThreadPoolProperties properties,
+													   final BlockingQueue<Runnable> workQueue,
+													   final ThreadFactory threadFactory,
+													   final RejectedExecutionHandler rejectedHandler,
+													   final TaskDecorator taskDecorator) {
+		if(properties.getMode() == ThreadPoolProperties.Mode.VIRTUAL){
+			logger.warn("Virtual threads are not supported by current JVM {}, fallback to platform thread pool.",
+					System.getProperty("java.version"));
+		}
+
+		final com.buession.core.concurrent.ThreadPoolConfiguration threadPoolConfiguration =
+				new com.buession.core.concurrent.ThreadPoolConfiguration();
+		final PropertyMapper propertyMapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+
+		propertyMapper.from(properties.getNamePrefix()).to(threadPoolConfiguration::setNamePrefix);
+		propertyMapper.from(properties.getAllowCoreThreadTimeOut())
+				.to(threadPoolConfiguration::setAllowCoreThreadTimeOut);
+		propertyMapper.from(properties.getDaemon()).to(threadPoolConfiguration::setDaemon);
+		propertyMapper.from(properties.getPriority()).to(threadPoolConfiguration::setPriority);
+
+		threadPoolConfiguration.setCorePoolSize(Optional.ofNullable(properties.getCorePoolSize()).orElse(-1));
+		threadPoolConfiguration.setMaximumPoolSize(Optional.ofNullable(properties.getMaximumPoolSize()).orElse(-1));
+
+		if(properties.getKeepAliveTime() != null){
+			threadPoolConfiguration.setKeepAliveTime(properties.getKeepAliveTime().toMillis());
+			threadPoolConfiguration.setKeepAliveTimeTimeUnit(TimeUnit.MILLISECONDS);
+		}
+
+		propertyMapper.from(workQueue).to(threadPoolConfiguration::setWorkQueue);
+		propertyMapper.from(threadFactory).to(threadPoolConfiguration::setThreadFactory);
+		propertyMapper.from(rejectedHandler).to(threadPoolConfiguration::setRejectedHandler);
+
+		final InstrumentedThreadPoolExecutor threadPoolExecutor = new InstrumentedThreadPoolExecutor(
+				threadPoolConfiguration);
+
+		threadPoolExecutor.setTaskDecorator(taskDecorator);
+
+		return threadPoolExecutor;
+	}
+
+	static ForkJoinPool.ForkJoinWorkerThreadFactory createForkJoinWorkerThreadFactory(
+			final ThreadPoolProperties properties) {
+		final DefaultForkJoinWorkerThreadFactory threadFactory = new DefaultForkJoinWorkerThreadFactory(
+				properties.getNamePrefix());
+		final PropertyMapper propertyMapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+
+		propertyMapper.from(properties.getPriority()).to(threadFactory::setPriority);
+		propertyMapper.from(properties.getDaemon()).to(threadFactory::setDaemon);
+
+		return threadFactory;
+	}
+
+	static ForkJoinPool createForkJoinPool(final ThreadPoolProperties properties,
+										   final ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory,
+										   final TaskDecorator taskDecorator) {
+		if(properties.getMode() == ThreadPoolProperties.Mode.VIRTUAL){
+			logger.warn("Virtual threads are not supported by current JVM {}, fallback to fork join pool.",
+					System.getProperty("java.version"));
+		}
+
+		final ThreadPoolProperties.ForkJoin forkJoin = Optional.ofNullable(properties.getForkJoin())
+				.orElseGet(ThreadPoolProperties.ForkJoin::new);
+		final int parallelism = Optional.ofNullable(forkJoin.getParallelism())
+				.orElse(Runtime.getRuntime().availableProcessors());
+		final SaturationPolicy saturationPolicy = properties.getRejectedPolicy() == null ? null :
+				SaturationPolicy.valueOf(properties.getRejectedPolicy().name());
+
+		final SaturableForkJoinPool forkJoinPool = new SaturableForkJoinPool(parallelism, threadFactory,
+				(thread, e)->logger.error("Uncaught exception in thread {}: {}", thread.getName(), e.getMessage(), e),
+				forkJoin.isAsyncMode(), Optional.ofNullable(forkJoin.getMaximumQueuedSubmissions()).orElse(0),
+				saturationPolicy);
+
+		forkJoinPool.setTaskDecorator(taskDecorator);
+
+		return forkJoinPool;
+	}
+
+	static ExecutorService createVirtualThreadExecutor(final ThreadPoolProperties properties,
+													   final TaskDecorator taskDecorator) {
+		if(taskDecorator == null){
+			return VirtualThreadUtils.newThreadPerTaskExecutor(properties.getNamePrefix());
+		}
+
+		final ThreadFactory threadFactory = VirtualThreadUtils.createThreadFactory(properties.getNamePrefix());
+
+		// 每个任务一个线程，线程在提交任务的线程中创建，此时装饰任务即可捕获提交线程的上下文
+		return VirtualThreadUtils.newThreadPerTaskExecutor(
+				(runnable)->threadFactory.newThread(taskDecorator.decorate(runnable)));
+	}
+
+	static AdaptiveThreadPoolSizer createAdaptiveThreadPoolSizer(final ThreadPoolProperties properties,
+																 final ThreadPoolExecutor threadPoolExecutor) {
+		final ThreadPoolProperties.Adaptive adaptive = Optional.ofNullable(properties.getAdaptive())
+				.orElseGet(ThreadPoolProperties.Adaptive::new);
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final int minPoolSize = Optional.ofNullable(adaptive.getMinPoolSize())
+				.orElse(Optional.ofNullable(properties.getCorePoolSize()).orElse(processors));
+		final int maxPoolSize = Optional.ofNullable(adaptive.getMaxPoolSize())
+				.orElse(Optional.ofNullable(properties.getMaximumPoolSize()).orElse(Math.max(minPoolSize,
+						processors * 4)));
+
+		return new AdaptiveThreadPoolSizer(threadPoolExecutor, minPoolSize, maxPoolSize, adaptive.getInterval(),
+				adaptive.getTargetQueueWaitTime(), adaptive.getTargetUtilization(), adaptive.getMaxCpuUsage());
+	}
+
+	static ExecutorServiceLifecycle createLifecycle(final ThreadPoolProperties properties,
+													final ExecutorService executorService, final String name) {
+		final ThreadPoolProperties.Shutdown shutdown = Optional.ofNullable(properties.getShutdown())
+				.orElseGet(ThreadPoolProperties.Shutdown::new);
+		return new ExecutorServiceLifecycle(executorService, name, shutdown.getAwaitTermination(),
+				shutdown.isDrain());
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.autoconfigure;
+
+import com.buession.springboot.boot.startup.ModuleLazyInitializationBeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 按模块延迟初始化自动配置，spring.lazy-initialization.modules 指定延迟初始化的模块，
+ * 默认为 pac4j、captcha、velocity、mongodb；spring.lazy-initialization.enabled=false 时关闭
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = ModuleLazyInitializationBeanFactoryPostProcessor.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ModuleLazyInitializationConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public static ModuleLazyInitializationBeanFactoryPostProcessor moduleLazyInitializationBeanFactoryPostProcessor(
+			Environment environment) {
+		final List<String> modules = Binder.get(environment)
+				.bind(ModuleLazyInitializationBeanFactoryPostProcessor.PREFIX + ".modules",
+						Bindable.listOf(String.class))
+				.orElseGet(()->Arrays.asList(ModuleLazyInitializationBeanFactoryPostProcessor.DEFAULT_MODULES));
+
+		return new ModuleLazyInitializationBeanFactoryPostProcessor(modules);
+	}
+
+}
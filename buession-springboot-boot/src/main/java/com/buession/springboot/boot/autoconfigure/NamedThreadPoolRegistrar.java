@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.autoconfigure;
+
+import com.buession.springboot.boot.concurrent.AdaptiveThreadPoolSizer;
+import com.buession.springboot.boot.concurrent.ContextPropagator;
+import com.buession.springboot.boot.concurrent.ExecutorServiceLifecycle;
+import com.buession.springboot.boot.concurrent.ThreadPoolMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.AutowireCandidateQualifier;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.lang.NonNull;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Stream;
+
+/**
+ * 命名线程池注册器，为 spring.thread-pool.pools.&lt;name&gt;.* 的每个配置注册一个名称为 &lt;name&gt;ThreadPoolExecutor，
+ * 限定符为 &lt;name&gt; 的线程池 Bean，以及对应的生命周期、指标、自适应线程池大小调节器 Bean
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+class NamedThreadPoolRegistrar implements EnvironmentAware, BeanFactoryAware, ImportBeanDefinitionRegistrar {
+
+	private final static String METER_BINDER_CLASS_NAME = "io.micrometer.core.instrument.binder.MeterBinder";
+
+	private final static Bindable<Map<String, ThreadPoolProperties>> POOLS_BINDABLE = Bindable.mapOf(String.class,
+			ThreadPoolProperties.class);
+
+	private Environment environment;
+
+	private BeanFactory beanFactory;
+
+	private final static Logger logger = LoggerFactory.getLogger(NamedThreadPoolRegistrar.class);
+
+	@Override
+	public void setEnvironment(@NonNull Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setBeanFactory(@NonNull BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void registerBeanDefinitions(@NonNull AnnotationMetadata importingClassMetadata,
+										@NonNull BeanDefinitionRegistry registry) {
+		final Binder binder = Binder.get(environment);
+		final Map<String, ThreadPoolProperties> pools = binder.bind(ThreadPoolProperties.PREFIX + ".pools",
+				POOLS_BINDABLE).orElse(Collections.emptyMap());
+		final boolean metricsEnabled = binder.bind(ThreadPoolProperties.PREFIX + ".metrics.enabled", Boolean.class)
+				.orElse(true) && ClassUtils.isPresent(METER_BINDER_CLASS_NAME, getClass().getClassLoader());
+
+		pools.forEach((name, properties)->{
+			if(properties.getNamePrefix() == null){
+				properties.setNamePrefix(name + '-');
+			}
+
+			final String beanName = name + "ThreadPoolExecutor";
+
+			registerExecutor(registry, beanName, name, properties);
+			registerLifecycle(registry, beanName, name, properties);
+
+			if(metricsEnabled){
+				registerMetrics(registry, beanName, name);
+			}
+
+			if(properties.getAdaptive() != null && properties.getAdaptive().isEnabled() &&
+					ThreadPoolExecutor.class.isAssignableFrom(ExecutorServiceFactory.determineType(properties))){
+				registerAdaptiveThreadPoolSizer(registry, beanName, name, properties);
+			}
+
+			if(logger.isDebugEnabled()){
+				logger.debug("Registered thread pool '{}' as bean '{}'.", name, beanName);
+			}
+		});
+	}
+
+	private void registerExecutor(final BeanDefinitionRegistry registry, final String beanName, final String name,
+								  final ThreadPoolProperties properties) {
+		final AbstractBeanDefinition beanDefinition = BeanDefinitionBuilder.genericBeanDefinition(ExecutorService.class,
+				()->ExecutorServiceFactory.create(properties, createTaskDecorator())).setDestroyMethodName("shutdown")
+				.getBeanDefinition();
+
+		beanDefinition.setTargetType(ExecutorServiceFactory.determineType(properties));
+		beanDefinition.addQualifier(new AutowireCandidateQualifier(Qualifier.class, name));
+
+		registry.registerBeanDefinition(beanName, beanDefinition);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private TaskDecorator createTaskDecorator() {
+		final Stream<ContextPropagator<?>> contextPropagators = (Stream) beanFactory.getBeanProvider(
+				ContextPropagator.class).orderedStream();
+		return ExecutorServiceFactory.createTaskDecorator(contextPropagators,
+				beanFactory.getBeanProvider(TaskDecorator.class).orderedStream());
+	}
+
+	private void registerLifecycle(final BeanDefinitionRegistry registry, final String executorBeanName,
+								   final String name, final ThreadPoolProperties properties) {
+		final BeanDefinition beanDefinition = BeanDefinitionBuilder.genericBeanDefinition(
+						ExecutorServiceLifecycle.class, ()->ExecutorServiceFactory.createLifecycle(properties,
+								beanFactory.getBean(executorBeanName, ExecutorService.class), name))
+				.addDependsOn(executorBeanName).getBeanDefinition();
+
+		registry.registerBeanDefinition(name + "ThreadPoolLifecycle", beanDefinition);
+	}
+
+	private void registerMetrics(final BeanDefinitionRegistry registry, final String executorBeanName,
+								 final String name) {
+		final BeanDefinition beanDefinition = BeanDefinitionBuilder.genericBeanDefinition(ThreadPoolMetrics.class,
+						()->new ThreadPoolMetrics(beanFactory.getBean(executorBeanName, ExecutorService.class), name))
+				.addDependsOn(executorBeanName).getBeanDefinition();
+
+		registry.registerBeanDefinition(name + "ThreadPoolMetrics", beanDefinition);
+	}
+
+	private void registerAdaptiveThreadPoolSizer(final BeanDefinitionRegistry registry, final String executorBeanName,
+												 final String name, final ThreadPoolProperties properties) {
+		final BeanDefinition beanDefinition = BeanDefinitionBuilder.genericBeanDefinition(AdaptiveThreadPoolSizer.class,
+						()->ExecutorServiceFactory.createAdaptiveThreadPoolSizer(properties,
+								beanFactory.getBean(executorBeanName, ThreadPoolExecutor.class)))
+				.addDependsOn(executorBeanName).setInitMethodName("start").setDestroyMethodName("stop")
+				.getBeanDefinition();
+
+		registry.registerBeanDefinition(name + "ThreadPoolAdaptiveSizer", beanDefinition);
+	}
+
+}
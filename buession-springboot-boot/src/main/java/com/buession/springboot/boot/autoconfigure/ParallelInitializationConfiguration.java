@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.autoconfigure;
+
+import com.buession.springboot.boot.startup.ParallelInitializationPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 并行初始化自动配置，spring.parallel-initialization.enabled=true 时开启
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = ParallelInitializationPostProcessor.PREFIX, name = "enabled", havingValue = "true")
+public class ParallelInitializationConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public static ParallelInitializationPostProcessor parallelInitializationPostProcessor(Environment environment) {
+		final String prefix = ParallelInitializationPostProcessor.PREFIX;
+		final int parallelism = environment.getProperty(prefix + ".parallelism", Integer.class,
+				Runtime.getRuntime().availableProcessors() * 2);
+		final Duration timeout = environment.getProperty(prefix + ".timeout", Duration.class,
+				ParallelInitializationPostProcessor.DEFAULT_TIMEOUT);
+
+		return new ParallelInitializationPostProcessor(parallelism, timeout);
+	}
+
+}
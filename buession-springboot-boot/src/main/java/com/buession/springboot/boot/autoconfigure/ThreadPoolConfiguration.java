@@ -24,25 +24,42 @@
  */
 package com.buession.springboot.boot.autoconfigure;
 
-import com.buession.core.concurrent.DefaultThreadFactory;
-import com.buession.core.concurrent.DefaultThreadPoolExecutor;
-import com.buession.core.converter.mapper.PropertyMapper;
-import com.buession.core.validator.Validate;
+import com.buession.springboot.boot.autoconfigure.condition.PropertyBindingCache;
+import com.buession.springboot.boot.concurrent.AdaptiveThreadPoolSizer;
+import com.buession.springboot.boot.concurrent.ContextPropagator;
+import com.buession.springboot.boot.concurrent.ExecutorServiceLifecycle;
+import com.buession.springboot.boot.concurrent.Log4jThreadContextPropagator;
+import com.buession.springboot.boot.concurrent.MdcContextPropagator;
+import com.buession.springboot.boot.concurrent.ThreadPoolMetrics;
+import com.buession.springboot.boot.utils.VirtualThreadUtils;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 
-import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 线程池自动配置
@@ -53,70 +70,299 @@ import java.util.concurrent.TimeUnit;
 @Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties(ThreadPoolProperties.class)
 @ConditionalOnProperty(prefix = ThreadPoolProperties.PREFIX, name = "enabled", havingValue = "true")
+@Import({NamedThreadPoolRegistrar.class})
 public class ThreadPoolConfiguration {
 
-	private final ThreadPoolProperties threadPoolProperties;
+	/**
+	 * 平台线程池自动配置
+	 *
+	 * @since 2.3.4
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@Conditional(OnThreadPoolExecutorCondition.class)
+	static class PlatformThreadPoolConfiguration {
+
+		private final ThreadPoolProperties threadPoolProperties;
+
+		public PlatformThreadPoolConfiguration(ThreadPoolProperties threadPoolProperties) {
+			this.threadPoolProperties = threadPoolProperties;
+		}
+
+		@Bean(name = "threadPoolWorkQueue")
+		@ConditionalOnMissingBean(name = "threadPoolWorkQueue")
+		public BlockingQueue<Runnable> workQueue() {
+			return ExecutorServiceFactory.createWorkQueue(threadPoolProperties);
+		}
+
+		@Bean(name = "threadPoolThreadFactory")
+		@ConditionalOnMissingBean(name = "threadPoolThreadFactory")
+		public ThreadFactory threadPoolFactory() {
+			return ExecutorServiceFactory.createThreadFactory(threadPoolProperties);
+		}
+
+		@Bean(name = "threadPoolRejectedHandler")
+		@ConditionalOnMissingBean(name = "threadPoolRejectedHandler")
+		public RejectedExecutionHandler rejectedHandler() {
+			return ExecutorServiceFactory.createRejectedHandler(threadPoolProperties);
+		}
+
+		@Bean(name = "threadPoolExecutor")
+		@Primary
+		@ConditionalOnMissingBean(name = "threadPoolExecutor")
+		public ThreadPoolExecutor threadPoolExecutor(
+				@Qualifier("threadPoolWorkQueue") ObjectProvider<BlockingQueue<Runnable>> workQueue,
+				@Qualifier("threadPoolThreadFactory") ObjectProvider<ThreadFactory> threadFactory,
+				@Qualifier("threadPoolRejectedHandler") ObjectProvider<RejectedExecutionHandler> rejectedHandler,
+				ObjectProvider<ContextPropagator<?>> contextPropagators,
+				ObjectProvider<TaskDecorator> taskDecorators) {
+			return ExecutorServiceFactory.createThreadPoolExecutor(threadPoolProperties, workQueue.getIfAvailable(),
+					threadFactory.getIfAvailable(), rejectedHandler.getIfAvailable(),
+					ExecutorServiceFactory.createTaskDecorator(contextPropagators.orderedStream(),
+							taskDecorators.orderedStream()));
+		}
+
+	}
+
+	/**
+	 * {@link ForkJoinPool} 自动配置
+	 *
+	 * @since 2.3.4
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@Conditional(OnForkJoinPoolCondition.class)
+	static class ForkJoinPoolConfiguration {
+
+		private final ThreadPoolProperties threadPoolProperties;
+
+		public ForkJoinPoolConfiguration(ThreadPoolProperties threadPoolProperties) {
+			this.threadPoolProperties = threadPoolProperties;
+		}
+
+		@Bean(name = "threadPoolForkJoinWorkerThreadFactory")
+		@ConditionalOnMissingBean(name = "threadPoolForkJoinWorkerThreadFactory")
+		public ForkJoinPool.ForkJoinWorkerThreadFactory forkJoinWorkerThreadFactory() {
+			return ExecutorServiceFactory.createForkJoinWorkerThreadFactory(threadPoolProperties);
+		}
+
+		@Bean(name = "threadPoolExecutor", destroyMethod = "shutdown")
+		@Primary
+		@ConditionalOnMissingBean(name = "threadPoolExecutor")
+		public ForkJoinPool threadPoolExecutor(
+				@Qualifier("threadPoolForkJoinWorkerThreadFactory") ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory,
+				ObjectProvider<ContextPropagator<?>> contextPropagators,
+				ObjectProvider<TaskDecorator> taskDecorators) {
+			return ExecutorServiceFactory.createForkJoinPool(threadPoolProperties, threadFactory,
+					ExecutorServiceFactory.createTaskDecorator(contextPropagators.orderedStream(),
+							taskDecorators.orderedStream()));
+		}
 
-	public ThreadPoolConfiguration(ThreadPoolProperties threadPoolProperties) {
-		this.threadPoolProperties = threadPoolProperties;
 	}
 
-	@Bean(name = "threadPoolWorkQueue")
-	@ConditionalOnMissingBean(name = "threadPoolWorkQueue")
-	public BlockingQueue<Runnable> workQueue() {
-		return new LinkedBlockingDeque<>();
+	/**
+	 * 虚拟线程自动配置，每个任务一个虚拟线程
+	 *
+	 * @since 2.3.4
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@Conditional(OnVirtualThreadCondition.class)
+	static class VirtualThreadPoolConfiguration {
+
+		private final ThreadPoolProperties threadPoolProperties;
+
+		public VirtualThreadPoolConfiguration(ThreadPoolProperties threadPoolProperties) {
+			this.threadPoolProperties = threadPoolProperties;
+		}
+
+		@Bean(name = "threadPoolExecutor", destroyMethod = "shutdown")
+		@Primary
+		@ConditionalOnMissingBean(name = "threadPoolExecutor")
+		public ExecutorService threadPoolExecutor(ObjectProvider<ContextPropagator<?>> contextPropagators,
+												  ObjectProvider<TaskDecorator> taskDecorators) {
+			return ExecutorServiceFactory.createVirtualThreadExecutor(threadPoolProperties,
+					ExecutorServiceFactory.createTaskDecorator(contextPropagators.orderedStream(),
+							taskDecorators.orderedStream()));
+		}
+
 	}
 
-	@Bean(name = "threadPoolThreadFactory")
-	@ConditionalOnMissingBean(name = "threadPoolThreadFactory")
-	public ThreadFactory threadPoolFactory() {
-		final DefaultThreadFactory threadFactory = Validate.hasText(
-				threadPoolProperties.getNamePrefix()) ? new DefaultThreadFactory(
-				threadPoolProperties.getNamePrefix()) : new DefaultThreadFactory();
-		final PropertyMapper propertyMapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+	/**
+	 * 线程池生命周期自动配置，应用关闭时优雅关闭线程池
+	 *
+	 * @since 2.3.4
+	 */
+	@Configuration(proxyBeanMethods = false)
+	static class ThreadPoolLifecycleConfiguration {
 
-		propertyMapper.from(threadPoolProperties.getPriority()).to(threadFactory::setPriority);
-		propertyMapper.from(threadPoolProperties.getDaemon()).to(threadFactory::setDaemon);
+		private final ThreadPoolProperties threadPoolProperties;
+
+		public ThreadPoolLifecycleConfiguration(ThreadPoolProperties threadPoolProperties) {
+			this.threadPoolProperties = threadPoolProperties;
+		}
+
+		@Bean(name = "threadPoolLifecycle")
+		@ConditionalOnMissingBean(name = "threadPoolLifecycle")
+		public ExecutorServiceLifecycle threadPoolLifecycle(
+				@Qualifier("threadPoolExecutor") ExecutorService executorService) {
+			return ExecutorServiceFactory.createLifecycle(threadPoolProperties, executorService,
+					"threadPoolExecutor");
+		}
 
-		return threadFactory;
 	}
 
-	@Bean(name = "threadPoolRejectedHandler")
-	@ConditionalOnMissingBean(name = "threadPoolRejectedHandler")
-	public RejectedExecutionHandler rejectedHandler() {
-		return new ThreadPoolExecutor.AbortPolicy();
+	/**
+	 * 线程上下文传播自动配置，将提交线程的日志上下文传播到执行任务的线程
+	 *
+	 * @since 2.3.4
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = ThreadPoolProperties.PREFIX, name = "context-propagation.enabled",
+			havingValue = "true", matchIfMissing = true)
+	static class ContextPropagationConfiguration {
+
+		@Bean(name = "threadPoolLogContextPropagator")
+		@ConditionalOnClass(name = "org.apache.logging.slf4j.Log4jMDCAdapter")
+		@ConditionalOnMissingBean(name = "threadPoolLogContextPropagator")
+		public Log4jThreadContextPropagator log4jThreadContextPropagator() {
+			return new Log4jThreadContextPropagator();
+		}
+
+		@Bean(name = "threadPoolLogContextPropagator")
+		@ConditionalOnMissingClass("org.apache.logging.slf4j.Log4jMDCAdapter")
+		@ConditionalOnMissingBean(name = "threadPoolLogContextPropagator")
+		public MdcContextPropagator mdcContextPropagator() {
+			return new MdcContextPropagator();
+		}
+
 	}
 
-	@Bean(name = "threadPoolExecutor")
-	@ConditionalOnMissingBean(name = "threadPoolExecutor")
-	public ThreadPoolExecutor threadPoolExecutor(
-			@Qualifier("threadPoolWorkQueue") ObjectProvider<BlockingQueue<Runnable>> workQueue,
-			@Qualifier("threadPoolThreadFactory") ObjectProvider<ThreadFactory> threadFactory,
-			@Qualifier("threadPoolRejectedHandler") ObjectProvider<RejectedExecutionHandler> rejectedHandler) {
-		final com.buession.core.concurrent.ThreadPoolConfiguration threadPoolConfiguration =
-				new com.buession.core.concurrent.ThreadPoolConfiguration();
-		final PropertyMapper propertyMapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
-
-		propertyMapper.from(threadPoolProperties.getNamePrefix()).to(threadPoolConfiguration::setNamePrefix);
-		propertyMapper.from(threadPoolProperties.getAllowCoreThreadTimeOut())
-				.to(threadPoolConfiguration::setAllowCoreThreadTimeOut);
-		propertyMapper.from(threadPoolProperties.getDaemon()).to(threadPoolConfiguration::setDaemon);
-		propertyMapper.from(threadPoolProperties.getPriority()).to(threadPoolConfiguration::setPriority);
-
-		threadPoolConfiguration.setCorePoolSize(Optional.ofNullable(threadPoolProperties.getCorePoolSize()).orElse(-1));
-		threadPoolConfiguration.setMaximumPoolSize(
-				Optional.ofNullable(threadPoolProperties.getMaximumPoolSize()).orElse(-1));
-
-		if(threadPoolProperties.getKeepAliveTime() != null){
-			threadPoolConfiguration.setKeepAliveTime(threadPoolProperties.getKeepAliveTime().toMillis());
-			threadPoolConfiguration.setKeepAliveTimeTimeUnit(TimeUnit.MILLISECONDS);
-		}
-		
-		workQueue.ifAvailable(threadPoolConfiguration::setWorkQueue);
-		threadFactory.ifAvailable(threadPoolConfiguration::setThreadFactory);
-		rejectedHandler.ifAvailable(threadPoolConfiguration::setRejectedHandler);
-
-		return new DefaultThreadPoolExecutor(threadPoolConfiguration);
+	/**
+	 * 自适应线程池大小自动配置
+	 *
+	 * @since 2.3.4
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@Conditional(OnThreadPoolExecutorCondition.class)
+	@ConditionalOnProperty(prefix = ThreadPoolProperties.PREFIX, name = "adaptive.enabled", havingValue = "true")
+	static class AdaptiveThreadPoolConfiguration {
+
+		private final ThreadPoolProperties threadPoolProperties;
+
+		public AdaptiveThreadPoolConfiguration(ThreadPoolProperties threadPoolProperties) {
+			this.threadPoolProperties = threadPoolProperties;
+		}
+
+		@Bean(name = "threadPoolAdaptiveSizer", initMethod = "start", destroyMethod = "stop")
+		@ConditionalOnMissingBean(name = "threadPoolAdaptiveSizer")
+		public AdaptiveThreadPoolSizer threadPoolAdaptiveSizer(
+				@Qualifier("threadPoolExecutor") ThreadPoolExecutor threadPoolExecutor) {
+			return ExecutorServiceFactory.createAdaptiveThreadPoolSizer(threadPoolProperties, threadPoolExecutor);
+		}
+
+	}
+
+	/**
+	 * 线程池指标自动配置
+	 *
+	 * @since 2.3.4
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	@ConditionalOnProperty(prefix = ThreadPoolProperties.PREFIX, name = "metrics.enabled", havingValue = "true",
+			matchIfMissing = true)
+	static class ThreadPoolMetricsConfiguration {
+
+		@Bean(name = "threadPoolMetrics")
+		@ConditionalOnMissingBean(name = "threadPoolMetrics")
+		public ThreadPoolMetrics threadPoolMetrics(@Qualifier("threadPoolExecutor") ExecutorService executorService) {
+			return new ThreadPoolMetrics(executorService, "threadPoolExecutor");
+		}
+
+	}
+
+	/**
+	 * 线程池实现类型条件
+	 */
+	abstract static class OnExecutorTypeCondition extends SpringBootCondition {
+
+		private final ExecutorType executorType;
+
+		OnExecutorTypeCondition(final ExecutorType executorType) {
+			this.executorType = executorType;
+		}
+
+		@Override
+		public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			final ConditionMessage.Builder message = ConditionMessage.forCondition("Thread Pool Type");
+			final ExecutorType actual = ExecutorType.resolve(context.getEnvironment());
+
+			return actual == executorType ? ConditionOutcome.match(message.foundExactly(actual)) :
+					ConditionOutcome.noMatch(message.because("executor type is " + actual));
+		}
+
+	}
+
+	/**
+	 * 使用 {@link ThreadPoolExecutor} 时匹配
+	 */
+	static class OnThreadPoolExecutorCondition extends OnExecutorTypeCondition {
+
+		OnThreadPoolExecutorCondition() {
+			super(ExecutorType.THREAD_POOL);
+		}
+
+	}
+
+	/**
+	 * 使用 {@link ForkJoinPool} 时匹配
+	 */
+	static class OnForkJoinPoolCondition extends OnExecutorTypeCondition {
+
+		OnForkJoinPoolCondition() {
+			super(ExecutorType.FORK_JOIN);
+		}
+
+	}
+
+	/**
+	 * 配置了 spring.thread-pool.mode=virtual，且当前 JVM 支持虚拟线程时匹配
+	 */
+	static class OnVirtualThreadCondition extends OnExecutorTypeCondition {
+
+		OnVirtualThreadCondition() {
+			super(ExecutorType.VIRTUAL);
+		}
+
+	}
+
+	/**
+	 * 实际使用的线程池实现类型
+	 */
+	enum ExecutorType {
+
+		THREAD_POOL,
+
+		FORK_JOIN,
+
+		VIRTUAL;
+
+		static ExecutorType resolve(final Environment environment) {
+			final ThreadPoolProperties.Mode mode = PropertyBindingCache.bind(environment,
+					ThreadPoolProperties.PREFIX + ".mode", Bindable.of(ThreadPoolProperties.Mode.class));
+			final ThreadPoolProperties.Type type = PropertyBindingCache.bind(environment,
+					ThreadPoolProperties.PREFIX + ".type", Bindable.of(ThreadPoolProperties.Type.class));
+
+			return resolve(mode == null ? ThreadPoolProperties.Mode.PLATFORM : mode,
+					type == null ? ThreadPoolProperties.Type.THREAD_POOL : type);
+		}
+
+		static ExecutorType resolve(final ThreadPoolProperties.Mode mode, final ThreadPoolProperties.Type type) {
+			if(mode == ThreadPoolProperties.Mode.VIRTUAL && VirtualThreadUtils.isSupported()){
+				return VIRTUAL;
+			}
+
+			return type == ThreadPoolProperties.Type.FORK_JOIN ? FORK_JOIN : THREAD_POOL;
+		}
+
 	}
 
 }
@@ -27,6 +27,8 @@ package com.buession.springboot.boot.autoconfigure;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * 线程池配置
@@ -39,6 +41,20 @@ public class ThreadPoolProperties {
 
 	public final static String PREFIX = "spring.thread-pool";
 
+	/**
+	 * 线程模式
+	 *
+	 * @since 2.3.4
+	 */
+	private Mode mode = Mode.PLATFORM;
+
+	/**
+	 * 线程池类型
+	 *
+	 * @since 2.3.4
+	 */
+	private Type type = Type.THREAD_POOL;
+
 	/**
 	 * 线程名称前缀
 	 */
@@ -74,6 +90,108 @@ public class ThreadPoolProperties {
 	 */
 	private Integer priority;
 
+	/**
+	 * 工作队列配置
+	 *
+	 * @since 2.3.4
+	 */
+	private Queue queue = new Queue();
+
+	/**
+	 * 拒绝策略，当线程池和工作队列都已饱和时，对新提交任务的处理策略
+	 *
+	 * @since 2.3.4
+	 */
+	private RejectedPolicy rejectedPolicy = RejectedPolicy.ABORT;
+
+	/**
+	 * 自适应线程池大小配置
+	 *
+	 * @since 2.3.4
+	 */
+	private Adaptive adaptive = new Adaptive();
+
+	/**
+	 * {@link java.util.concurrent.ForkJoinPool} 配置，线程池类型为 {@link Type#FORK_JOIN} 时有效
+	 *
+	 * @since 2.3.4
+	 */
+	private ForkJoin forkJoin = new ForkJoin();
+
+	/**
+	 * 优雅关闭配置
+	 *
+	 * @since 2.3.4
+	 */
+	private Shutdown shutdown = new Shutdown();
+
+	/**
+	 * 线程池指标配置；对默认线程池和全部命名线程池生效
+	 *
+	 * @since 2.3.4
+	 */
+	private Metrics metrics = new Metrics();
+
+	/**
+	 * 线程上下文传播配置；对默认线程池和全部命名线程池生效
+	 *
+	 * @since 2.3.4
+	 */
+	private ContextPropagation contextPropagation = new ContextPropagation();
+
+	/**
+	 * 命名线程池配置，Key 为线程池名称；每个命名线程池拥有独立的线程、工作队列、拒绝策略和指标，用于隔离不同的业务
+	 *
+	 * @since 2.3.4
+	 */
+	private Map<String, ThreadPoolProperties> pools = new LinkedHashMap<>();
+
+	/**
+	 * 返回线程模式
+	 *
+	 * @return 线程模式
+	 *
+	 * @since 2.3.4
+	 */
+	public Mode getMode() {
+		return mode;
+	}
+
+	/**
+	 * 设置线程模式；为 {@link Mode#VIRTUAL} 时，当前 JVM 不支持虚拟线程，将回退为平台线程池
+	 *
+	 * @param mode
+	 * 		线程模式
+	 *
+	 * @since 2.3.4
+	 */
+	public void setMode(Mode mode) {
+		this.mode = mode;
+	}
+
+	/**
+	 * 返回线程池类型
+	 *
+	 * @return 线程池类型
+	 *
+	 * @since 2.3.4
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * 设置线程池类型；线程模式为 {@link Mode#VIRTUAL}，且当前 JVM 支持虚拟线程时，忽略该配置
+	 *
+	 * @param type
+	 * 		线程池类型
+	 *
+	 * @since 2.3.4
+	 */
+	public void setType(Type type) {
+		this.type = type;
+	}
+
 	/**
 	 * 返回线程名称前缀
 	 *
@@ -221,4 +339,794 @@ public class ThreadPoolProperties {
 		this.priority = priority;
 	}
 
+	/**
+	 * 返回工作队列配置
+	 *
+	 * @return 工作队列配置
+	 *
+	 * @since 2.3.4
+	 */
+	public Queue getQueue() {
+		return queue;
+	}
+
+	/**
+	 * 设置工作队列配置
+	 *
+	 * @param queue
+	 * 		工作队列配置
+	 *
+	 * @since 2.3.4
+	 */
+	public void setQueue(Queue queue) {
+		this.queue = queue;
+	}
+
+	/**
+	 * 返回拒绝策略
+	 *
+	 * @return 拒绝策略
+	 *
+	 * @since 2.3.4
+	 */
+	public RejectedPolicy getRejectedPolicy() {
+		return rejectedPolicy;
+	}
+
+	/**
+	 * 设置拒绝策略
+	 *
+	 * @param rejectedPolicy
+	 * 		拒绝策略
+	 *
+	 * @since 2.3.4
+	 */
+	public void setRejectedPolicy(RejectedPolicy rejectedPolicy) {
+		this.rejectedPolicy = rejectedPolicy;
+	}
+
+	/**
+	 * 返回自适应线程池大小配置
+	 *
+	 * @return 自适应线程池大小配置
+	 *
+	 * @since 2.3.4
+	 */
+	public Adaptive getAdaptive() {
+		return adaptive;
+	}
+
+	/**
+	 * 设置自适应线程池大小配置
+	 *
+	 * @param adaptive
+	 * 		自适应线程池大小配置
+	 *
+	 * @since 2.3.4
+	 */
+	public void setAdaptive(Adaptive adaptive) {
+		this.adaptive = adaptive;
+	}
+
+	/**
+	 * 返回 {@link java.util.concurrent.ForkJoinPool} 配置
+	 *
+	 * @return {@link java.util.concurrent.ForkJoinPool} 配置
+	 *
+	 * @since 2.3.4
+	 */
+	public ForkJoin getForkJoin() {
+		return forkJoin;
+	}
+
+	/**
+	 * 设置 {@link java.util.concurrent.ForkJoinPool} 配置
+	 *
+	 * @param forkJoin
+	 *        {@link java.util.concurrent.ForkJoinPool} 配置
+	 *
+	 * @since 2.3.4
+	 */
+	public void setForkJoin(ForkJoin forkJoin) {
+		this.forkJoin = forkJoin;
+	}
+
+	/**
+	 * 返回优雅关闭配置
+	 *
+	 * @return 优雅关闭配置
+	 *
+	 * @since 2.3.4
+	 */
+	public Shutdown getShutdown() {
+		return shutdown;
+	}
+
+	/**
+	 * 设置优雅关闭配置
+	 *
+	 * @param shutdown
+	 * 		优雅关闭配置
+	 *
+	 * @since 2.3.4
+	 */
+	public void setShutdown(Shutdown shutdown) {
+		this.shutdown = shutdown;
+	}
+
+	/**
+	 * 返回线程池指标配置
+	 *
+	 * @return 线程池指标配置
+	 *
+	 * @since 2.3.4
+	 */
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * 设置线程池指标配置
+	 *
+	 * @param metrics
+	 * 		线程池指标配置
+	 *
+	 * @since 2.3.4
+	 */
+	public void setMetrics(Metrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * 返回线程上下文传播配置
+	 *
+	 * @return 线程上下文传播配置
+	 *
+	 * @since 2.3.4
+	 */
+	public ContextPropagation getContextPropagation() {
+		return contextPropagation;
+	}
+
+	/**
+	 * 设置线程上下文传播配置
+	 *
+	 * @param contextPropagation
+	 * 		线程上下文传播配置
+	 *
+	 * @since 2.3.4
+	 */
+	public void setContextPropagation(ContextPropagation contextPropagation) {
+		this.contextPropagation = contextPropagation;
+	}
+
+	/**
+	 * 返回命名线程池配置
+	 *
+	 * @return 命名线程池配置
+	 *
+	 * @since 2.3.4
+	 */
+	public Map<String, ThreadPoolProperties> getPools() {
+		return pools;
+	}
+
+	/**
+	 * 设置命名线程池配置；命名线程池的配置相互独立，不继承默认线程池的配置，且不支持嵌套的 pools 配置
+	 *
+	 * @param pools
+	 * 		命名线程池配置
+	 *
+	 * @since 2.3.4
+	 */
+	public void setPools(Map<String, ThreadPoolProperties> pools) {
+		this.pools = pools;
+	}
+
+	/**
+	 * 线程模式
+	 *
+	 * @author Yong.Teng
+	 * @since 2.3.4
+	 */
+	public enum Mode {
+
+		/**
+		 * 平台线程，使用 {@link java.util.concurrent.ThreadPoolExecutor} 线程池
+		 */
+		PLATFORM,
+
+		/**
+		 * 虚拟线程，每个任务一个虚拟线程，需要 JDK 21+；优先级、后台运行、核心线程大小等线程池配置将被忽略
+		 */
+		VIRTUAL
+
+	}
+
+	/**
+	 * 线程池类型
+	 *
+	 * @author Yong.Teng
+	 * @since 2.3.4
+	 */
+	public enum Type {
+
+		/**
+		 * {@link java.util.concurrent.ThreadPoolExecutor}，所有线程共享一个工作队列，适用于 I/O 密集型任务
+		 */
+		THREAD_POOL,
+
+		/**
+		 * {@link java.util.concurrent.ForkJoinPool}，每个工作线程一个双端队列，空闲线程从其它线程窃取任务，
+		 * 适用于 CPU 密集型任务
+		 */
+		FORK_JOIN
+
+	}
+
+	/**
+	 * 工作队列配置
+	 *
+	 * @author Yong.Teng
+	 * @since 2.3.4
+	 */
+	public final static class Queue {
+
+		/**
+		 * 工作队列类型
+		 */
+		private Type type = Type.LINKED;
+
+		/**
+		 * 工作队列容量，为空时 {@link Type#LINKED} 为无界队列；{@link Type#LINKED_TRANSFER}、{@link Type#PRIORITY} 不可设置
+		 */
+		private Integer capacity;
+
+		/**
+		 * 是否公平访问，仅对 {@link Type#ARRAY}、{@link Type#SYNCHRONOUS} 有效
+		 */
+		private boolean fair;
+
+		/**
+		 * 返回工作队列类型
+		 *
+		 * @return 工作队列类型
+		 */
+		public Type getType() {
+			return type;
+		}
+
+		/**
+		 * 设置工作队列类型
+		 *
+		 * @param type
+		 * 		工作队列类型
+		 */
+		public void setType(Type type) {
+			this.type = type;
+		}
+
+		/**
+		 * 返回工作队列容量
+		 *
+		 * @return 工作队列容量
+		 */
+		public Integer getCapacity() {
+			return capacity;
+		}
+
+		/**
+		 * 设置工作队列容量
+		 * <p>{@link Type#LINKED}、{@link Type#ARRAY} 为队列最大容量；{@link Type#SYNCHRONOUS} 忽略该值；
+		 * {@link Type#LINKED_TRANSFER}、{@link Type#PRIORITY} 始终为无界队列，设置该值时创建线程池将失败。</p>
+		 *
+		 * @param capacity
+		 * 		工作队列容量
+		 */
+		public void setCapacity(Integer capacity) {
+			this.capacity = capacity;
+		}
+
+		/**
+		 * 返回是否公平访问
+		 *
+		 * @return 是否公平访问
+		 */
+		public boolean isFair() {
+			return getFair();
+		}
+
+		/**
+		 * 返回是否公平访问
+		 *
+		 * @return 是否公平访问
+		 */
+		public boolean getFair() {
+			return fair;
+		}
+
+		/**
+		 * 设置是否公平访问
+		 *
+		 * @param fair
+		 * 		是否公平访问
+		 */
+		public void setFair(boolean fair) {
+			this.fair = fair;
+		}
+
+		/**
+		 * 工作队列类型
+		 *
+		 * @author Yong.Teng
+		 * @since 2.3.4
+		 */
+		public enum Type {
+
+			/**
+			 * {@link java.util.concurrent.LinkedBlockingDeque}，未设置容量时为无界队列
+			 */
+			LINKED,
+
+			/**
+			 * {@link java.util.concurrent.ArrayBlockingQueue}，有界队列，必须设置容量
+			 */
+			ARRAY,
+
+			/**
+			 * {@link java.util.concurrent.SynchronousQueue}，不缓存任务，直接移交给线程执行
+			 */
+			SYNCHRONOUS,
+
+			/**
+			 * {@link java.util.concurrent.LinkedTransferQueue}，无界队列，不可设置容量
+			 */
+			LINKED_TRANSFER,
+
+			/**
+			 * {@link java.util.concurrent.PriorityBlockingQueue}，无界优先级队列，按任务实现的
+			 * {@link com.buession.springboot.boot.concurrent.PrioritizedTask} 优先级从高到低执行，不可设置容量
+			 */
+			PRIORITY
+
+		}
+
+	}
+
+	/**
+	 * 自适应线程池大小配置，根据观测到的吞吐量、任务执行时长、排队时长和 CPU 使用率，在运行时调整核心线程数
+	 *
+	 * @author Yong.Teng
+	 * @since 2.3.4
+	 */
+	public final static class Adaptive {
+
+		/**
+		 * 是否启用自适应线程池大小
+		 */
+		private boolean enabled;
+
+		/**
+		 * 最小线程数，为空时使用 corePoolSize，corePoolSize 也为空时使用 CPU 核数
+		 */
+		private Integer minPoolSize;
+
+		/**
+		 * 最大线程数，为空时使用 maximumPoolSize，maximumPoolSize 也为空时使用 CPU 核数的 4 倍
+		 */
+		private Integer maxPoolSize;
+
+		/**
+		 * 调节周期
+		 */
+		private Duration interval = Duration.ofSeconds(10);
+
+		/**
+		 * 目标排队时长，平均排队时长超过该值时增加线程
+		 */
+		private Duration targetQueueWaitTime = Duration.ofMillis(50);
+
+		/**
+		 * 目标线程利用率，取值 (0, 1]
+		 */
+		private double targetUtilization = 0.8;
+
+		/**
+		 * 进程 CPU 使用率上限，取值 (0, 1]，超过该值后不再增加线程
+		 */
+		private double maxCpuUsage = 0.9;
+
+		/**
+		 * 返回是否启用自适应线程池大小
+		 *
+		 * @return 是否启用自适应线程池大小
+		 */
+		public boolean isEnabled() {
+			return getEnabled();
+		}
+
+		/**
+		 * 返回是否启用自适应线程池大小
+		 *
+		 * @return 是否启用自适应线程池大小
+		 */
+		public boolean getEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * 设置是否启用自适应线程池大小
+		 *
+		 * @param enabled
+		 * 		是否启用自适应线程池大小
+		 */
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * 返回最小线程数
+		 *
+		 * @return 最小线程数
+		 */
+		public Integer getMinPoolSize() {
+			return minPoolSize;
+		}
+
+		/**
+		 * 设置最小线程数
+		 *
+		 * @param minPoolSize
+		 * 		最小线程数
+		 */
+		public void setMinPoolSize(Integer minPoolSize) {
+			this.minPoolSize = minPoolSize;
+		}
+
+		/**
+		 * 返回最大线程数
+		 *
+		 * @return 最大线程数
+		 */
+		public Integer getMaxPoolSize() {
+			return maxPoolSize;
+		}
+
+		/**
+		 * 设置最大线程数
+		 *
+		 * @param maxPoolSize
+		 * 		最大线程数
+		 */
+		public void setMaxPoolSize(Integer maxPoolSize) {
+			this.maxPoolSize = maxPoolSize;
+		}
+
+		/**
+		 * 返回调节周期
+		 *
+		 * @return 调节周期
+		 */
+		public Duration getInterval() {
+			return interval;
+		}
+
+		/**
+		 * 设置调节周期
+		 *
+		 * @param interval
+		 * 		调节周期
+		 */
+		public void setInterval(Duration interval) {
+			this.interval = interval;
+		}
+
+		/**
+		 * 返回目标排队时长
+		 *
+		 * @return 目标排队时长
+		 */
+		public Duration getTargetQueueWaitTime() {
+			return targetQueueWaitTime;
+		}
+
+		/**
+		 * 设置目标排队时长
+		 *
+		 * @param targetQueueWaitTime
+		 * 		目标排队时长
+		 */
+		public void setTargetQueueWaitTime(Duration targetQueueWaitTime) {
+			this.targetQueueWaitTime = targetQueueWaitTime;
+		}
+
+		/**
+		 * 返回目标线程利用率
+		 *
+		 * @return 目标线程利用率
+		 */
+		public double getTargetUtilization() {
+			return targetUtilization;
+		}
+
+		/**
+		 * 设置目标线程利用率
+		 *
+		 * @param targetUtilization
+		 * 		目标线程利用率，取值 (0, 1]
+		 */
+		public void setTargetUtilization(double targetUtilization) {
+			this.targetUtilization = targetUtilization;
+		}
+
+		/**
+		 * 返回进程 CPU 使用率上限
+		 *
+		 * @return 进程 CPU 使用率上限
+		 */
+		public double getMaxCpuUsage() {
+			return maxCpuUsage;
+		}
+
+		/**
+		 * 设置进程 CPU 使用率上限
+		 *
+		 * @param maxCpuUsage
+		 * 		进程 CPU 使用率上限，取值 (0, 1]
+		 */
+		public void setMaxCpuUsage(double maxCpuUsage) {
+			this.maxCpuUsage = maxCpuUsage;
+		}
+
+	}
+
+	/**
+	 * {@link java.util.concurrent.ForkJoinPool} 配置；线程名称前缀、是否后台运行、优先级使用线程池的配置，
+	 * 饱和策略使用线程池的拒绝策略
+	 *
+	 * @author Yong.Teng
+	 * @since 2.3.4
+	 */
+	public final static class ForkJoin {
+
+		/**
+		 * 并行度，为空时使用 CPU 核数
+		 */
+		private Integer parallelism;
+
+		/**
+		 * 是否异步模式，为 true 时工作线程本地队列按 FIFO 处理从未 join 的任务，适用于事件类任务
+		 */
+		private boolean asyncMode;
+
+		/**
+		 * 等待执行的外部提交任务数上限，超过该值时按拒绝策略处理新提交的任务；为空时不限制
+		 */
+		private Integer maximumQueuedSubmissions;
+
+		/**
+		 * 返回并行度
+		 *
+		 * @return 并行度
+		 */
+		public Integer getParallelism() {
+			return parallelism;
+		}
+
+		/**
+		 * 设置并行度
+		 *
+		 * @param parallelism
+		 * 		并行度
+		 */
+		public void setParallelism(Integer parallelism) {
+			this.parallelism = parallelism;
+		}
+
+		/**
+		 * 返回是否异步模式
+		 *
+		 * @return 是否异步模式
+		 */
+		public boolean isAsyncMode() {
+			return getAsyncMode();
+		}
+
+		/**
+		 * 返回是否异步模式
+		 *
+		 * @return 是否异步模式
+		 */
+		public boolean getAsyncMode() {
+			return asyncMode;
+		}
+
+		/**
+		 * 设置是否异步模式
+		 *
+		 * @param asyncMode
+		 * 		是否异步模式
+		 */
+		public void setAsyncMode(boolean asyncMode) {
+			this.asyncMode = asyncMode;
+		}
+
+		/**
+		 * 返回等待执行的外部提交任务数上限
+		 *
+		 * @return 等待执行的外部提交任务数上限
+		 */
+		public Integer getMaximumQueuedSubmissions() {
+			return maximumQueuedSubmissions;
+		}
+
+		/**
+		 * 设置等待执行的外部提交任务数上限
+		 *
+		 * @param maximumQueuedSubmissions
+		 * 		等待执行的外部提交任务数上限
+		 */
+		public void setMaximumQueuedSubmissions(Integer maximumQueuedSubmissions) {
+			this.maximumQueuedSubmissions = maximumQueuedSubmissions;
+		}
+
+	}
+
+	/**
+	 * 优雅关闭配置；应用关闭时，线程池先停止接收新任务，再在等待时长内执行完已提交的任务，超时后中断仍在执行的任务，
+	 * 并报告被放弃的任务
+	 *
+	 * @author Yong.Teng
+	 * @since 2.3.4
+	 */
+	public final static class Shutdown {
+
+		/**
+		 * 等待已提交任务执行完成的最大时长，为 0 时不等待；应不大于 spring.lifecycle.timeout-per-shutdown-phase
+		 */
+		private Duration awaitTermination = Duration.ofSeconds(30);
+
+		/**
+		 * 是否执行工作队列中尚未开始的任务；为 false 时，关闭时直接放弃队列中的任务，只等待正在执行的任务
+		 */
+		private boolean drain = true;
+
+		/**
+		 * 返回等待已提交任务执行完成的最大时长
+		 *
+		 * @return 等待已提交任务执行完成的最大时长
+		 */
+		public Duration getAwaitTermination() {
+			return awaitTermination;
+		}
+
+		/**
+		 * 设置等待已提交任务执行完成的最大时长
+		 *
+		 * @param awaitTermination
+		 * 		等待已提交任务执行完成的最大时长
+		 */
+		public void setAwaitTermination(Duration awaitTermination) {
+			this.awaitTermination = awaitTermination;
+		}
+
+		/**
+		 * 返回是否执行工作队列中尚未开始的任务
+		 *
+		 * @return 是否执行工作队列中尚未开始的任务
+		 */
+		public boolean isDrain() {
+			return drain;
+		}
+
+		/**
+		 * 设置是否执行工作队列中尚未开始的任务
+		 *
+		 * @param drain
+		 * 		是否执行工作队列中尚未开始的任务
+		 */
+		public void setDrain(boolean drain) {
+			this.drain = drain;
+		}
+
+	}
+
+	/**
+	 * 线程池指标配置
+	 *
+	 * @author Yong.Teng
+	 * @since 2.3.4
+	 */
+	public final static class Metrics {
+
+		/**
+		 * 是否启用线程池指标，需要 Micrometer
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 返回是否启用线程池指标
+		 *
+		 * @return 是否启用线程池指标
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * 设置是否启用线程池指标
+		 *
+		 * @param enabled
+		 * 		是否启用线程池指标
+		 */
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * 线程上下文传播配置
+	 *
+	 * @author Yong.Teng
+	 * @since 2.3.4
+	 */
+	public final static class ContextPropagation {
+
+		/**
+		 * 是否启用提交线程日志上下文到执行线程的传播
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 返回是否启用线程上下文传播
+		 *
+		 * @return 是否启用线程上下文传播
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * 设置是否启用线程上下文传播
+		 *
+		 * @param enabled
+		 * 		是否启用线程上下文传播
+		 */
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * 拒绝策略
+	 *
+	 * @author Yong.Teng
+	 * @since 2.3.4
+	 */
+	public enum RejectedPolicy {
+
+		/**
+		 * 抛出 {@link java.util.concurrent.RejectedExecutionException} 异常
+		 */
+		ABORT,
+
+		/**
+		 * 由提交任务的线程执行该任务
+		 */
+		CALLER_RUNS,
+
+		/**
+		 * 直接丢弃该任务
+		 */
+		DISCARD,
+
+		/**
+		 * 丢弃工作队列中最早的任务，并重新提交该任务
+		 */
+		DISCARD_OLDEST
+
+	}
+
 }
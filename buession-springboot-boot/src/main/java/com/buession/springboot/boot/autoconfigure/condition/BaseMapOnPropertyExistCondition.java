@@ -30,6 +30,7 @@ import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 
 import java.util.Map;
@@ -65,13 +66,25 @@ public abstract class BaseMapOnPropertyExistCondition<V> extends BaseOnPropertyE
 	@Override
 	public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
 		final ConditionMessage.Builder message = ConditionMessage.forCondition(getCondition());
-		final Map<String, V> registrations = getRegistrations(context.getEnvironment());
 
-		if(registrations.isEmpty()){
+		if(isPropertyExists(context.getEnvironment()) == false){
 			return ConditionOutcome.noMatch(message.notAvailable(getItem()));
 		}
 
 		return ConditionOutcome.match(message.foundExactly(getItem()));
 	}
 
+	@Override
+	protected boolean isPropertyExists(final Environment environment) {
+		switch(PropertyBindingCache.getState(environment, getProperty())){
+			case PRESENT:
+				return true;
+			case ABSENT:
+				return false;
+			default:
+				final Map<String, V> registrations = getRegistrations(environment);
+				return registrations != null && registrations.isEmpty() == false;
+		}
+	}
+
 }
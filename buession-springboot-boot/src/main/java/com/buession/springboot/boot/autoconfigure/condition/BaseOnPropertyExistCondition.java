@@ -88,9 +88,8 @@ public abstract class BaseOnPropertyExistCondition<T> extends SpringBootConditio
 	@Override
 	public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
 		final ConditionMessage.Builder message = ConditionMessage.forCondition(condition);
-		final T registrations = getRegistrations(context.getEnvironment());
 
-		if(registrations == null){
+		if(isPropertyExists(context.getEnvironment()) == false){
 			return ConditionOutcome.noMatch(message.notAvailable(item));
 		}
 
@@ -113,12 +112,53 @@ public abstract class BaseOnPropertyExistCondition<T> extends SpringBootConditio
 		return condition;
 	}
 
+	/**
+	 * 绑定属性
+	 *
+	 * @param environment
+	 *        {@link Environment}
+	 *
+	 * @return 绑定结果，属性不存在时返回 null；{@link java.util.Map}、{@link java.util.Collection} 类型的结果在多个条件间共享，
+	 * 不可修改
+	 */
 	protected T getRegistrations(final Environment environment) {
 		return getRegistrations(environment, null);
 	}
 
+	/**
+	 * 绑定属性
+	 *
+	 * @param environment
+	 *        {@link Environment}
+	 * @param defaultValue
+	 * 		属性不存在时返回的默认值
+	 *
+	 * @return 绑定结果；{@link java.util.Map}、{@link java.util.Collection} 类型的结果在多个条件间共享，不可修改
+	 */
 	protected T getRegistrations(final Environment environment, final T defaultValue) {
-		return Binder.get(environment).bind(property, registration).orElse(defaultValue);
+		final T registrations = PropertyBindingCache.bind(environment, property, registration);
+		return registrations == null ? defaultValue : registrations;
+	}
+
+	/**
+	 * 检查属性是否存在；优先扫描属性源中的属性名称，无法确定时才绑定属性
+	 *
+	 * @param environment
+	 *        {@link Environment}
+	 *
+	 * @return 属性存在返回 true，否则返回 false
+	 *
+	 * @since 2.3.4
+	 */
+	protected boolean isPropertyExists(final Environment environment) {
+		switch(PropertyBindingCache.getState(environment, property)){
+			case PRESENT:
+				return true;
+			case ABSENT:
+				return false;
+			default:
+				return getRegistrations(environment) != null;
+		}
 	}
 
 }
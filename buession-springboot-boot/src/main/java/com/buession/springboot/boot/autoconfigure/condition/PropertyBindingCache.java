@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.autoconfigure.condition;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 以 {@link Environment} 为作用域的属性绑定缓存，供条件判断使用，避免在上下文刷新过程中重复绑定同一属性
+ * <p>缓存以属性名称和绑定类型为 Key；{@link Environment} 的属性源列表发生变化（增加、删除、替换）后，缓存自动失效，
+ * 命中时只比较属性源的引用，不读取属性源内容。可变属性源（如 {@link org.springframework.core.env.MapPropertySource}）
+ * 的内容变化不会被检测，需调用 {@link #invalidate(Environment)} 使缓存失效；{@link PropertyBindingCacheInvalidator}
+ * 在每次上下文刷新开始前和刷新完成后各失效一次。</p>
+ * <p>只缓存可以安全共享的绑定结果：简单类型直接缓存；{@link Map}、{@link Collection} 缓存其不可修改视图；
+ * 其它类型（如 JavaBean）不缓存，每次重新绑定。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public final class PropertyBindingCache {
+
+	private final static Map<Environment, Entry> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final static Object NULL = new Object();
+
+	private PropertyBindingCache() {
+
+	}
+
+	/**
+	 * 绑定属性，同一 {@link Environment} 中相同属性名称和类型的绑定结果会被缓存
+	 *
+	 * @param environment
+	 *        {@link Environment}
+	 * @param property
+	 * 		属性名称
+	 * @param bindable
+	 * 		绑定目标，包含已有值时不使用缓存
+	 * @param <T>
+	 * 		绑定类型
+	 *
+	 * @return 绑定结果，属性不存在时返回 null；{@link Map}、{@link Collection} 类型的结果不可修改
+	 */
+	@SuppressWarnings({"unchecked"})
+	public static <T> T bind(final Environment environment, final String property, final Bindable<T> bindable) {
+		final Entry entry = getEntry(environment);
+
+		if(bindable.getValue() != null || isCacheable(bindable.getType()) == false){
+			return entry.binder.bind(property, bindable).orElse(null);
+		}
+
+		final Object result = entry.results.computeIfAbsent(new Key(property, bindable.getType()),
+				(key)->entry.binder.bind(property, bindable).map(PropertyBindingCache::unmodifiable).orElse(NULL));
+
+		return result == NULL ? null : (T) result;
+	}
+
+	/**
+	 * 检查属性或以其为前缀的属性是否存在，只扫描属性源中的属性名称，不绑定对象
+	 *
+	 * @param environment
+	 *        {@link Environment}
+	 * @param prefix
+	 * 		属性名称或前缀
+	 *
+	 * @return {@link ConfigurationPropertyState#PRESENT} 存在；{@link ConfigurationPropertyState#ABSENT} 不存在；
+	 * 存在无法枚举属性名称的属性源，且其它属性源中不存在时，返回 {@link ConfigurationPropertyState#UNKNOWN}
+	 */
+	public static ConfigurationPropertyState getState(final Environment environment, final String prefix) {
+		final Entry entry = getEntry(environment);
+		final ConfigurationPropertyName name = ConfigurationPropertyName.of(prefix);
+		boolean unknown = false;
+
+		for(ConfigurationPropertySource source : entry.sources){
+			final ConfigurationProperty configurationProperty = source.getConfigurationProperty(name);
+
+			if(configurationProperty != null){
+				return ConfigurationPropertyState.PRESENT;
+			}
+
+			final ConfigurationPropertyState state = source.containsDescendantOf(name);
+
+			if(state == ConfigurationPropertyState.PRESENT){
+				return ConfigurationPropertyState.PRESENT;
+			}else if(state == ConfigurationPropertyState.UNKNOWN){
+				unknown = true;
+			}
+		}
+
+		return unknown ? ConfigurationPropertyState.UNKNOWN : ConfigurationPropertyState.ABSENT;
+	}
+
+	/**
+	 * 使 {@link Environment} 的绑定缓存失效
+	 *
+	 * @param environment
+	 *        {@link Environment}
+	 */
+	public static void invalidate(final Environment environment) {
+		CACHE.remove(environment);
+	}
+
+	private static boolean isCacheable(final ResolvableType type) {
+		final Class<?> clazz = type.resolve(Object.class);
+
+		return BeanUtils.isSimpleValueType(clazz) || Map.class.isAssignableFrom(clazz) ||
+				Collection.class.isAssignableFrom(clazz);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Object unmodifiable(final Object value) {
+		if(value instanceof Map){
+			return Collections.unmodifiableMap((Map) value);
+		}else if(value instanceof List){
+			return Collections.unmodifiableList((List) value);
+		}else if(value instanceof Set){
+			return Collections.unmodifiableSet((Set) value);
+		}else if(value instanceof Collection){
+			return Collections.unmodifiableCollection((Collection) value);
+		}else{
+			return value;
+		}
+	}
+
+	private static Entry getEntry(final Environment environment) {
+		Entry entry = CACHE.get(environment);
+
+		if(entry == null || entry.isStale(environment)){
+			entry = new Entry(environment);
+			CACHE.put(environment, entry);
+		}
+
+		return entry;
+	}
+
+	private final static class Entry {
+
+		private final List<PropertySource<?>> propertySources = new ArrayList<>();
+
+		private final Iterable<ConfigurationPropertySource> sources;
+
+		private final Binder binder;
+
+		private final Map<Key, Object> results = new ConcurrentHashMap<>();
+
+		Entry(final Environment environment) {
+			((ConfigurableEnvironment) environment).getPropertySources().forEach(propertySources::add);
+			this.sources = ConfigurationPropertySources.get(environment);
+			this.binder = Binder.get(environment);
+		}
+
+		boolean isStale(final Environment environment) {
+			int i = 0;
+
+			for(PropertySource<?> propertySource : ((ConfigurableEnvironment) environment).getPropertySources()){
+				if(i >= propertySources.size() || propertySources.get(i) != propertySource){
+					return true;
+				}
+
+				i++;
+			}
+
+			return i != propertySources.size();
+		}
+
+	}
+
+	private final static class Key {
+
+		private final String property;
+
+		private final ResolvableType type;
+
+		Key(final String property, final ResolvableType type) {
+			this.property = property;
+			this.type = type;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(this == o){
+				return true;
+			}
+
+			if(o instanceof Key){
+				final Key that = (Key) o;
+				return Objects.equals(property, that.property) && Objects.equals(type, that.type);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(property, type);
+		}
+
+	}
+
+}
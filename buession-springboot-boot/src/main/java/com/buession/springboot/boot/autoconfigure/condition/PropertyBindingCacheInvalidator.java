@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.autoconfigure.condition;
+
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+
+/**
+ * 在上下文刷新开始前（{@link ApplicationPreparedEvent}）和刷新完成后（{@link ContextRefreshedEvent}）
+ * 使 {@link PropertyBindingCache} 失效，使刷新过程中的条件判断能看到环境准备阶段对可变属性源的修改，
+ * 刷新完成后的绑定也不会读取到刷新过程中缓存的旧值
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class PropertyBindingCacheInvalidator implements SmartApplicationListener {
+
+	@Override
+	public boolean supportsEventType(@NonNull Class<? extends ApplicationEvent> eventType) {
+		return ApplicationPreparedEvent.class.isAssignableFrom(eventType) ||
+				ContextRefreshedEvent.class.isAssignableFrom(eventType);
+	}
+
+	@Override
+	public void onApplicationEvent(@NonNull ApplicationEvent event) {
+		if(event instanceof ApplicationPreparedEvent){
+			PropertyBindingCache.invalidate(((ApplicationPreparedEvent) event).getApplicationContext().getEnvironment());
+		}else if(event instanceof ContextRefreshedEvent){
+			PropertyBindingCache.invalidate(((ContextRefreshedEvent) event).getApplicationContext().getEnvironment());
+		}
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+}
@@ -36,18 +36,41 @@ import org.springframework.boot.Banner;
 import org.springframework.boot.SpringBootVersion;
 import org.springframework.core.SpringVersion;
 import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Formatter;
 import java.util.Properties;
+import java.util.function.Supplier;
 
 /**
+ * Banner 基类，输出标题及运行环境信息；
+ * 环境信息的收集方式通过 {@value #ENVIRONMENT_INFO_MODE_PROPERTY} 配置，参见 {@link EnvironmentInfoMode}
+ *
  * @author Yong.Teng
  */
 public abstract class AbstractBanner implements Banner {
 
+	/**
+	 * 环境信息收集方式配置项，取值参见 {@link EnvironmentInfoMode}
+	 *
+	 * @since 2.3.4
+	 */
+	public final static String ENVIRONMENT_INFO_MODE_PROPERTY = "spring.banner.environment-info-mode";
+
+	/**
+	 * 构建时生成的构建信息文件，可由 spring-boot-maven-plugin 的 build-info 目标生成，
+	 * 框架版本通过 additionalProperties 写入，如：buession-framework.version、buession-springboot.version、
+	 * spring.version、spring-boot.version
+	 *
+	 * @since 2.3.4
+	 */
+	public final static String BUILD_INFO_LOCATION = "META-INF/build-info.properties";
+
 	private final static String ANSI_CYAN = "\u001B[36m";
 
 	private final static String ANSI_RESET = "\u001B[0m";
@@ -61,19 +84,21 @@ public abstract class AbstractBanner implements Banner {
 
 	@Override
 	public void printBanner(Environment environment, Class<?> sourceClass, PrintStream out) {
-		String additional = collectEnvironmentInfo(environment, sourceClass);
+		final EnvironmentInfoMode mode = environment.getProperty(ENVIRONMENT_INFO_MODE_PROPERTY,
+				EnvironmentInfoMode.class, EnvironmentInfoMode.SYNC);
 
-		try{
-			out.println(ANSI_CYAN);
-			out.println(getTitle());
+		if(mode == EnvironmentInfoMode.ASYNC){
+			printBanner(out, getTitle(), null);
 
-			if(StringUtils.isNotBlank(additional)){
-				out.println(additional);
-			}
+			final Thread thread = new Thread(()->printBanner(out, null,
+					collectEnvironmentInfo(environment, sourceClass, null)), "banner-environment-info");
 
-			out.println(ANSI_RESET);
-		}catch(Exception e){
-			throw new RuntimeException(e);
+			thread.setDaemon(true);
+			thread.start();
+		}else{
+			final Properties buildInfo = mode == EnvironmentInfoMode.BUILD_INFO ? loadBuildInfo(sourceClass) : null;
+
+			printBanner(out, getTitle(), collectEnvironmentInfo(environment, sourceClass, buildInfo));
 		}
 	}
 
@@ -96,19 +121,40 @@ public abstract class AbstractBanner implements Banner {
 		return clazz == null ? null : VersionUtils.determineClassVersion(clazz);
 	}
 
-	private String collectEnvironmentInfo(final Environment environment, final Class<?> sourceClass) {
+	private static void printBanner(final PrintStream out, final String title, final String additional) {
+		try{
+			synchronized(out){
+				out.println(ANSI_CYAN);
+
+				if(title != null){
+					out.println(title);
+				}
+
+				if(StringUtils.isNotBlank(additional)){
+					out.println(additional);
+				}
+
+				out.println(ANSI_RESET);
+			}
+		}catch(Exception e){
+			throw new RuntimeException(e);
+		}
+	}
+
+	private String collectEnvironmentInfo(final Environment environment, final Class<?> sourceClass,
+										  final Properties buildInfo) {
 		Properties properties = System.getProperties();
 		Throwable throwable = null;
 
 		Formatter formatter = new Formatter();
 
 		formatter.format("%n");
-		formatter.format("Project Version: %s%n", getVersion());
+		formatter.format("Project Version: %s%n", resolve(buildInfo, "build.version", this::getVersion));
 		formatter.format("%s%n", LINE_SEPARATOR);
 
 		try{
 			if(properties.containsKey(BANNER_SKIP_PROPERTY_NAME) == false){
-				collectEnvironmentInfo(properties, formatter);
+				collectEnvironmentInfo(properties, buildInfo, formatter);
 				injectEnvironmentInfoIntoBanner(formatter, environment, sourceClass);
 			}
 
@@ -121,13 +167,18 @@ public abstract class AbstractBanner implements Banner {
 		}
 	}
 
-	private void collectEnvironmentInfo(final Properties properties, final Formatter formatter) {
-		formatter.format("Buession Framework Version: %s%n", BuessionFrameworkVersion.getVersion());
-		formatter.format("Buession Spring Boot Version: %s%n", BuessionBootVersion.getVersion());
+	private void collectEnvironmentInfo(final Properties properties, final Properties buildInfo,
+										final Formatter formatter) {
+		formatter.format("Buession Framework Version: %s%n",
+				resolve(buildInfo, "build.buession-framework.version", BuessionFrameworkVersion::getVersion));
+		formatter.format("Buession Spring Boot Version: %s%n",
+				resolve(buildInfo, "build.buession-springboot.version", BuessionBootVersion::getVersion));
 		formatter.format("%s%n", LINE_SEPARATOR);
 
-		formatter.format("Spring Framework Version: %s%n", SpringVersion.getVersion());
-		formatter.format("Spring Boot Framework Version: %s%n", SpringBootVersion.getVersion());
+		formatter.format("Spring Framework Version: %s%n",
+				resolve(buildInfo, "build.spring.version", SpringVersion::getVersion));
+		formatter.format("Spring Boot Framework Version: %s%n",
+				resolve(buildInfo, "build.spring-boot.version", SpringBootVersion::getVersion));
 		formatter.format("%s%n", LINE_SEPARATOR);
 
 		formatter.format("OS Architecture: %s%n", properties.get("os.arch"));
@@ -154,6 +205,34 @@ public abstract class AbstractBanner implements Banner {
 												   final Class<?> sourceClass) {
 	}
 
+	private static String resolve(final Properties buildInfo, final String key, final Supplier<String> resolver) {
+		final String value = buildInfo == null ? null : buildInfo.getProperty(key);
+		return value == null ? resolver.get() : value;
+	}
+
+	private static Properties loadBuildInfo(final Class<?> sourceClass) {
+		final ClassLoader classLoader = sourceClass == null ? ClassUtils.getDefaultClassLoader() :
+				sourceClass.getClassLoader();
+
+		if(classLoader == null){
+			return null;
+		}
+
+		try(InputStream inputStream = classLoader.getResourceAsStream(BUILD_INFO_LOCATION)){
+			if(inputStream == null){
+				return null;
+			}
+
+			final Properties buildInfo = new Properties();
+
+			buildInfo.load(inputStream);
+
+			return buildInfo;
+		}catch(IOException e){
+			return null;
+		}
+	}
+
 	private static void closeFormatter(Formatter formatter, Throwable throwable) {
 		try{
 			formatter.close();
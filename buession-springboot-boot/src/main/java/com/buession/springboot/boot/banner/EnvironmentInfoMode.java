@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * =================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										|
+ * | Author: Yong.Teng <webmaster@buession.com> 													|
+ * | Copyright @ 2013-2023 Buession.com Inc.														|
+ * +------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.banner;
+
+/**
+ * Banner 环境信息的收集方式
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public enum EnvironmentInfoMode {
+
+	/**
+	 * 在启动线程中同步收集并随 Banner 一起输出
+	 */
+	SYNC,
+
+	/**
+	 * 启动线程仅输出 Banner 标题，环境信息由后台守护线程收集后输出，不阻塞启动；
+	 * 仅适用于 {@link org.springframework.boot.Banner.Mode#CONSOLE}，输出可能与启动日志交错
+	 */
+	ASYNC,
+
+	/**
+	 * 版本信息读取自构建时生成的 META-INF/build-info.properties，缺失的项在运行时解析；
+	 * JCE 等依赖运行时 JVM 的信息仍在运行时获取
+	 */
+	BUILD_INFO
+
+}
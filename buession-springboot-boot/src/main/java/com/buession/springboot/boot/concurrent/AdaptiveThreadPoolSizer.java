@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import com.buession.core.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 线程池大小自适应调节器，按固定周期根据观测到的吞吐量、任务执行时长、排队时长和进程 CPU 使用率，
+ * 在 [minPoolSize, maxPoolSize] 范围内调整线程池的核心线程数
+ * <p>每个周期：</p>
+ * <ol>
+ *     <li>由 Little 定律计算平均忙碌线程数 L = λ × W，目标线程数 = L / targetUtilization；</li>
+ *     <li>平均排队时长超过 targetQueueWaitTime 时，目标线程数至少增加当前线程数的 1/4；</li>
+ *     <li>进程 CPU 使用率超过 maxCpuUsage 时，不再增加线程；</li>
+ *     <li>每次只向目标线程数移动一半的距离，避免震荡。</li>
+ * </ol>
+ * <p>线程池为 {@link InstrumentedThreadPoolExecutor} 时，使用精确的任务执行时长和排队时长；否则使用活跃线程数和
+ * 队列长度 / 吞吐量估算。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class AdaptiveThreadPoolSizer implements TaskExecutionListener, Runnable {
+
+	private final ThreadPoolExecutor executor;
+
+	private final int minPoolSize;
+
+	private final int maxPoolSize;
+
+	private final Duration interval;
+
+	private final long targetQueueWaitTime;
+
+	private final double targetUtilization;
+
+	private final double maxCpuUsage;
+
+	private final LongAdder waitTime = new LongAdder();
+
+	private final LongAdder executionTime = new LongAdder();
+
+	private final LongAdder executedCount = new LongAdder();
+
+	private final OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+
+	private ScheduledExecutorService scheduler;
+
+	private long lastSampleTime;
+
+	private long lastCompletedTaskCount;
+
+	private final static Logger logger = LoggerFactory.getLogger(AdaptiveThreadPoolSizer.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param executor
+	 * 		需要调节的线程池
+	 * @param minPoolSize
+	 * 		最小线程数
+	 * @param maxPoolSize
+	 * 		最大线程数
+	 * @param interval
+	 * 		调节周期
+	 * @param targetQueueWaitTime
+	 * 		目标排队时长
+	 * @param targetUtilization
+	 * 		目标线程利用率，取值 (0, 1]
+	 * @param maxCpuUsage
+	 * 		进程 CPU 使用率上限，取值 (0, 1]，超过该值后不再增加线程
+	 */
+	public AdaptiveThreadPoolSizer(final ThreadPoolExecutor executor, final int minPoolSize, final int maxPoolSize,
+								   final Duration interval, final Duration targetQueueWaitTime,
+								   final double targetUtilization, final double maxCpuUsage) {
+		Assert.isNull(executor, "ThreadPoolExecutor cloud not be null.");
+		Assert.isTrue(minPoolSize < 1 || maxPoolSize < minPoolSize,
+				"Adaptive pool size should be: 1 <= minPoolSize <= maxPoolSize.");
+		Assert.isTrue(targetUtilization <= 0 || targetUtilization > 1,
+				"Target utilization should be in range (0, 1].");
+		this.executor = executor;
+		this.minPoolSize = minPoolSize;
+		this.maxPoolSize = maxPoolSize;
+		this.interval = interval;
+		this.targetQueueWaitTime = targetQueueWaitTime.toNanos();
+		this.targetUtilization = targetUtilization;
+		this.maxCpuUsage = maxCpuUsage;
+	}
+
+	/**
+	 * 开始周期性调节线程池大小
+	 */
+	public synchronized void start() {
+		if(scheduler != null){
+			return;
+		}
+
+		if(executor.getMaximumPoolSize() < maxPoolSize){
+			executor.setMaximumPoolSize(maxPoolSize);
+		}
+		executor.setCorePoolSize(clamp(executor.getCorePoolSize()));
+		executor.setMaximumPoolSize(maxPoolSize);
+
+		if(executor instanceof InstrumentedThreadPoolExecutor){
+			((InstrumentedThreadPoolExecutor) executor).addTaskExecutionListener(this);
+		}
+
+		lastSampleTime = System.nanoTime();
+		lastCompletedTaskCount = executor.getCompletedTaskCount();
+
+		scheduler = Executors.newSingleThreadScheduledExecutor((r)->{
+			final Thread thread = new Thread(r, "adaptive-thread-pool-sizer");
+
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 停止调节线程池大小
+	 */
+	public synchronized void stop() {
+		if(scheduler == null){
+			return;
+		}
+
+		scheduler.shutdownNow();
+		scheduler = null;
+
+		if(executor instanceof InstrumentedThreadPoolExecutor){
+			((InstrumentedThreadPoolExecutor) executor).removeTaskExecutionListener(this);
+		}
+	}
+
+	@Override
+	public void onExecuted(long waitTime, long executionTime) {
+		this.waitTime.add(waitTime);
+		this.executionTime.add(executionTime);
+		this.executedCount.increment();
+	}
+
+	@Override
+	public void run() {
+		try{
+			adjust();
+		}catch(Exception e){
+			logger.error("Adjust thread pool size failure: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 采样并调节一次线程池大小
+	 */
+	protected void adjust() {
+		final long now = System.nanoTime();
+		final long elapsed = Math.max(1L, now - lastSampleTime);
+		final long completedTaskCount = executor.getCompletedTaskCount();
+		final long completed = completedTaskCount - lastCompletedTaskCount;
+		final boolean instrumented = executor instanceof InstrumentedThreadPoolExecutor;
+		final long executed = executedCount.sumThenReset();
+		final long totalWaitTime = waitTime.sumThenReset();
+		final long totalExecutionTime = executionTime.sumThenReset();
+		final int queueSize = executor.getQueue().size();
+		final int current = executor.getCorePoolSize();
+
+		lastSampleTime = now;
+		lastCompletedTaskCount = completedTaskCount;
+
+		// 吞吐量：任务数 / 纳秒
+		final double throughput = (double) completed / elapsed;
+		// Little 定律：平均忙碌线程数 L = λ × W，即周期内任务执行总时长 / 周期时长
+		final double busy = instrumented ? (double) totalExecutionTime / elapsed : executor.getActiveCount();
+		final double queueWait;
+
+		if(instrumented){
+			queueWait = executed == 0 ? 0 : (double) totalWaitTime / executed;
+		}else{
+			queueWait = queueSize == 0 ? 0 : (throughput > 0 ? queueSize / throughput : Double.MAX_VALUE);
+		}
+
+		int target = (int) Math.ceil(busy / targetUtilization);
+
+		if(queueWait > targetQueueWaitTime && queueSize > 0){
+			target = Math.max(target, current + Math.max(1, current / 4));
+		}
+
+		final double cpuUsage = getProcessCpuUsage();
+		if(cpuUsage > maxCpuUsage){
+			target = Math.min(target, current);
+		}
+
+		target = clamp(target);
+
+		if(target != current){
+			int diff = (target - current) / 2;
+			final int size = clamp(current + (diff == 0 ? Integer.signum(target - current) : diff));
+
+			executor.setCorePoolSize(size);
+
+			if(logger.isDebugEnabled()){
+				logger.debug("Adjust thread pool core size {} -> {} (throughput: {}/s, busy: {}, queue wait: {}ms, " +
+								"cpu: {}).", current, size, String.format("%.2f", throughput * 1_000_000_000D),
+						String.format("%.2f", busy), String.format("%.2f", queueWait / 1_000_000D),
+						String.format("%.2f", cpuUsage));
+			}
+		}
+	}
+
+	private int clamp(final int size) {
+		return Math.max(minPoolSize, Math.min(maxPoolSize, size));
+	}
+
+	private double getProcessCpuUsage() {
+		if(operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean){
+			return ((com.sun.management.OperatingSystemMXBean) operatingSystemMXBean).getProcessCpuLoad();
+		}
+
+		return -1;
+	}
+
+}
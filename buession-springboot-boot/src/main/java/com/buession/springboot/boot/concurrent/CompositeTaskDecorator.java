@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import com.buession.core.utils.Assert;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+
+/**
+ * 组合任务装饰器，按顺序应用多个 {@link TaskDecorator}，排在前面的装饰器位于最外层，最先开始、最后结束
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class CompositeTaskDecorator implements TaskDecorator {
+
+	private final TaskDecorator[] decorators;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param decorators
+	 * 		任务装饰器
+	 */
+	public CompositeTaskDecorator(final Collection<? extends TaskDecorator> decorators) {
+		Assert.isNull(decorators, "TaskDecorators cloud not be null.");
+		this.decorators = decorators.toArray(new TaskDecorator[0]);
+	}
+
+	/**
+	 * 组合任务装饰器
+	 *
+	 * @param decorators
+	 * 		任务装饰器
+	 *
+	 * @return 没有任务装饰器时返回 null；只有一个时直接返回该装饰器；否则返回 {@link CompositeTaskDecorator}
+	 */
+	public static TaskDecorator of(final Collection<? extends TaskDecorator> decorators) {
+		if(decorators == null || decorators.isEmpty()){
+			return null;
+		}else if(decorators.size() == 1){
+			return decorators.iterator().next();
+		}else{
+			return new CompositeTaskDecorator(decorators);
+		}
+	}
+
+	@NonNull
+	@Override
+	public Runnable decorate(@NonNull Runnable runnable) {
+		Runnable result = runnable;
+
+		for(int i = decorators.length - 1; i >= 0; i--){
+			result = decorators[i].decorate(result);
+		}
+
+		return result;
+	}
+
+}
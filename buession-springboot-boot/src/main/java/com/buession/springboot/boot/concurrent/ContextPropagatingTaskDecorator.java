@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import com.buession.core.utils.Assert;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+
+/**
+ * 上下文传播任务装饰器，提交任务时通过 {@link ContextPropagator} 捕获提交线程的上下文，执行任务时恢复
+ * <p>所有 {@link ContextPropagator} 均没有捕获到上下文时，直接返回原任务；只有一个捕获到上下文时，只创建一个包装任务，
+ * 执行时不分配对象；多个捕获到上下文时，每次提交和执行各创建一个数组。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+	private final ContextPropagator<Object>[] propagators;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param propagators
+	 * 		线程上下文传播器
+	 */
+	@SuppressWarnings({"unchecked"})
+	public ContextPropagatingTaskDecorator(final Collection<? extends ContextPropagator<?>> propagators) {
+		Assert.isNull(propagators, "ContextPropagators cloud not be null.");
+		this.propagators = propagators.toArray(new ContextPropagator[0]);
+	}
+
+	@NonNull
+	@Override
+	public Runnable decorate(@NonNull Runnable runnable) {
+		final ContextPropagator<Object>[] propagators = this.propagators;
+		Object[] snapshot = null;
+		Object first = null;
+		int firstIndex = -1;
+
+		for(int i = 0; i < propagators.length; i++){
+			final Object context = propagators[i].capture();
+
+			if(context == null){
+				continue;
+			}
+
+			if(firstIndex == -1){
+				first = context;
+				firstIndex = i;
+			}else{
+				if(snapshot == null){
+					snapshot = new Object[propagators.length];
+					snapshot[firstIndex] = first;
+				}
+
+				snapshot[i] = context;
+			}
+		}
+
+		if(firstIndex == -1){
+			return runnable;
+		}else if(snapshot == null){
+			return new SingleContextAwareTask(runnable, propagators[firstIndex], first);
+		}else{
+			return new ContextAwareTask(runnable, propagators, snapshot);
+		}
+	}
+
+	/**
+	 * 只有一个上下文的任务包装，执行时不分配对象
+	 */
+	private final static class SingleContextAwareTask implements Runnable, PrioritizedTask {
+
+		private final Runnable task;
+
+		private final ContextPropagator<Object> propagator;
+
+		private final Object context;
+
+		SingleContextAwareTask(final Runnable task, final ContextPropagator<Object> propagator,
+							   final Object context) {
+			this.task = task;
+			this.propagator = propagator;
+			this.context = context;
+		}
+
+		@Override
+		public void run() {
+			final Object previous = propagator.restore(context);
+
+			try{
+				task.run();
+			}finally{
+				propagator.reset(previous);
+			}
+		}
+
+		@Override
+		public int getPriority() {
+			return PrioritizedTask.priorityOf(task);
+		}
+
+		@Override
+		public String toString() {
+			return task.toString();
+		}
+
+	}
+
+	private final static class ContextAwareTask implements Runnable, PrioritizedTask {
+
+		private final Runnable task;
+
+		private final ContextPropagator<Object>[] propagators;
+
+		private final Object[] snapshot;
+
+		ContextAwareTask(final Runnable task, final ContextPropagator<Object>[] propagators,
+						 final Object[] snapshot) {
+			this.task = task;
+			this.propagators = propagators;
+			this.snapshot = snapshot;
+		}
+
+		@Override
+		public void run() {
+			final Object[] previous = new Object[snapshot.length];
+			int restored = 0;
+
+			try{
+				for(; restored < snapshot.length; restored++){
+					if(snapshot[restored] != null){
+						previous[restored] = propagators[restored].restore(snapshot[restored]);
+					}
+				}
+
+				task.run();
+			}finally{
+				for(int i = restored - 1; i >= 0; i--){
+					if(snapshot[i] != null){
+						propagators[i].reset(previous[i]);
+					}
+				}
+			}
+		}
+
+		@Override
+		public int getPriority() {
+			return PrioritizedTask.priorityOf(task);
+		}
+
+		@Override
+		public String toString() {
+			return task.toString();
+		}
+
+	}
+
+}
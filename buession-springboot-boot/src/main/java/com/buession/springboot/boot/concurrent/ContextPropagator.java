@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+/**
+ * 线程上下文传播器，在提交任务的线程中捕获上下文，在执行任务的线程中恢复上下文，任务执行完成后还原执行线程原有的上下文
+ *
+ * @param <C>
+ * 		上下文类型
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public interface ContextPropagator<C> {
+
+	/**
+	 * 在提交任务的线程中捕获上下文，应直接返回上下文对象的引用，避免复制
+	 *
+	 * @return 当前线程的上下文，没有需要传播的上下文时返回 null
+	 */
+	C capture();
+
+	/**
+	 * 在执行任务的线程中恢复上下文
+	 *
+	 * @param context
+	 * 		{@link #capture()} 捕获的上下文，不为 null
+	 *
+	 * @return 执行任务的线程原有的上下文
+	 */
+	C restore(C context);
+
+	/**
+	 * 任务执行完成后，还原执行任务的线程原有的上下文
+	 *
+	 * @param previous
+	 * 		{@link #restore(Object)} 返回的原有上下文
+	 */
+	void reset(C previous);
+
+}
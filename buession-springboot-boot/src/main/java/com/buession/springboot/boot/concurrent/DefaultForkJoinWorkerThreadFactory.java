@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import com.buession.core.validator.Validate;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 可设置线程名称前缀、是否后台运行和优先级的 {@link ForkJoinPool.ForkJoinWorkerThreadFactory}
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class DefaultForkJoinWorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+	private final String namePrefix;
+
+	private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+	private Boolean daemon;
+
+	private Integer priority;
+
+	/**
+	 * 构造函数
+	 */
+	public DefaultForkJoinWorkerThreadFactory() {
+		this(null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param namePrefix
+	 * 		线程名称前缀，为空时使用 {@link ForkJoinPool} 默认的线程名称
+	 */
+	public DefaultForkJoinWorkerThreadFactory(final String namePrefix) {
+		this.namePrefix = namePrefix;
+	}
+
+	/**
+	 * 返回线程名称前缀
+	 *
+	 * @return 线程名称前缀
+	 */
+	public String getNamePrefix() {
+		return namePrefix;
+	}
+
+	/**
+	 * 返回是否后台运行
+	 *
+	 * @return 是否后台运行
+	 */
+	public Boolean getDaemon() {
+		return daemon;
+	}
+
+	/**
+	 * 设置是否后台运行
+	 *
+	 * @param daemon
+	 * 		是否后台运行
+	 */
+	public void setDaemon(Boolean daemon) {
+		this.daemon = daemon;
+	}
+
+	/**
+	 * 返回优先级
+	 *
+	 * @return 优先级
+	 */
+	public Integer getPriority() {
+		return priority;
+	}
+
+	/**
+	 * 设置优先级
+	 *
+	 * @param priority
+	 * 		优先级
+	 */
+	public void setPriority(Integer priority) {
+		this.priority = priority;
+	}
+
+	@Override
+	public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+		final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+
+		if(Validate.hasText(namePrefix)){
+			thread.setName(namePrefix + threadNumber.getAndIncrement());
+		}
+
+		if(daemon != null){
+			thread.setDaemon(daemon);
+		}
+
+		if(priority != null){
+			thread.setPriority(priority);
+		}
+
+		return thread;
+	}
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import com.buession.core.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池生命周期，在应用关闭时优雅关闭线程池
+ * <p>停止时，先停止接收新任务，再在 awaitTermination 时长内等待已提交的任务执行完成；drain 为 false 时，从工作队列中移除
+ * 尚未开始的任务，只等待正在执行的任务，不中断。超时后中断仍在执行的任务，被放弃的任务通过日志报告。</p>
+ * <p>默认阶段为 {@link SmartLifecycle#DEFAULT_PHASE} - 4096，在 Web 服务器停止接收请求之后关闭线程池，
+ * 使请求处理过程中提交的任务得以执行；多个线程池在同一阶段中并行关闭。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class ExecutorServiceLifecycle implements SmartLifecycle {
+
+	/**
+	 * 默认阶段
+	 */
+	public final static int DEFAULT_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+	private final static int MAX_REPORTED_TASKS = 10;
+
+	private final ExecutorService executorService;
+
+	private final String name;
+
+	private final Duration awaitTermination;
+
+	private final boolean drain;
+
+	private int phase = DEFAULT_PHASE;
+
+	private volatile boolean running;
+
+	private volatile int abandonedTaskCount;
+
+	private final static Logger logger = LoggerFactory.getLogger(ExecutorServiceLifecycle.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param executorService
+	 * 		线程池
+	 * @param name
+	 * 		线程池名称
+	 * @param awaitTermination
+	 * 		等待已提交任务执行完成的最大时长
+	 * @param drain
+	 * 		是否执行工作队列中尚未开始的任务
+	 */
+	public ExecutorServiceLifecycle(final ExecutorService executorService, final String name,
+									final Duration awaitTermination, final boolean drain) {
+		Assert.isNull(executorService, "ExecutorService cloud not be null.");
+		this.executorService = executorService;
+		this.name = name;
+		this.awaitTermination = awaitTermination == null || awaitTermination.isNegative() ? Duration.ZERO :
+				awaitTermination;
+		this.drain = drain;
+	}
+
+	/**
+	 * 返回被放弃的任务数，线程池关闭后有效
+	 *
+	 * @return 被放弃的任务数
+	 */
+	public int getAbandonedTaskCount() {
+		return abandonedTaskCount;
+	}
+
+	@Override
+	public int getPhase() {
+		return phase;
+	}
+
+	/**
+	 * 设置阶段
+	 *
+	 * @param phase
+	 * 		阶段
+	 */
+	public void setPhase(int phase) {
+		this.phase = phase;
+	}
+
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	@Override
+	public void stop() {
+		try{
+			shutdown();
+		}finally{
+			running = false;
+		}
+	}
+
+	@Override
+	public void stop(@NonNull Runnable callback) {
+		final Thread thread = new Thread(()->{
+			try{
+				stop();
+			}finally{
+				callback.run();
+			}
+		}, name + "-shutdown");
+
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void shutdown() {
+		if(executorService.isShutdown()){
+			return;
+		}
+
+		if(logger.isInfoEnabled()){
+			logger.info("Shutting down thread pool '{}', awaiting termination for {}ms, drain: {}.", name,
+					awaitTermination.toMillis(), drain);
+		}
+
+		int abandoned = 0;
+
+		executorService.shutdown();
+
+		if(drain == false){
+			abandoned += discardQueuedTasks();
+		}
+
+		try{
+			if(awaitTermination() == false){
+				abandoned += abandon();
+
+				// 等待被中断的任务响应中断
+				if(executorService.awaitTermination(1, TimeUnit.SECONDS) == false){
+					logger.warn("Thread pool '{}' did not terminate, {} tasks are still running.", name,
+							activeCount());
+				}
+			}
+		}catch(InterruptedException e){
+			abandoned += abandon();
+			Thread.currentThread().interrupt();
+		}
+
+		abandonedTaskCount = abandoned;
+
+		if(abandoned > 0){
+			logger.warn("Thread pool '{}' shut down, {} queued tasks were abandoned.", name, abandoned);
+		}else if(logger.isInfoEnabled()){
+			logger.info("Thread pool '{}' shut down.", name);
+		}
+	}
+
+	private boolean awaitTermination() throws InterruptedException {
+		return executorService.awaitTermination(awaitTermination.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 移除工作队列中尚未开始的任务，不中断正在执行的任务
+	 *
+	 * @return 被移除的任务数
+	 */
+	private int discardQueuedTasks() {
+		if(executorService instanceof ThreadPoolExecutor){
+			final List<Runnable> tasks = new ArrayList<>();
+
+			((ThreadPoolExecutor) executorService).getQueue().drainTo(tasks);
+			return report(tasks);
+		}else if(executorService instanceof SaturableForkJoinPool){
+			return report(((SaturableForkJoinPool) executorService).drainSubmissions());
+		}else{
+			return 0;
+		}
+	}
+
+	/**
+	 * 等待超时后，中断正在执行的任务，并放弃剩余的任务
+	 *
+	 * @return 被放弃的任务数
+	 */
+	private int abandon() {
+		// ForkJoinPool#shutdownNow 直接取消任务，返回的列表始终为空
+		final int queued = executorService instanceof ForkJoinPool ?
+				(int) Math.min(((ForkJoinPool) executorService).getQueuedSubmissionCount() +
+						((ForkJoinPool) executorService).getQueuedTaskCount(), Integer.MAX_VALUE) : 0;
+
+		return report(executorService.shutdownNow()) + queued;
+	}
+
+	private int report(final List<?> tasks) {
+		for(int i = 0, size = Math.min(tasks.size(), MAX_REPORTED_TASKS); i < size; i++){
+			logger.warn("Thread pool '{}' abandoned task: {}", name, tasks.get(i));
+		}
+
+		if(tasks.size() > MAX_REPORTED_TASKS){
+			logger.warn("Thread pool '{}' abandoned {} more tasks.", name, tasks.size() - MAX_REPORTED_TASKS);
+		}
+
+		return tasks.size();
+	}
+
+	private Object activeCount() {
+		if(executorService instanceof ThreadPoolExecutor){
+			return ((ThreadPoolExecutor) executorService).getActiveCount();
+		}else if(executorService instanceof ForkJoinPool){
+			return ((ForkJoinPool) executorService).getActiveThreadCount();
+		}else{
+			return "unknown";
+		}
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import com.buession.core.concurrent.DefaultThreadPoolExecutor;
+import com.buession.core.concurrent.ThreadPoolConfiguration;
+import com.buession.core.utils.Assert;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 可观测的线程池，统计被拒绝的任务数，并可通过 {@link TaskExecutionListener} 获取任务排队时长和执行时长；
+ * 未注册 {@link TaskExecutionListener} 时，提交任务不会产生额外的对象分配；
+ * 设置了 {@link TaskDecorator} 时，在提交任务的线程中装饰任务，用于传播线程上下文；
+ * submit 创建的 {@link FutureTask} 转发被提交任务的 {@link PrioritizedTask} 优先级
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class InstrumentedThreadPoolExecutor extends DefaultThreadPoolExecutor {
+
+	private final static TaskExecutionListener[] EMPTY_LISTENERS = new TaskExecutionListener[0];
+
+	private final LongAdder rejectedTaskCount = new LongAdder();
+
+	private volatile TaskExecutionListener[] listeners = EMPTY_LISTENERS;
+
+	private volatile TaskDecorator taskDecorator;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param configuration
+	 * 		线程池配置
+	 */
+	public InstrumentedThreadPoolExecutor(final ThreadPoolConfiguration configuration) {
+		super(configuration);
+		setRejectedExecutionHandler(getRejectedExecutionHandler());
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		final TaskExecutionListener[] listeners = this.listeners;
+		final TaskDecorator taskDecorator = this.taskDecorator;
+		final Runnable task = taskDecorator == null || command == null ? command : taskDecorator.decorate(command);
+
+		super.execute(listeners.length == 0 || task == null ? task :
+				new ListenedTask(task, listeners, System.nanoTime()));
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+		return new PrioritizedFutureTask<>(runnable, value);
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+		return new PrioritizedFutureTask<>(callable);
+	}
+
+	/**
+	 * 返回任务装饰器
+	 *
+	 * @return 任务装饰器
+	 */
+	public TaskDecorator getTaskDecorator() {
+		return taskDecorator;
+	}
+
+	/**
+	 * 设置任务装饰器
+	 *
+	 * @param taskDecorator
+	 * 		任务装饰器，为 null 时不装饰任务
+	 */
+	public void setTaskDecorator(TaskDecorator taskDecorator) {
+		this.taskDecorator = taskDecorator;
+	}
+
+	@Override
+	public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+		Assert.isNull(handler, "RejectedExecutionHandler cloud not be null.");
+		// 父类构造函数中调用时，rejectedTaskCount 尚未初始化
+		super.setRejectedExecutionHandler(rejectedTaskCount == null ? handler :
+				new CountingRejectedExecutionHandler(handler, rejectedTaskCount));
+	}
+
+	@Override
+	public RejectedExecutionHandler getRejectedExecutionHandler() {
+		final RejectedExecutionHandler handler = super.getRejectedExecutionHandler();
+		return handler instanceof CountingRejectedExecutionHandler ?
+				((CountingRejectedExecutionHandler) handler).delegate : handler;
+	}
+
+	/**
+	 * 返回被拒绝的任务数
+	 *
+	 * @return 被拒绝的任务数
+	 */
+	public long getRejectedTaskCount() {
+		return rejectedTaskCount.sum();
+	}
+
+	/**
+	 * 注册任务执行监听器
+	 *
+	 * @param listener
+	 * 		任务执行监听器
+	 */
+	public synchronized void addTaskExecutionListener(final TaskExecutionListener listener) {
+		Assert.isNull(listener, "TaskExecutionListener cloud not be null.");
+
+		final TaskExecutionListener[] listeners = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+
+		listeners[listeners.length - 1] = listener;
+		this.listeners = listeners;
+	}
+
+	/**
+	 * 移除任务执行监听器
+	 *
+	 * @param listener
+	 * 		任务执行监听器
+	 */
+	public synchronized void removeTaskExecutionListener(final TaskExecutionListener listener) {
+		this.listeners = Arrays.stream(this.listeners).filter((l)->l != listener)
+				.toArray(TaskExecutionListener[]::new);
+	}
+
+	private final static class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+		private final RejectedExecutionHandler delegate;
+
+		private final LongAdder counter;
+
+		CountingRejectedExecutionHandler(final RejectedExecutionHandler delegate, final LongAdder counter) {
+			this.delegate = delegate;
+			this.counter = counter;
+		}
+
+		@Override
+		public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+			counter.increment();
+			delegate.rejectedExecution(r, executor);
+		}
+
+	}
+
+	private final static class PrioritizedFutureTask<T> extends FutureTask<T> implements PrioritizedTask {
+
+		private final int priority;
+
+		PrioritizedFutureTask(final Runnable runnable, final T value) {
+			super(runnable, value);
+			this.priority = PrioritizedTask.priorityOf(runnable);
+		}
+
+		PrioritizedFutureTask(final Callable<T> callable) {
+			super(callable);
+			this.priority = PrioritizedTask.priorityOf(callable);
+		}
+
+		@Override
+		public int getPriority() {
+			return priority;
+		}
+
+	}
+
+}
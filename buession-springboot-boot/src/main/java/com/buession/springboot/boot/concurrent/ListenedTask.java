@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+/**
+ * 记录排队时长和执行时长，并回调 {@link TaskExecutionListener} 的任务包装
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+final class ListenedTask implements Runnable, PrioritizedTask {
+
+	private final Runnable task;
+
+	private final TaskExecutionListener[] listeners;
+
+	private final long submitTime;
+
+	ListenedTask(final Runnable task, final TaskExecutionListener[] listeners, final long submitTime) {
+		this.task = task;
+		this.listeners = listeners;
+		this.submitTime = submitTime;
+	}
+
+	@Override
+	public void run() {
+		final long startTime = System.nanoTime();
+
+		try{
+			task.run();
+		}finally{
+			final long waitTime = startTime - submitTime;
+			final long executionTime = System.nanoTime() - startTime;
+
+			for(TaskExecutionListener listener : listeners){
+				listener.onExecuted(waitTime, executionTime);
+			}
+		}
+	}
+
+	@Override
+	public int getPriority() {
+		return PrioritizedTask.priorityOf(task);
+	}
+
+	@Override
+	public String toString() {
+		return task.toString();
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import org.apache.logging.log4j.ThreadContext;
+
+import java.util.Map;
+
+/**
+ * 基于 Log4j2 {@link ThreadContext} 的线程上下文传播器
+ * <p>Log4j2 默认的 ThreadContextMap 为写时复制实现，{@link ThreadContext#getImmutableContext()} 直接返回内部的不可变
+ * Map，捕获上下文时无需复制；通过 SLF4J MDC 写入的数据同样保存在 {@link ThreadContext} 中。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class Log4jThreadContextPropagator implements ContextPropagator<Map<String, String>> {
+
+	@Override
+	public Map<String, String> capture() {
+		final Map<String, String> context = ThreadContext.getImmutableContext();
+		return context.isEmpty() ? null : context;
+	}
+
+	@Override
+	public Map<String, String> restore(Map<String, String> context) {
+		final Map<String, String> previous = ThreadContext.getImmutableContext();
+
+		ThreadContext.clearMap();
+		ThreadContext.putAll(context);
+
+		return previous;
+	}
+
+	@Override
+	public void reset(Map<String, String> previous) {
+		ThreadContext.clearMap();
+
+		if(previous != null && previous.isEmpty() == false){
+			ThreadContext.putAll(previous);
+		}
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+
+/**
+ * 基于 SLF4J {@link MDC} 的线程上下文传播器
+ * <p>MDC 绑定为 Logback 时，通过 LogbackMDCAdapter#getPropertyMap() 读取写时复制的内部 Map 作为不可变快照，
+ * 捕获上下文时无需复制；其它绑定只能通过 {@link MDC#getCopyOfContextMap()} 复制上下文。
+ * 执行线程的上下文与捕获的上下文为同一个 Map 时（如由提交任务的线程执行），恢复和还原均不修改 MDC。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class MdcContextPropagator implements ContextPropagator<Map<String, String>> {
+
+	private final static String LOGBACK_MDC_ADAPTER_CLASS_NAME = "ch.qos.logback.classic.util.LogbackMDCAdapter";
+
+	private final static MethodHandle PROPERTY_MAP_GETTER = resolvePropertyMapGetter();
+
+	@Override
+	public Map<String, String> capture() {
+		final Map<String, String> context = current();
+		return context == null || context.isEmpty() ? null : context;
+	}
+
+	@Override
+	public Map<String, String> restore(Map<String, String> context) {
+		final Map<String, String> previous = current();
+
+		if(previous != context){
+			MDC.setContextMap(context);
+		}
+
+		return previous;
+	}
+
+	@Override
+	public void reset(Map<String, String> previous) {
+		final Map<String, String> context = current();
+
+		if(context == previous){
+			return;
+		}
+
+		if(previous == null || previous.isEmpty()){
+			MDC.clear();
+		}else{
+			MDC.setContextMap(previous);
+		}
+	}
+
+	@SuppressWarnings({"unchecked"})
+	private static Map<String, String> current() {
+		if(PROPERTY_MAP_GETTER == null){
+			return MDC.getCopyOfContextMap();
+		}
+
+		try{
+			return (Map<String, String>) (Map<?, ?>) PROPERTY_MAP_GETTER.invokeExact();
+		}catch(Throwable e){
+			return MDC.getCopyOfContextMap();
+		}
+	}
+
+	private static MethodHandle resolvePropertyMapGetter() {
+		final MDCAdapter adapter = MDC.getMDCAdapter();
+
+		if(adapter == null || LOGBACK_MDC_ADAPTER_CLASS_NAME.equals(adapter.getClass().getName()) == false){
+			return null;
+		}
+
+		try{
+			return MethodHandles.publicLookup().findVirtual(adapter.getClass(), "getPropertyMap",
+					MethodType.methodType(Map.class)).bindTo(adapter);
+		}catch(NoSuchMethodException | IllegalAccessException e){
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import java.util.Comparator;
+
+/**
+ * 带优先级的任务，用于 {@link java.util.concurrent.PriorityBlockingQueue} 工作队列
+ * <p>线程池内部的任务包装（{@link java.util.concurrent.FutureTask}、上下文传播、执行监听）均实现该接口并转发被包装任务的优先级，
+ * 因此提交的 {@link Runnable} 或 {@link java.util.concurrent.Callable} 实现该接口即可参与排序；未实现该接口的任务优先级为
+ * {@link #DEFAULT_PRIORITY}。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public interface PrioritizedTask {
+
+	/**
+	 * 默认优先级
+	 */
+	int DEFAULT_PRIORITY = 0;
+
+	/**
+	 * 按优先级从高到低排列任务的比较器
+	 */
+	Comparator<Runnable> COMPARATOR = (a, b)->Integer.compare(priorityOf(b), priorityOf(a));
+
+	/**
+	 * 返回任务优先级，值越大越先执行
+	 *
+	 * @return 任务优先级
+	 */
+	int getPriority();
+
+	/**
+	 * 返回任务优先级
+	 *
+	 * @param task
+	 * 		任务
+	 *
+	 * @return 任务实现了 {@link PrioritizedTask} 时返回其优先级，否则返回 {@link #DEFAULT_PRIORITY}
+	 */
+	static int priorityOf(final Object task) {
+		return task instanceof PrioritizedTask ? ((PrioritizedTask) task).getPriority() : DEFAULT_PRIORITY;
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 可设置饱和策略的 {@link ForkJoinPool}
+ * <p>外部线程提交任务时，若队列中等待执行的外部提交任务数达到 maximumQueuedSubmissions，则按 {@link SaturationPolicy}
+ * 处理新提交的任务；工作线程内提交的任务（fork 的子任务）不受限制，以避免死锁。</p>
+ * <p>设置了 {@link TaskDecorator} 时，外部线程提交的任务在提交线程中被装饰，用于传播线程上下文。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class SaturableForkJoinPool extends ForkJoinPool {
+
+	private final int maximumQueuedSubmissions;
+
+	private final SaturationPolicy saturationPolicy;
+
+	private final LongAdder rejectedTaskCount = new LongAdder();
+
+	private volatile TaskDecorator taskDecorator;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param parallelism
+	 * 		并行度
+	 * @param factory
+	 * 		工作线程工厂
+	 * @param handler
+	 * 		未捕获异常处理器
+	 * @param asyncMode
+	 * 		是否异步模式，为 true 时工作线程本地队列按 FIFO 处理从未 join 的任务，适用于事件类任务
+	 * @param maximumQueuedSubmissions
+	 * 		等待执行的外部提交任务数上限，小于等于 0 时不限制
+	 * @param saturationPolicy
+	 * 		饱和策略
+	 */
+	public SaturableForkJoinPool(final int parallelism, final ForkJoinWorkerThreadFactory factory,
+								 final Thread.UncaughtExceptionHandler handler, final boolean asyncMode,
+								 final int maximumQueuedSubmissions, final SaturationPolicy saturationPolicy) {
+		super(parallelism, factory, handler, asyncMode);
+		this.maximumQueuedSubmissions = maximumQueuedSubmissions;
+		this.saturationPolicy = saturationPolicy == null ? SaturationPolicy.ABORT : saturationPolicy;
+	}
+
+	/**
+	 * 返回等待执行的外部提交任务数上限
+	 *
+	 * @return 等待执行的外部提交任务数上限
+	 */
+	public int getMaximumQueuedSubmissions() {
+		return maximumQueuedSubmissions;
+	}
+
+	/**
+	 * 返回饱和策略
+	 *
+	 * @return 饱和策略
+	 */
+	public SaturationPolicy getSaturationPolicy() {
+		return saturationPolicy;
+	}
+
+	/**
+	 * 返回因饱和被拒绝的任务数
+	 *
+	 * @return 因饱和被拒绝的任务数
+	 */
+	public long getRejectedTaskCount() {
+		return rejectedTaskCount.sum();
+	}
+
+	/**
+	 * 返回任务装饰器
+	 *
+	 * @return 任务装饰器
+	 */
+	public TaskDecorator getTaskDecorator() {
+		return taskDecorator;
+	}
+
+	/**
+	 * 设置任务装饰器
+	 *
+	 * @param taskDecorator
+	 * 		任务装饰器，为 null 时不装饰任务
+	 */
+	public void setTaskDecorator(TaskDecorator taskDecorator) {
+		this.taskDecorator = taskDecorator;
+	}
+
+	/**
+	 * 移除并取消尚未开始执行的外部提交任务
+	 *
+	 * @return 被移除的任务
+	 */
+	public List<ForkJoinTask<?>> drainSubmissions() {
+		final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+		ForkJoinTask<?> task;
+
+		while((task = pollSubmission()) != null){
+			task.cancel(false);
+			tasks.add(task);
+		}
+
+		return tasks;
+	}
+
+	@Override
+	public void execute(ForkJoinTask<?> task) {
+		if(decorating()){
+			final Runnable runnable = task::quietlyInvoke;
+			execute(runnable);
+		}else if(admit()){
+			super.execute(task);
+		}else if(saturationPolicy == SaturationPolicy.CALLER_RUNS){
+			task.quietlyInvoke();
+		}
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		final TaskDecorator taskDecorator = this.taskDecorator;
+		final Runnable command = taskDecorator == null || isWorkerThread() ? task : taskDecorator.decorate(task);
+
+		if(admit()){
+			super.execute(command);
+		}else if(saturationPolicy == SaturationPolicy.CALLER_RUNS){
+			command.run();
+		}
+	}
+
+	@Override
+	public <T> ForkJoinTask<T> submit(ForkJoinTask<T> task) {
+		if(decorating()){
+			// 装饰后的任务执行时调用原任务，调用方仍可通过原任务获取结果
+			execute(task);
+			return task;
+		}
+
+		return admit() ? super.submit(task) : rejected(task);
+	}
+
+	@Override
+	public <T> ForkJoinTask<T> submit(Callable<T> task) {
+		return submit(ForkJoinTask.adapt(task));
+	}
+
+	@Override
+	public <T> ForkJoinTask<T> submit(Runnable task, T result) {
+		return submit(ForkJoinTask.adapt(task, result));
+	}
+
+	@Override
+	public ForkJoinTask<?> submit(Runnable task) {
+		return submit(ForkJoinTask.adapt(task));
+	}
+
+	private boolean decorating() {
+		return taskDecorator != null && isWorkerThread() == false;
+	}
+
+	private boolean admit() {
+		if(maximumQueuedSubmissions <= 0 || isWorkerThread() || getQueuedSubmissionCount() < maximumQueuedSubmissions){
+			return true;
+		}
+
+		rejectedTaskCount.increment();
+
+		switch(saturationPolicy){
+			case ABORT:
+				throw new RejectedExecutionException(
+						"Task rejected from " + this + ", queued submissions reached " + maximumQueuedSubmissions);
+			case DISCARD_OLDEST:
+				final ForkJoinTask<?> oldest = pollSubmission();
+
+				if(oldest != null){
+					oldest.cancel(false);
+				}
+
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private <T> ForkJoinTask<T> rejected(final ForkJoinTask<T> task) {
+		if(saturationPolicy == SaturationPolicy.CALLER_RUNS){
+			task.quietlyInvoke();
+		}
+
+		return task;
+	}
+
+	private boolean isWorkerThread() {
+		final Thread thread = Thread.currentThread();
+		return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == this;
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+/**
+ * {@link SaturableForkJoinPool} 饱和策略，外部提交的任务数达到上限时，对新提交任务的处理策略
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public enum SaturationPolicy {
+
+	/**
+	 * 抛出 {@link java.util.concurrent.RejectedExecutionException} 异常
+	 */
+	ABORT,
+
+	/**
+	 * 由提交任务的线程执行该任务
+	 */
+	CALLER_RUNS,
+
+	/**
+	 * 直接丢弃该任务
+	 */
+	DISCARD,
+
+	/**
+	 * 取消最早提交且尚未执行的任务，并提交该任务
+	 */
+	DISCARD_OLDEST
+
+}
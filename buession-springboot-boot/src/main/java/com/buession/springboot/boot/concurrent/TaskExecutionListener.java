@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+/**
+ * 任务执行监听器，任务执行完成（包括异常结束）后回调
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@FunctionalInterface
+public interface TaskExecutionListener {
+
+	/**
+	 * 任务执行完成后回调，该方法在执行任务的线程中调用，实现应尽可能轻量
+	 *
+	 * @param waitTime
+	 * 		任务从提交到开始执行，在工作队列中的等待时长（纳秒）
+	 * @param executionTime
+	 * 		任务执行时长（纳秒）
+	 */
+	void onExecuted(long waitTime, long executionTime);
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池指标 {@link MeterBinder}
+ * <p>线程数、活跃线程数、队列大小、队列剩余容量、已完成任务数等指标由 {@link ExecutorServiceMetrics} 提供；
+ * 线程池为 {@link InstrumentedThreadPoolExecutor} 时，额外提供被拒绝任务数（executor.rejected）、
+ * 任务排队时长（executor.idle）和任务执行时长（executor）直方图；线程池为 {@link SaturableForkJoinPool} 时，
+ * 额外提供被拒绝任务数（executor.rejected）。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class ThreadPoolMetrics implements MeterBinder {
+
+	private final ExecutorService executorService;
+
+	private final String name;
+
+	private final Iterable<Tag> tags;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param executorService
+	 *        {@link ExecutorService}
+	 * @param name
+	 * 		线程池名称
+	 */
+	public ThreadPoolMetrics(final ExecutorService executorService, final String name) {
+		this(executorService, name, Tags.empty());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param executorService
+	 *        {@link ExecutorService}
+	 * @param name
+	 * 		线程池名称
+	 * @param tags
+	 * 		附加标签
+	 */
+	public ThreadPoolMetrics(final ExecutorService executorService, final String name, final Iterable<Tag> tags) {
+		this.executorService = executorService;
+		this.name = name;
+		this.tags = Tags.concat(tags, "name", name);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		new ExecutorServiceMetrics(executorService, name, tags).bindTo(registry);
+
+		if(executorService instanceof InstrumentedThreadPoolExecutor){
+			bindTo(registry, (InstrumentedThreadPoolExecutor) executorService);
+		}else if(executorService instanceof SaturableForkJoinPool){
+			FunctionCounter.builder("executor.rejected", executorService,
+							(pool)->((SaturableForkJoinPool) pool).getRejectedTaskCount()).tags(tags)
+					.description("The total number of tasks rejected by the executor").baseUnit("tasks")
+					.register(registry);
+		}
+	}
+
+	private void bindTo(final MeterRegistry registry, final InstrumentedThreadPoolExecutor executor) {
+		FunctionCounter.builder("executor.rejected", executor, InstrumentedThreadPoolExecutor::getRejectedTaskCount)
+				.tags(tags).description("The total number of tasks rejected by the executor").baseUnit("tasks")
+				.register(registry);
+
+		final Timer idleTimer = Timer.builder("executor.idle").tags(tags)
+				.description("The time tasks spent waiting in the work queue before execution")
+				.publishPercentileHistogram().register(registry);
+		final Timer executionTimer = Timer.builder("executor").tags(tags)
+				.description("The time tasks spent executing").publishPercentileHistogram().register(registry);
+
+		executor.addTaskExecutionListener((waitTime, executionTime)->{
+			idleTimer.record(waitTime, TimeUnit.NANOSECONDS);
+			executionTimer.record(executionTime, TimeUnit.NANOSECONDS);
+		});
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import com.buession.core.utils.Assert;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+
+/**
+ * 任务耗时装饰器，提交时记录时间，执行完成后将排队时长和执行时长回调给 {@link TaskExecutionListener}，
+ * 可用于记录每个任务的追踪 span
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class TimingTaskDecorator implements TaskDecorator {
+
+	private final TaskExecutionListener[] listeners;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param listeners
+	 * 		任务执行监听器
+	 */
+	public TimingTaskDecorator(final TaskExecutionListener... listeners) {
+		Assert.isNull(listeners, "TaskExecutionListeners cloud not be null.");
+		this.listeners = listeners.clone();
+	}
+
+	@NonNull
+	@Override
+	public Runnable decorate(@NonNull Runnable runnable) {
+		return listeners.length == 0 ? runnable : new ListenedTask(runnable, listeners, System.nanoTime());
+	}
+
+}
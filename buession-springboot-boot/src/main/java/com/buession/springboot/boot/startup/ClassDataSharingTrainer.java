@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.startup;
+
+import com.buession.core.validator.Validate;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import com.sun.management.VMOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+
+/**
+ * AppCDS（Application Class Data Sharing）训练运行，应用启动并完成预热后，将已加载的类转储为动态 CDS 归档，
+ * 后续以 -XX:SharedArchiveFile 指定该归档启动，可缩短启动时间、降低多 JVM 部署时的内存占用
+ * <p>通过启动参数 --cds-training 或系统属性 spring.cds.training=true 开启；归档文件由 spring.cds.archive-file 指定，
+ * 默认为 application.jsa。JVM 以 -XX:ArchiveClassesAtExit 启动时，归档在 JVM 退出时由 JVM 自行生成；
+ * 以 -XX:+RecordDynamicDumpInfo 启动时（JDK 17+），通过 DiagnosticCommand MBean 执行 VM.cds dynamic_dump 生成；
+ * 均未指定时，仅输出提示信息。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class ClassDataSharingTrainer {
+
+	/**
+	 * 配置前缀
+	 */
+	public final static String PREFIX = "spring.cds";
+
+	/**
+	 * 开启 AppCDS 训练运行的系统属性
+	 */
+	public final static String TRAINING_PROPERTY = PREFIX + ".training";
+
+	/**
+	 * 开启 AppCDS 训练运行的启动参数
+	 */
+	public final static String TRAINING_ARGUMENT = "--cds-training";
+
+	/**
+	 * 归档文件配置
+	 */
+	public final static String ARCHIVE_FILE_PROPERTY = PREFIX + ".archive-file";
+
+	/**
+	 * 默认归档文件
+	 */
+	public final static String DEFAULT_ARCHIVE_FILE = "application.jsa";
+
+	private final static String DIAGNOSTIC_COMMAND_MBEAN = "com.sun.management:type=DiagnosticCommand";
+
+	private final static Logger logger = LoggerFactory.getLogger(ClassDataSharingTrainer.class);
+
+	/**
+	 * 返回是否为 AppCDS 训练运行
+	 *
+	 * @param args
+	 * 		启动参数
+	 *
+	 * @return 是否为 AppCDS 训练运行
+	 */
+	public static boolean isTraining(final String[] args) {
+		if(args != null){
+			for(String arg : args){
+				if(TRAINING_ARGUMENT.equals(arg) || (TRAINING_ARGUMENT + "=true").equals(arg)){
+					return true;
+				}
+			}
+		}
+
+		return Boolean.getBoolean(TRAINING_PROPERTY);
+	}
+
+	/**
+	 * 生成动态 CDS 归档
+	 *
+	 * @param environment
+	 *        {@link Environment}
+	 *
+	 * @return 是否已生成或将在 JVM 退出时生成归档
+	 */
+	public boolean archive(final Environment environment) {
+		final String archiveAtExit = getVMOption("ArchiveClassesAtExit");
+
+		if(Validate.hasText(archiveAtExit)){
+			logger.info("CDS archive will be written to {} when the JVM exits.", archiveAtExit);
+			return true;
+		}
+
+		if(Boolean.parseBoolean(getVMOption("RecordDynamicDumpInfo")) == false){
+			logger.warn("Neither -XX:ArchiveClassesAtExit nor -XX:+RecordDynamicDumpInfo is specified, " +
+					"CDS archive is not generated.");
+			return false;
+		}
+
+		final String archiveFile = new File(environment.getProperty(ARCHIVE_FILE_PROPERTY,
+				DEFAULT_ARCHIVE_FILE)).getAbsolutePath();
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+		try{
+			server.invoke(new ObjectName(DIAGNOSTIC_COMMAND_MBEAN), "vmCds",
+					new Object[]{new String[]{"dynamic_dump", archiveFile}}, new String[]{String[].class.getName()});
+			logger.info("CDS archive has been written to {}.", archiveFile);
+			return true;
+		}catch(JMException e){
+			logger.warn("Dump CDS archive to {} failure: {}", archiveFile, e.getMessage());
+			return false;
+		}
+	}
+
+	private static String getVMOption(final String name) {
+		try{
+			final VMOption option = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+					.getVMOption(name);
+			return option.getValue();
+		}catch(RuntimeException e){
+			// 非 HotSpot JVM 或 JVM 不支持该选项
+			return null;
+		}
+	}
+
+}
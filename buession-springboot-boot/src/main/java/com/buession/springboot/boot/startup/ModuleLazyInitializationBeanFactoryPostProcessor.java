@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.startup;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 按模块延迟初始化 {@link BeanFactoryPostProcessor}，将指定 Buession 模块（com.buession.springboot.&lt;module&gt; 包）
+ * 中的配置类及其定义的 Bean 设置为延迟初始化，首次使用时才创建
+ * <p>与全局延迟初始化相同，{@link LazyInitializationExcludeFilter} Bean 排除的 Bean、{@link SmartInitializingSingleton}
+ * 以及显式声明了是否延迟初始化的 Bean 保持原有行为；各模块通过 {@link LazyInitializationExcludeFilter}
+ * 声明必须立即初始化的 Bean，如数据源、请求处理链路上的 Bean 等。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class ModuleLazyInitializationBeanFactoryPostProcessor implements BeanFactoryPostProcessor, Ordered {
+
+	/**
+	 * 配置前缀
+	 */
+	public final static String PREFIX = "spring.lazy-initialization";
+
+	/**
+	 * 默认延迟初始化的模块
+	 */
+	public final static String[] DEFAULT_MODULES = new String[]{"pac4j", "captcha", "velocity", "mongodb"};
+
+	private final static String MODULE_PACKAGE_PREFIX = "com.buession.springboot.";
+
+	private final Set<String> packages;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param modules
+	 * 		延迟初始化的模块
+	 */
+	public ModuleLazyInitializationBeanFactoryPostProcessor(final Collection<String> modules) {
+		this.packages = modules.stream().map((module)->MODULE_PACKAGE_PREFIX + module.trim() + '.')
+				.collect(Collectors.toSet());
+	}
+
+	@Override
+	public void postProcessBeanFactory(@NonNull ConfigurableListableBeanFactory beanFactory) throws BeansException {
+		if(packages.isEmpty()){
+			return;
+		}
+
+		final Collection<LazyInitializationExcludeFilter> filters = beanFactory.getBeansOfType(
+				LazyInitializationExcludeFilter.class, false, false).values();
+
+		for(String beanName : beanFactory.getBeanDefinitionNames()){
+			final BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+
+			if(beanDefinition instanceof AbstractBeanDefinition && isLazyCandidate(beanFactory, beanDefinition)){
+				postProcess(beanFactory, filters, beanName, (AbstractBeanDefinition) beanDefinition);
+			}
+		}
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	private boolean isLazyCandidate(final ConfigurableListableBeanFactory beanFactory,
+									final BeanDefinition beanDefinition) {
+		if(beanDefinition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE){
+			return false;
+		}
+
+		String className = beanDefinition.getBeanClassName();
+
+		if(beanDefinition.getFactoryBeanName() != null){
+			className = beanFactory.containsBeanDefinition(beanDefinition.getFactoryBeanName()) ?
+					beanFactory.getBeanDefinition(beanDefinition.getFactoryBeanName()).getBeanClassName() : null;
+		}
+
+		if(className == null){
+			return false;
+		}
+
+		for(String p : packages){
+			if(className.startsWith(p)){
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static void postProcess(final ConfigurableListableBeanFactory beanFactory,
+									final Collection<LazyInitializationExcludeFilter> filters, final String beanName,
+									final AbstractBeanDefinition beanDefinition) {
+		if(beanDefinition.getLazyInit() != null){
+			return;
+		}
+
+		final Class<?> beanType = beanFactory.getType(beanName, false);
+
+		if(beanType == null || SmartInitializingSingleton.class.isAssignableFrom(beanType)){
+			return;
+		}
+
+		for(LazyInitializationExcludeFilter filter : filters){
+			if(filter.isExcluded(beanName, beanDefinition, beanType)){
+				return;
+			}
+		}
+
+		beanDefinition.setLazyInit(true);
+	}
+
+}
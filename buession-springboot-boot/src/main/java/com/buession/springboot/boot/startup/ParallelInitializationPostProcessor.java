@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.startup;
+
+import com.buession.core.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 并行初始化 {@link BeanPostProcessor}，Bean 初始化完成后，将 {@link ParallelInitializer} 为其提供的初始化任务提交到启动线程池，
+ * 所有单例 Bean 实例化完成后（{@link SmartInitializingSingleton#afterSingletonsInstantiated()}）等待全部初始化任务完成
+ * <p>Spring 在全局单例锁内创建 Bean，Bean 的创建本身无法并行；此处并行的是 Bean 创建完成后的连接建立、握手等 I/O 操作，
+ * 使其与后续 Bean 的创建及彼此之间重叠。Bean 的初始化任务在其直接或间接依赖的 Bean 的初始化任务完成后执行；
+ * 任一初始化任务失败或超时，应用启动失败。</p>
+ * <p>{@link ParallelInitializer} Bean 的名称及其支持的 Bean 类型在 BeanFactory 后置处理阶段根据 Bean 定义确定，
+ * 只有创建了匹配类型的 Bean 时才会获取对应的 {@link ParallelInitializer}，避免在 BeanPostProcessor 注册过程中创建 Bean。</p>
+ * <p>所有单例 Bean 实例化完成后，启动线程池即被关闭；此后创建的 Bean（延迟初始化的单例 Bean、原型 Bean 等）的初始化任务
+ * 在创建 Bean 的线程中同步执行，任一初始化任务失败时 Bean 创建失败。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class ParallelInitializationPostProcessor implements BeanFactoryPostProcessor, BeanPostProcessor,
+		SmartInitializingSingleton, BeanFactoryAware, DisposableBean {
+
+	/**
+	 * 配置前缀
+	 */
+	public final static String PREFIX = "spring.parallel-initialization";
+
+	/**
+	 * 默认等待时间
+	 */
+	public final static Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
+
+	private final ExecutorService executor;
+
+	private final Duration timeout;
+
+	private final Map<String, CompletableFuture<Void>> futures = new ConcurrentHashMap<>(16);
+
+	/**
+	 * 所有单例 Bean 是否已实例化完成，完成后不再使用启动线程池
+	 */
+	private volatile boolean singletonsInstantiated;
+
+	private ConfigurableListableBeanFactory beanFactory;
+
+	/**
+	 * {@link ParallelInitializer} Bean 名称 -&gt; 支持的 Bean 类型
+	 */
+	private final Map<String, Class<?>> initializerTypes = new LinkedHashMap<>();
+
+	private final static Logger logger = LoggerFactory.getLogger(ParallelInitializationPostProcessor.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param parallelism
+	 * 		并行度
+	 * @param timeout
+	 * 		等待全部初始化任务完成的最长时间
+	 */
+	public ParallelInitializationPostProcessor(final int parallelism, final Duration timeout) {
+		Assert.isTrue(parallelism < 1, "Parallelism must be greater than 0.");
+		Assert.isNull(timeout, "Timeout cloud not be null.");
+
+		final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		this.executor = Executors.newFixedThreadPool(parallelism, (runnable)->{
+			final Thread thread = new Thread(runnable, "bootstrap-" + threadNumber.getAndIncrement());
+
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.timeout = timeout;
+	}
+
+	@Override
+	public void setBeanFactory(@NonNull BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+	}
+
+	@Override
+	public void postProcessBeanFactory(@NonNull ConfigurableListableBeanFactory beanFactory) throws BeansException {
+		for(String beanName : beanFactory.getBeanNamesForType(ParallelInitializer.class, true, false)){
+			final Class<?> beanType = beanFactory.getType(beanName, false);
+			final Class<?> type = beanType == null ? null :
+					ResolvableType.forClass(beanType).as(ParallelInitializer.class).resolveGeneric(0);
+
+			// 无法从 Bean 定义中确定支持的类型时，创建任意 Bean 后获取该初始化器，再由 getType() 判断
+			initializerTypes.put(beanName, type == null ? Object.class : type);
+		}
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName)
+			throws BeansException {
+		if(initializerTypes.isEmpty() || initializerTypes.containsKey(beanName)){
+			return bean;
+		}
+
+		final Collection<Callable<?>> tasks = getInitializationTasks(bean);
+
+		if(tasks.isEmpty()){
+			return bean;
+		}
+
+		if(singletonsInstantiated){
+			for(Callable<?> task : tasks){
+				try{
+					call(beanName, task);
+				}catch(CompletionException e){
+					throw new BeanInitializationException("Initialization of bean '" + beanName + "' failure: " +
+							e.getCause().getMessage(), e.getCause());
+				}
+			}
+		}else{
+			final CompletableFuture<?>[] dependencies = getDependencyFutures(beanName);
+			final CompletableFuture<?>[] taskFutures = tasks.stream().map((task)->CompletableFuture.allOf(dependencies)
+					.thenRunAsync(()->call(beanName, task), executor)).toArray(CompletableFuture[]::new);
+
+			futures.put(beanName, CompletableFuture.allOf(taskFutures));
+		}
+
+		return bean;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		singletonsInstantiated = true;
+
+		if(futures.isEmpty()){
+			executor.shutdown();
+			return;
+		}
+
+		final long start = System.nanoTime();
+		final long deadline = start + timeout.toNanos();
+
+		try{
+			for(Map.Entry<String, CompletableFuture<Void>> e : futures.entrySet()){
+				try{
+					e.getValue().get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+				}catch(ExecutionException ex){
+					final Throwable cause = ex.getCause() instanceof CompletionException ?
+							ex.getCause().getCause() : ex.getCause();
+					throw new BeanInitializationException("Parallel initialization of bean '" + e.getKey() +
+							"' failure: " + cause.getMessage(), cause);
+				}catch(TimeoutException ex){
+					throw new BeanInitializationException("Parallel initialization of bean '" + e.getKey() +
+							"' has not finished within " + timeout.toMillis() + " ms.");
+				}catch(InterruptedException ex){
+					Thread.currentThread().interrupt();
+					throw new BeanInitializationException("Parallel initialization has been interrupted.", ex);
+				}
+			}
+		}finally{
+			executor.shutdownNow();
+		}
+
+		if(logger.isInfoEnabled()){
+			logger.info("Parallel initialization of {} bean(s) finished, waited {} ms.", futures.size(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+
+		futures.clear();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Collection<Callable<?>> getInitializationTasks(final Object bean) {
+		List<Callable<?>> result = null;
+
+		for(Map.Entry<String, Class<?>> e : initializerTypes.entrySet()){
+			if(e.getValue().isInstance(bean) == false){
+				continue;
+			}
+
+			final ParallelInitializer initializer = beanFactory.getBean(e.getKey(), ParallelInitializer.class);
+
+			if(initializer.getType().isInstance(bean)){
+				final Collection<Callable<?>> tasks = initializer.getInitializationTasks(bean);
+
+				if(tasks != null && tasks.isEmpty() == false){
+					if(result == null){
+						result = new ArrayList<>(tasks.size());
+					}
+
+					result.addAll(tasks);
+				}
+			}
+		}
+
+		return result == null ? Collections.emptyList() : result;
+	}
+
+	/**
+	 * 返回 Bean 直接或间接依赖的 Bean 的初始化任务
+	 */
+	private CompletableFuture<?>[] getDependencyFutures(final String beanName) {
+		final List<CompletableFuture<?>> result = new ArrayList<>();
+		final Set<String> visited = new HashSet<>();
+		final Deque<String> pending = new ArrayDeque<>();
+
+		visited.add(beanName);
+		pending.push(beanName);
+
+		while(pending.isEmpty() == false){
+			for(String dependency : beanFactory.getDependenciesForBean(pending.pop())){
+				if(visited.add(dependency)){
+					final CompletableFuture<Void> future = futures.get(dependency);
+
+					if(future != null){
+						result.add(future);
+					}
+
+					pending.push(dependency);
+				}
+			}
+		}
+
+		return result.toArray(new CompletableFuture[0]);
+	}
+
+	private static void call(final String beanName, final Callable<?> task) {
+		try{
+			task.call();
+		}catch(Exception e){
+			throw new CompletionException(e);
+		}
+
+		if(logger.isDebugEnabled()){
+			logger.debug("Parallel initialization task of bean '{}' finished.", beanName);
+		}
+	}
+
+}
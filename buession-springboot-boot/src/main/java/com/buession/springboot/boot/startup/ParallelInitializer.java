@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.startup;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+/**
+ * 并行初始化器，为指定类型的基础设施 Bean（数据源、Redis 连接池等）提供可并行执行的初始化任务，
+ * 如建立连接、完成握手等 I/O 密集型操作
+ * <p>Bean 创建完成后，其初始化任务提交到启动线程池并行执行，与后续 Bean 的创建重叠；
+ * 初始化任务在其依赖的 Bean 的初始化任务完成后才会执行；所有单例 Bean 实例化完成后，等待全部初始化任务完成，
+ * 再继续应用上下文的刷新。</p>
+ *
+ * @param <T>
+ * 		Bean 类型
+ *
+ * @author Yong.Teng
+ * @see ParallelInitializationPostProcessor
+ * @since 2.3.4
+ */
+public interface ParallelInitializer<T> {
+
+	/**
+	 * 返回支持的 Bean 类型
+	 *
+	 * @return 支持的 Bean 类型
+	 */
+	Class<T> getType();
+
+	/**
+	 * 返回 Bean 的初始化任务，各任务之间相互独立，将并行执行
+	 *
+	 * @param bean
+	 * 		Bean 实例
+	 *
+	 * @return 初始化任务
+	 */
+	Collection<Callable<?>> getInitializationTasks(T bean);
+
+}
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.startup;
+
+import com.buession.core.validator.Validate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.NonNull;
+import org.springframework.util.ClassUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 启动耗时分析，应用就绪后根据 {@link BufferingApplicationStartup} 记录的启动步骤，统计每个配置类、每个 Bean、
+ * 每类启动步骤的耗时，按耗时降序输出到日志；配置了 spring.startup-profiling.report-file 时，同时以 JSON 格式写入该文件
+ * <p>Bean 的耗时为其自身的实例化耗时，不含其依赖的 Bean 的实例化耗时；配置类的耗时为其自身及其 @Bean 方法创建的
+ * Bean 的耗时之和，嵌套配置类计入其外部类。Spring 不记录单个条件的评估耗时，配置类的条件评估结果取自
+ * {@link ConditionEvaluationReport}，条件评估的总耗时计入 spring.context.config-classes.parse 步骤。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class StartupProfilingReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+	/**
+	 * 配置前缀
+	 */
+	public final static String PREFIX = "spring.startup-profiling";
+
+	/**
+	 * 开启启动耗时分析的系统属性
+	 */
+	public final static String ENABLED_PROPERTY = PREFIX + ".enabled";
+
+	/**
+	 * 默认缓冲的启动步骤数
+	 */
+	public final static int DEFAULT_CAPACITY = 16384;
+
+	private final static String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+	private final static String CONFIGURATION_CLASS_ATTRIBUTE =
+			"org.springframework.context.annotation.ConfigurationClassPostProcessor.configurationClass";
+
+	private final static String BUESSION_PACKAGE = "com.buession.";
+
+	private final static int DEFAULT_TOP = 20;
+
+	private final BufferingApplicationStartup applicationStartup;
+
+	private final static Logger logger = LoggerFactory.getLogger(StartupProfilingReporter.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param applicationStartup
+	 *        {@link BufferingApplicationStartup}
+	 */
+	public StartupProfilingReporter(final BufferingApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup;
+	}
+
+	@Override
+	public void onApplicationEvent(@NonNull ApplicationReadyEvent event) {
+		final ConfigurableApplicationContext applicationContext = event.getApplicationContext();
+		final Environment environment = applicationContext.getEnvironment();
+		final StartupReport report = createReport(applicationContext.getBeanFactory());
+
+		if(logger.isInfoEnabled()){
+			logger.info(format(report, environment.getProperty(PREFIX + ".top", Integer.class, DEFAULT_TOP)));
+		}
+
+		final String reportFile = environment.getProperty(PREFIX + ".report-file");
+
+		if(Validate.hasText(reportFile)){
+			try{
+				new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(new File(reportFile), report);
+				logger.info("Startup profiling report has been written to {}.", reportFile);
+			}catch(IOException e){
+				logger.warn("Write startup profiling report to {} failure: {}", reportFile, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 创建启动耗时报告
+	 *
+	 * @param beanFactory
+	 *        {@link ConfigurableListableBeanFactory}
+	 *
+	 * @return 启动耗时报告
+	 */
+	public StartupReport createReport(final ConfigurableListableBeanFactory beanFactory) {
+		final StartupTimeline timeline = applicationStartup.getBufferedTimeline();
+		final List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+		final Map<Long, Duration> childrenDurations = new HashMap<>(events.size());
+		final Map<String, StartupReport.Entry> steps = new LinkedHashMap<>();
+		final Map<String, StartupReport.Entry> beans = new LinkedHashMap<>();
+		final Map<String, StartupReport.Entry> configurations = new LinkedHashMap<>();
+
+		for(StartupTimeline.TimelineEvent event : events){
+			final Long parentId = event.getStartupStep().getParentId();
+
+			if(parentId != null){
+				childrenDurations.merge(parentId, event.getDuration(), Duration::plus);
+			}
+		}
+
+		for(StartupTimeline.TimelineEvent event : events){
+			final StartupStep step = event.getStartupStep();
+			final double time = toMillis(event.getDuration().minus(childrenDurations.getOrDefault(step.getId(),
+					Duration.ZERO)));
+
+			steps.computeIfAbsent(step.getName(), StartupReport.Entry::new).add(time);
+
+			if(BEAN_INSTANTIATE_STEP.equals(step.getName())){
+				final String beanName = getTag(step, "beanName");
+
+				if(beanName != null){
+					beans.computeIfAbsent(beanName, StartupReport.Entry::new).add(time);
+
+					final String configuration = determineConfiguration(beanFactory, beanName);
+
+					if(configuration != null){
+						configurations.computeIfAbsent(configuration, StartupReport.Entry::new).add(time);
+					}
+				}
+			}
+		}
+
+		collectConditions(beanFactory, configurations);
+
+		// Buession 的自动配置即使未生效也列出，便于确认其是否被加载
+		for(String name : SpringFactoriesLoader.loadFactoryNames(EnableAutoConfiguration.class,
+				beanFactory.getBeanClassLoader())){
+			if(name.startsWith(BUESSION_PACKAGE)){
+				configurations.computeIfAbsent(name, StartupReport.Entry::new);
+			}
+		}
+
+		final StartupReport report = new StartupReport();
+
+		report.setTotalTime(Duration.between(timeline.getStartTime(), Instant.now()).toMillis());
+		report.setConfigurations(rank(configurations.values()));
+		report.setBeans(rank(beans.values()));
+		report.setSteps(rank(steps.values()));
+
+		return report;
+	}
+
+	private static void collectConditions(final ConfigurableListableBeanFactory beanFactory,
+										  final Map<String, StartupReport.Entry> configurations) {
+		final ConditionEvaluationReport conditionEvaluationReport = ConditionEvaluationReport.find(beanFactory);
+
+		if(conditionEvaluationReport == null){
+			return;
+		}
+
+		conditionEvaluationReport.getConditionAndOutcomesBySource().forEach((source, conditionAndOutcomes)->{
+			final int i = source.indexOf('#');
+			final StartupReport.Entry entry = configurations.computeIfAbsent(
+					outerClassName(i > -1 ? source.substring(0, i) : source), StartupReport.Entry::new);
+
+			conditionAndOutcomes.forEach((conditionAndOutcome)->{
+				if(conditionAndOutcome.getOutcome().isMatch() == false){
+					if(entry.getConditions() == null){
+						entry.setConditions(new ArrayList<>());
+					}
+
+					entry.getConditions().add(source + ": " + conditionAndOutcome.getOutcome().getMessage());
+				}
+			});
+		});
+	}
+
+	private static String determineConfiguration(final ConfigurableListableBeanFactory beanFactory,
+												 final String beanName) {
+		if(beanFactory.containsBeanDefinition(beanName) == false){
+			return null;
+		}
+
+		final BeanDefinition beanDefinition = beanFactory.getMergedBeanDefinition(beanName);
+
+		if(beanDefinition.getFactoryBeanName() != null){
+			return determineConfigurationClassName(beanFactory, beanDefinition.getFactoryBeanName());
+		}else if(beanDefinition.getAttribute(CONFIGURATION_CLASS_ATTRIBUTE) != null){
+			return determineConfigurationClassName(beanFactory, beanName);
+		}else{
+			return null;
+		}
+	}
+
+	private static String determineConfigurationClassName(final ConfigurableListableBeanFactory beanFactory,
+														  final String beanName) {
+		final Class<?> type = beanFactory.getType(beanName, false);
+		return type == null ? beanName : outerClassName(ClassUtils.getUserClass(type).getName());
+	}
+
+	private static String outerClassName(final String className) {
+		final int i = className.indexOf('$');
+		return i > -1 ? className.substring(0, i) : className;
+	}
+
+	private static String getTag(final StartupStep step, final String key) {
+		for(StartupStep.Tag tag : step.getTags()){
+			if(key.equals(tag.getKey())){
+				return tag.getValue();
+			}
+		}
+
+		return null;
+	}
+
+	private static List<StartupReport.Entry> rank(final Collection<StartupReport.Entry> entries) {
+		final List<StartupReport.Entry> result = new ArrayList<>(entries);
+
+		for(StartupReport.Entry entry : result){
+			entry.setTime(Math.round(entry.getTime() * 1000) / 1000D);
+		}
+
+		result.sort(Comparator.comparingDouble(StartupReport.Entry::getTime).reversed());
+
+		return result;
+	}
+
+	private static double toMillis(final Duration duration) {
+		return duration.toNanos() / 1000000D;
+	}
+
+	private static String format(final StartupReport report, final int top) {
+		final StringBuilder sb = new StringBuilder(4096);
+
+		sb.append("Startup profiling report, total ").append(report.getTotalTime()).append("ms");
+
+		format(sb, "configurations", report.getConfigurations(), top);
+		format(sb, "beans", report.getBeans(), top);
+		format(sb, "steps", report.getSteps(), top);
+
+		return sb.toString();
+	}
+
+	private static void format(final StringBuilder sb, final String title, final List<StartupReport.Entry> entries,
+							   final int top) {
+		sb.append(System.lineSeparator()).append("Top ").append(title).append(':');
+
+		for(int i = 0, size = Math.min(top, entries.size()); i < size; i++){
+			final StartupReport.Entry entry = entries.get(i);
+
+			sb.append(System.lineSeparator()).append(String.format("%4d. %10.3fms  x%-4d %s", i + 1, entry.getTime(),
+					entry.getCount(), entry.getName()));
+
+			if(entry.getConditions() != null){
+				sb.append("  (").append(entry.getConditions().size()).append(" conditions not matched)");
+			}
+		}
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 启动耗时报告，耗时单位为毫秒
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class StartupReport {
+
+	/**
+	 * 启动总耗时
+	 */
+	private long totalTime;
+
+	/**
+	 * 配置类耗时，嵌套配置类计入其外部类，按耗时降序排列
+	 */
+	private List<Entry> configurations = new ArrayList<>();
+
+	/**
+	 * Bean 实例化耗时（不含其依赖的 Bean 的实例化耗时），按耗时降序排列
+	 */
+	private List<Entry> beans = new ArrayList<>();
+
+	/**
+	 * 启动步骤耗时，按耗时降序排列
+	 */
+	private List<Entry> steps = new ArrayList<>();
+
+	public long getTotalTime() {
+		return totalTime;
+	}
+
+	public void setTotalTime(long totalTime) {
+		this.totalTime = totalTime;
+	}
+
+	public List<Entry> getConfigurations() {
+		return configurations;
+	}
+
+	public void setConfigurations(List<Entry> configurations) {
+		this.configurations = configurations;
+	}
+
+	public List<Entry> getBeans() {
+		return beans;
+	}
+
+	public void setBeans(List<Entry> beans) {
+		this.beans = beans;
+	}
+
+	public List<Entry> getSteps() {
+		return steps;
+	}
+
+	public void setSteps(List<Entry> steps) {
+		this.steps = steps;
+	}
+
+	/**
+	 * 耗时项
+	 */
+	public final static class Entry {
+
+		/**
+		 * 名称
+		 */
+		private String name;
+
+		/**
+		 * 耗时
+		 */
+		private double time;
+
+		/**
+		 * 次数；对于配置类，为其创建的 Bean 数
+		 */
+		private int count;
+
+		/**
+		 * 条件评估结果，仅配置类有效；条件全部匹配时为空
+		 */
+		private List<String> conditions;
+
+		public Entry() {
+		}
+
+		public Entry(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public double getTime() {
+			return time;
+		}
+
+		public void setTime(double time) {
+			this.time = time;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public List<String> getConditions() {
+			return conditions;
+		}
+
+		public void setConditions(List<String> conditions) {
+			this.conditions = conditions;
+		}
+
+		void add(final double time) {
+			this.time += time;
+			count++;
+		}
+
+	}
+
+}
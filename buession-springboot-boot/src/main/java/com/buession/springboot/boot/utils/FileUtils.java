@@ -44,12 +44,38 @@ public class FileUtils {
 
 	public final static BigInteger ONE_EB_BI = ONE_KB_BI.multiply(ONE_PB_BI);
 
+	public final static long ONE_KB = 1024L;
+
+	public final static long ONE_MB = ONE_KB * ONE_KB;
+
+	public final static long ONE_GB = ONE_KB * ONE_MB;
+
+	public final static long ONE_TB = ONE_KB * ONE_GB;
+
+	public final static long ONE_PB = ONE_KB * ONE_TB;
+
+	public final static long ONE_EB = ONE_KB * ONE_PB;
+
 	private FileUtils(){
 
 	}
 
 	public static String byteCountToDisplaySize(final long size){
-		return byteCountToDisplaySize(BigInteger.valueOf(size));
+		if(size / ONE_EB > 0){
+			return size / ONE_EB + " EB";
+		}else if(size / ONE_PB > 0){
+			return size / ONE_PB + " PB";
+		}else if(size / ONE_TB > 0){
+			return size / ONE_TB + " TB";
+		}else if(size / ONE_GB > 0){
+			return size / ONE_GB + " GB";
+		}else if(size / ONE_MB > 0){
+			return size / ONE_MB + " MB";
+		}else if(size / ONE_KB > 0){
+			return size / ONE_KB + " KB";
+		}else{
+			return size + " bytes";
+		}
 	}
 
 	public static String byteCountToDisplaySize(final BigInteger size){
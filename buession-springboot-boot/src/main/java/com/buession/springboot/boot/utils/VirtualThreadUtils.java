@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.utils;
+
+import com.buession.core.validator.Validate;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 虚拟线程工具类，在 JDK 21+ 上通过反射创建虚拟线程；当前 JVM 不支持虚拟线程时，{@link #isSupported()} 返回 false
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class VirtualThreadUtils {
+
+	private final static Method OF_VIRTUAL_METHOD;
+
+	private final static Method NAME_METHOD;
+
+	private final static Method FACTORY_METHOD;
+
+	private final static Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+
+	private final static boolean SUPPORTED;
+
+	static {
+		Method ofVirtualMethod = null;
+		Method nameMethod = null;
+		Method factoryMethod = null;
+		Method newThreadPerTaskExecutorMethod = null;
+		boolean supported;
+
+		try{
+			ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+			nameMethod = Class.forName("java.lang.Thread$Builder").getMethod("name", String.class, long.class);
+			factoryMethod = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+			newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor",
+					ThreadFactory.class);
+
+			// JDK 19/20 未开启 --enable-preview 时，Thread.ofVirtual() 会抛出 UnsupportedOperationException
+			factoryMethod.invoke(ofVirtualMethod.invoke(null));
+			supported = true;
+		}catch(Throwable e){
+			supported = false;
+		}
+
+		OF_VIRTUAL_METHOD = ofVirtualMethod;
+		NAME_METHOD = nameMethod;
+		FACTORY_METHOD = factoryMethod;
+		NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+		SUPPORTED = supported;
+	}
+
+	private VirtualThreadUtils() {
+
+	}
+
+	/**
+	 * 返回当前 JVM 是否支持虚拟线程
+	 *
+	 * @return 当前 JVM 是否支持虚拟线程
+	 */
+	public static boolean isSupported() {
+		return SUPPORTED;
+	}
+
+	/**
+	 * 创建虚拟线程工厂
+	 *
+	 * @param namePrefix
+	 * 		线程名称前缀，为空时，创建的虚拟线程不命名
+	 *
+	 * @return 虚拟线程工厂
+	 *
+	 * @throws UnsupportedOperationException
+	 * 		当前 JVM 不支持虚拟线程
+	 */
+	public static ThreadFactory createThreadFactory(final String namePrefix) {
+		assertSupported();
+
+		try{
+			Object builder = OF_VIRTUAL_METHOD.invoke(null);
+
+			if(Validate.hasText(namePrefix)){
+				builder = NAME_METHOD.invoke(builder, namePrefix, 1L);
+			}
+
+			return (ThreadFactory) FACTORY_METHOD.invoke(builder);
+		}catch(ReflectiveOperationException e){
+			throw new IllegalStateException("Could not create virtual thread factory: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 创建每个任务一个虚拟线程的 {@link ExecutorService}
+	 *
+	 * @param namePrefix
+	 * 		线程名称前缀，为空时，创建的虚拟线程不命名
+	 *
+	 * @return {@link ExecutorService}
+	 *
+	 * @throws UnsupportedOperationException
+	 * 		当前 JVM 不支持虚拟线程
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(final String namePrefix) {
+		return newThreadPerTaskExecutor(createThreadFactory(namePrefix));
+	}
+
+	/**
+	 * 创建每个任务一个线程的 {@link ExecutorService}，线程由 threadFactory 在提交任务的线程中创建
+	 *
+	 * @param threadFactory
+	 * 		线程工厂
+	 *
+	 * @return {@link ExecutorService}
+	 *
+	 * @throws UnsupportedOperationException
+	 * 		当前 JVM 不支持虚拟线程
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+		assertSupported();
+
+		try{
+			return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+		}catch(ReflectiveOperationException e){
+			throw new IllegalStateException("Could not create virtual thread executor: " + e.getMessage(), e);
+		}
+	}
+
+	private static void assertSupported() {
+		if(SUPPORTED == false){
+			throw new UnsupportedOperationException(
+					"Virtual threads are not supported by current JVM: " + System.getProperty("java.version"));
+		}
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 应用预热监听器，在 {@link ApplicationStartedEvent}（上下文刷新完成、应用就绪之前）时并行执行所有
+ * {@link ApplicationWarmer} Bean，在时间预算内未完成的预热器将被中断
+ * <p>通过 spring.warm-up.enabled 开启或关闭，默认开启；spring.warm-up.timeout 指定时间预算，默认 30 秒；
+ * spring.warm-up.parallelism 指定并行度，默认为 CPU 核数。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class ApplicationWarmUpListener implements ApplicationListener<ApplicationStartedEvent> {
+
+	/**
+	 * 配置前缀
+	 */
+	public final static String PREFIX = "spring.warm-up";
+
+	/**
+	 * 默认时间预算
+	 */
+	public final static Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+	private final static Logger logger = LoggerFactory.getLogger(ApplicationWarmUpListener.class);
+
+	@Override
+	public void onApplicationEvent(@NonNull ApplicationStartedEvent event) {
+		final ConfigurableApplicationContext applicationContext = event.getApplicationContext();
+		final Environment environment = applicationContext.getEnvironment();
+
+		if(environment.getProperty(PREFIX + ".enabled", Boolean.class, true) == false){
+			return;
+		}
+
+		final List<ApplicationWarmer> warmers = applicationContext.getBeanProvider(ApplicationWarmer.class)
+				.orderedStream().collect(Collectors.toList());
+
+		if(warmers.isEmpty()){
+			return;
+		}
+
+		final Duration timeout = environment.getProperty(PREFIX + ".timeout", Duration.class, DEFAULT_TIMEOUT);
+		final int parallelism = Math.min(warmers.size(), environment.getProperty(PREFIX + ".parallelism",
+				Integer.class, Runtime.getRuntime().availableProcessors()));
+
+		warmUp(warmers, timeout, Math.max(parallelism, 1));
+	}
+
+	protected void warmUp(final List<ApplicationWarmer> warmers, final Duration timeout, final int parallelism) {
+		final AtomicInteger threadNumber = new AtomicInteger(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(parallelism, (runnable)->{
+			final Thread thread = new Thread(runnable, "warm-up-" + threadNumber.getAndIncrement());
+
+			thread.setDaemon(true);
+			return thread;
+		});
+		final List<Callable<Long>> tasks = new ArrayList<>(warmers.size());
+
+		for(ApplicationWarmer warmer : warmers){
+			tasks.add(()->{
+				final long start = System.nanoTime();
+
+				warmer.warmUp();
+				return System.nanoTime() - start;
+			});
+		}
+
+		final long start = System.nanoTime();
+
+		try{
+			final List<Future<Long>> futures = executor.invokeAll(tasks, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+			for(int i = 0; i < futures.size(); i++){
+				report(warmers.get(i), futures.get(i), timeout);
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}finally{
+			executor.shutdownNow();
+		}
+
+		if(logger.isInfoEnabled()){
+			logger.info("Warm-up {} warmer(s) finished in {} ms.", warmers.size(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+	}
+
+	private static void report(final ApplicationWarmer warmer, final Future<Long> future, final Duration timeout) {
+		try{
+			final long elapsed = future.get();
+
+			if(logger.isDebugEnabled()){
+				logger.debug("Warmer {} finished in {} ms.", warmer.getName(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+			}
+		}catch(CancellationException e){
+			logger.warn("Warmer {} has not finished within {} ms, cancelled.", warmer.getName(), timeout.toMillis());
+		}catch(ExecutionException e){
+			logger.warn("Warmer {} failure: {}", warmer.getName(), e.getCause().getMessage());
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.warmup;
+
+/**
+ * 应用预热器，应用上下文刷新完成后、应用就绪（接收流量）前执行，用于预先建立连接池、加载数据文件、编译模板等，
+ * 消除应用启动后首批请求的延迟尖刺
+ * <p>注册为 Bean 后由 {@link ApplicationWarmUpListener} 并行执行，所有预热器共享
+ * spring.warm-up.timeout 指定的时间预算；预热失败或超时不影响应用启动。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@FunctionalInterface
+public interface ApplicationWarmer {
+
+	/**
+	 * 执行预热
+	 *
+	 * @throws Exception
+	 * 		预热异常
+	 */
+	void warmUp() throws Exception;
+
+	/**
+	 * 返回预热器名称
+	 *
+	 * @return 预热器名称
+	 */
+	default String getName() {
+		return getClass().getSimpleName();
+	}
+
+}
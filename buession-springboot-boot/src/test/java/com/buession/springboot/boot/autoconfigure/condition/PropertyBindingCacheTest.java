@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.autoconfigure.condition;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
+import org.springframework.core.env.AbstractEnvironment;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class PropertyBindingCacheTest {
+
+	@Test
+	public void bindHitsCacheUntilInvalidated(){
+		final Map<String, Object> properties = new HashMap<>();
+		final ConfigurableEnvironment environment = createEnvironment(properties);
+
+		properties.put("test.name", "first");
+		Assert.assertEquals("first", PropertyBindingCache.bind(environment, "test.name", Bindable.of(String.class)));
+
+		properties.put("test.name", "second");
+		Assert.assertEquals("first", PropertyBindingCache.bind(environment, "test.name", Bindable.of(String.class)));
+
+		PropertyBindingCache.invalidate(environment);
+		Assert.assertEquals("second", PropertyBindingCache.bind(environment, "test.name", Bindable.of(String.class)));
+	}
+
+	@Test
+	public void bindInvalidatedWhenPropertySourcesChanged(){
+		final Map<String, Object> properties = new HashMap<>();
+		final ConfigurableEnvironment environment = createEnvironment(properties);
+
+		properties.put("test.name", "first");
+		Assert.assertEquals("first", PropertyBindingCache.bind(environment, "test.name", Bindable.of(String.class)));
+
+		final Map<String, Object> overrides = new HashMap<>();
+
+		overrides.put("test.name", "override");
+		environment.getPropertySources().addFirst(new MapPropertySource("overrides", overrides));
+		Assert.assertEquals("override", PropertyBindingCache.bind(environment, "test.name", Bindable.of(String.class)));
+
+		environment.getPropertySources().remove("overrides");
+		Assert.assertEquals("first", PropertyBindingCache.bind(environment, "test.name", Bindable.of(String.class)));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void bindReturnsUnmodifiableCollection(){
+		final Map<String, Object> properties = new HashMap<>();
+		final ConfigurableEnvironment environment = createEnvironment(properties);
+
+		properties.put("test.urls[0]", "http://localhost");
+		final List<String> urls = PropertyBindingCache.bind(environment, "test.urls", Bindable.listOf(String.class));
+
+		Assert.assertEquals(1, urls.size());
+		urls.add("http://127.0.0.1");
+	}
+
+	@Test
+	public void getStateDetectsDescendants(){
+		final Map<String, Object> properties = new HashMap<>();
+		final ConfigurableEnvironment environment = createEnvironment(properties);
+
+		properties.put("test.datasource.primary.url", "jdbc:h2:mem:test");
+		properties.put("test.urls[0]", "http://localhost");
+
+		Assert.assertEquals(ConfigurationPropertyState.PRESENT, PropertyBindingCache.getState(environment, "test"));
+		Assert.assertEquals(ConfigurationPropertyState.PRESENT,
+				PropertyBindingCache.getState(environment, "test.datasource"));
+		Assert.assertEquals(ConfigurationPropertyState.PRESENT,
+				PropertyBindingCache.getState(environment, "test.datasource.primary.url"));
+		Assert.assertEquals(ConfigurationPropertyState.PRESENT, PropertyBindingCache.getState(environment, "test.urls"));
+		Assert.assertEquals(ConfigurationPropertyState.ABSENT, PropertyBindingCache.getState(environment, "test.redis"));
+	}
+
+	@Test
+	public void conditionTreatsDescendantAsPresent(){
+		final Map<String, Object> properties = new HashMap<>();
+		final ConfigurableEnvironment environment = createEnvironment(properties);
+		final TestCondition condition = new TestCondition();
+
+		Assert.assertFalse(condition.isPropertyExists(environment));
+
+		properties.put("test.datasource.primary.url", "jdbc:h2:mem:test");
+		PropertyBindingCache.invalidate(environment);
+		Assert.assertTrue(condition.isPropertyExists(environment));
+	}
+
+	@Test
+	public void mapConditionTreatsDescendantAsPresent(){
+		final Map<String, Object> properties = new HashMap<>();
+		final ConfigurableEnvironment environment = createEnvironment(properties);
+		final TestMapCondition condition = new TestMapCondition();
+
+		Assert.assertFalse(condition.isPropertyExists(environment));
+
+		properties.put("test.datasource.primary.url", "jdbc:h2:mem:test");
+		PropertyBindingCache.invalidate(environment);
+		Assert.assertTrue(condition.isPropertyExists(environment));
+		Assert.assertEquals(1, condition.getRegistrations(environment).size());
+	}
+
+	private static ConfigurableEnvironment createEnvironment(final Map<String, Object> properties){
+		final ConfigurableEnvironment environment = new AbstractEnvironment() {
+
+		};
+
+		environment.getPropertySources().addLast(new MapPropertySource("test", properties));
+
+		return environment;
+	}
+
+	private final static class TestCondition extends BaseOnPropertyExistCondition<Map<String, Object>> {
+
+		TestCondition(){
+			super("test.datasource", "test datasource", Bindable.mapOf(String.class, Object.class),
+					"TestCondition");
+		}
+
+	}
+
+	private final static class TestMapCondition extends BaseMapOnPropertyExistCondition<Object> {
+
+		TestMapCondition(){
+			super("test.datasource", "test datasource", Bindable.mapOf(String.class, Object.class),
+					"TestMapCondition");
+		}
+
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class AdaptiveThreadPoolSizerTest {
+
+	@Test
+	public void stepUpWhenTasksAreQueued() throws InterruptedException{
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 16, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>());
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		try{
+			for(int i = 0; i < 20; i++){
+				executor.execute(()->await(latch));
+			}
+
+			final AdaptiveThreadPoolSizer sizer = createSizer(executor, 1, 16);
+
+			waitForActiveCount(executor, 2);
+			sizer.adjust();
+			Assert.assertTrue(executor.getCorePoolSize() > 2);
+
+			final int size = executor.getCorePoolSize();
+			waitForActiveCount(executor, size);
+			sizer.adjust();
+			Assert.assertTrue(executor.getCorePoolSize() > size);
+			Assert.assertTrue(executor.getCorePoolSize() <= 16);
+		}finally{
+			latch.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void stepDownToMinPoolSizeWhenIdle(){
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(8, 16, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>());
+
+		try{
+			final AdaptiveThreadPoolSizer sizer = createSizer(executor, 2, 16);
+
+			sizer.adjust();
+			Assert.assertTrue(executor.getCorePoolSize() < 8);
+			Assert.assertTrue(executor.getCorePoolSize() > 2);
+
+			for(int i = 0; i < 10; i++){
+				sizer.adjust();
+			}
+			Assert.assertEquals(2, executor.getCorePoolSize());
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void neverExceedMaxPoolSize() throws InterruptedException{
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(3, 16, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>());
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		try{
+			for(int i = 0; i < 50; i++){
+				executor.execute(()->await(latch));
+			}
+
+			final AdaptiveThreadPoolSizer sizer = createSizer(executor, 1, 4);
+
+			for(int i = 0; i < 10; i++){
+				waitForActiveCount(executor, executor.getCorePoolSize());
+				sizer.adjust();
+			}
+			Assert.assertEquals(4, executor.getCorePoolSize());
+		}finally{
+			latch.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	private static AdaptiveThreadPoolSizer createSizer(final ThreadPoolExecutor executor, final int minPoolSize,
+													   final int maxPoolSize){
+		// CPU 使用率上限为 1，避免测试结果受机器负载影响
+		return new AdaptiveThreadPoolSizer(executor, minPoolSize, maxPoolSize, Duration.ofSeconds(1),
+				Duration.ofMillis(10), 0.8, 1.0);
+	}
+
+	private static void waitForActiveCount(final ThreadPoolExecutor executor, final int count)
+			throws InterruptedException{
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while(executor.getActiveCount() < count && System.nanoTime() < deadline){
+			Thread.sleep(5);
+		}
+	}
+
+	private static void await(final CountDownLatch latch){
+		try{
+			latch.await();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.boot.concurrent;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class ExecutorServiceLifecycleTest {
+
+	@Test
+	public void discardQueuedTasksWithoutInterruptingRunningTask() throws InterruptedException{
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>());
+		final CountDownLatch started = new CountDownLatch(1);
+		final AtomicBoolean interrupted = new AtomicBoolean();
+		final AtomicBoolean finished = new AtomicBoolean();
+		final AtomicInteger executed = new AtomicInteger();
+
+		executor.execute(()->{
+			started.countDown();
+
+			try{
+				Thread.sleep(300);
+				finished.set(true);
+			}catch(InterruptedException e){
+				interrupted.set(true);
+			}
+		});
+		for(int i = 0; i < 5; i++){
+			executor.execute(executed::incrementAndGet);
+		}
+		started.await();
+
+		final ExecutorServiceLifecycle lifecycle = new ExecutorServiceLifecycle(executor, "test",
+				Duration.ofSeconds(5), false);
+
+		lifecycle.start();
+		lifecycle.stop();
+
+		Assert.assertFalse(interrupted.get());
+		Assert.assertTrue(finished.get());
+		Assert.assertEquals(0, executed.get());
+		Assert.assertEquals(5, lifecycle.getAbandonedTaskCount());
+		Assert.assertTrue(executor.isTerminated());
+	}
+
+	@Test
+	public void drainQueuedTasks(){
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>());
+		final AtomicInteger executed = new AtomicInteger();
+
+		for(int i = 0; i < 5; i++){
+			executor.execute(executed::incrementAndGet);
+		}
+
+		final ExecutorServiceLifecycle lifecycle = new ExecutorServiceLifecycle(executor, "test",
+				Duration.ofSeconds(5), true);
+
+		lifecycle.start();
+		lifecycle.stop();
+
+		Assert.assertEquals(5, executed.get());
+		Assert.assertEquals(0, lifecycle.getAbandonedTaskCount());
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.autoconfigure;
+
+import com.buession.core.validator.Validate;
+import org.springframework.beans.factory.BeanInitializationException;
+import redis.clients.jedis.Jedis;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 根据 {@link RedisProperties} 创建独立于 RedisTemplate 连接池的 Jedis 连接，供近端缓存失效通知、命令自动批量管道等使用
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+final class JedisConnectionFactory {
+
+	private JedisConnectionFactory() {
+
+	}
+
+	/**
+	 * 创建 Jedis 连接工厂；集群模式连接第一个节点，哨兵模式通过哨兵查询当前 Master
+	 *
+	 * @param properties
+	 * 		Redis 配置
+	 *
+	 * @return Jedis 连接工厂
+	 */
+	static Supplier<Jedis> create(final RedisProperties properties) {
+		final int connectTimeout = (int) properties.getConnectTimeout().toMillis();
+		final int soTimeout = (int) properties.getSoTimeout().toMillis();
+
+		if(properties.getCluster() != null && Validate.isNotEmpty(properties.getCluster().getNodes())){
+			final String[] node = parseNode(properties.getCluster().getNodes().iterator().next());
+
+			return ()->initialize(new Jedis(node[0], Integer.parseInt(node[1]), connectTimeout, soTimeout),
+					properties);
+		}else if(properties.getSentinel() != null && Validate.isNotEmpty(properties.getSentinel().getNodes())){
+			final RedisProperties.Sentinel sentinel = properties.getSentinel();
+
+			return ()->{
+				for(String sentinelNode : sentinel.getNodes()){
+					final String[] node = parseNode(sentinelNode);
+
+					try(Jedis jedis = new Jedis(node[0], Integer.parseInt(node[1]),
+							(int) sentinel.getConnectTimeout().toMillis(), (int) sentinel.getSoTimeout().toMillis())){
+						final List<String> master = jedis.sentinelGetMasterAddrByName(sentinel.getMasterName());
+
+						if(master != null && master.size() == 2){
+							return initialize(new Jedis(master.get(0), Integer.parseInt(master.get(1)),
+									connectTimeout, soTimeout), properties);
+						}
+					}catch(RuntimeException e){
+						// 尝试下一个哨兵节点
+					}
+				}
+
+				throw new IllegalStateException("Cannot resolve redis master [" + sentinel.getMasterName() +
+						"] from sentinels " + sentinel.getNodes());
+			};
+		}else if(Validate.hasText(properties.getHost())){
+			return ()->initialize(new Jedis(properties.getHost(), properties.getPort(), connectTimeout, soTimeout),
+					properties);
+		}else if(Validate.hasText(properties.getUri())){
+			final URI uri = URI.create(properties.getUri());
+			return ()->new Jedis(uri, connectTimeout, soTimeout);
+		}else{
+			throw new BeanInitializationException("Redis host or uri cloud not be null and empty.");
+		}
+	}
+
+	private static Jedis initialize(final Jedis jedis, final RedisProperties properties) {
+		try{
+			if(Validate.hasText(properties.getPassword())){
+				if(Validate.hasText(properties.getUsername())){
+					jedis.auth(properties.getUsername(), properties.getPassword());
+				}else{
+					jedis.auth(properties.getPassword());
+				}
+			}
+
+			if(properties.getDatabase() != 0){
+				jedis.select(properties.getDatabase());
+			}
+
+			if(Validate.hasText(properties.getClientName())){
+				jedis.clientSetname(properties.getClientName());
+			}
+		}catch(RuntimeException e){
+			jedis.close();
+			throw e;
+		}
+
+		return jedis;
+	}
+
+	private static String[] parseNode(final String node) {
+		final int i = node.lastIndexOf(':');
+
+		if(i < 0){
+			throw new BeanInitializationException("Invalid redis node: " + node + ", expected host:port.");
+		}
+
+		return new String[]{node.substring(0, i), node.substring(i + 1)};
+	}
+
+}
@@ -27,12 +27,16 @@ package com.buession.springboot.cache.redis.autoconfigure;
 import com.buession.redis.RedisTemplate;
 import com.buession.redis.client.connection.datasource.DataSource;
 import com.buession.redis.core.Options;
+import com.buession.springboot.boot.startup.ParallelInitializationPostProcessor;
+import com.buession.springboot.cache.redis.warmup.RedisDataSourceParallelInitializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -76,4 +80,16 @@ public class RedisConfiguration {
 		return template;
 	}
 
+	@Bean
+	@ConditionalOnProperty(prefix = ParallelInitializationPostProcessor.PREFIX, name = "enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	public static RedisDataSourceParallelInitializer redisDataSourceParallelInitializer() {
+		return new RedisDataSourceParallelInitializer();
+	}
+
+	@Bean
+	public static LazyInitializationExcludeFilter redisLazyInitializationExcludeFilter() {
+		return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, RedisTemplate.class);
+	}
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.autoconfigure;
+
+import com.buession.springboot.cache.redis.nearcache.NearCache;
+import com.buession.springboot.cache.redis.nearcache.NearCacheInvalidationChannel;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import redis.clients.jedis.Jedis;
+
+/**
+ * Redis 近端缓存自动配置
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(RedisProperties.class)
+@ConditionalOnProperty(prefix = "spring.redis", name = "near-cache.enabled", havingValue = "true")
+@AutoConfigureAfter({RedisConfiguration.class})
+public class RedisNearCacheConfiguration {
+
+	private final RedisProperties properties;
+
+	public RedisNearCacheConfiguration(RedisProperties properties) {
+		this.properties = properties;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public NearCache redisNearCache() {
+		final RedisProperties.NearCache nearCache = properties.getNearCache();
+		return new NearCache(nearCache.getMaximumSize(), nearCache.getExpireAfterWrite());
+	}
+
+	@Bean(initMethod = "start", destroyMethod = "stop")
+	@ConditionalOnBean(NearCache.class)
+	@ConditionalOnClass(Jedis.class)
+	@ConditionalOnExpression("'${spring.redis.near-cache.invalidation-channel:buession:near-cache:invalidation}' != ''")
+	@ConditionalOnMissingBean
+	public NearCacheInvalidationChannel redisNearCacheInvalidationChannel(NearCache nearCache) {
+		final RedisProperties.NearCache config = properties.getNearCache();
+		return new NearCacheInvalidationChannel(nearCache, config.getInvalidationChannel(),
+				JedisConnectionFactory.create(properties), config.getInvalidationRetryInterval());
+	}
+
+}
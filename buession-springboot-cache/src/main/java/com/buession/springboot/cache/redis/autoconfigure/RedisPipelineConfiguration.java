@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.autoconfigure;
+
+import com.buession.core.validator.Validate;
+import com.buession.springboot.cache.redis.pipeline.RedisCommandBatcher;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import redis.clients.jedis.Jedis;
+
+/**
+ * Redis 命令自动批量管道自动配置
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(RedisProperties.class)
+@ConditionalOnClass(Jedis.class)
+@ConditionalOnProperty(prefix = "spring.redis", name = "pipeline.enabled", havingValue = "true")
+@AutoConfigureAfter({RedisConfiguration.class})
+public class RedisPipelineConfiguration {
+
+	private final RedisProperties properties;
+
+	public RedisPipelineConfiguration(RedisProperties properties) {
+		this.properties = properties;
+	}
+
+	@Bean(initMethod = "start", destroyMethod = "stop")
+	@ConditionalOnMissingBean
+	public RedisCommandBatcher redisCommandBatcher() {
+		if(properties.getCluster() != null && Validate.isNotEmpty(properties.getCluster().getNodes())){
+			throw new BeanInitializationException("Redis command pipeline is not supported in cluster mode.");
+		}
+
+		final RedisProperties.Pipeline pipeline = properties.getPipeline();
+		return new RedisCommandBatcher(JedisConnectionFactory.create(properties), properties.getKeyPrefix(),
+				pipeline.getMaxBatchSize(), pipeline.getFlushInterval(), pipeline.getMaxPendingCommands(),
+				pipeline.getMaxConnections(), null);
+	}
+
+}
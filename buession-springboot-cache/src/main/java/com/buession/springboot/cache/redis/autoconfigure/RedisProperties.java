@@ -122,6 +122,20 @@ public class RedisProperties {
 	 */
 	private PoolConfig pool;
 
+	/**
+	 * 近端缓存配置
+	 *
+	 * @since 2.3.4
+	 */
+	private NearCache nearCache = new NearCache();
+
+	/**
+	 * 命令自动批量管道配置
+	 *
+	 * @since 2.3.4
+	 */
+	private Pipeline pipeline = new Pipeline();
+
 	/**
 	 * 返回 Redis URI
 	 *
@@ -442,6 +456,52 @@ public class RedisProperties {
 		this.pool = pool;
 	}
 
+	/**
+	 * 返回近端缓存配置
+	 *
+	 * @return 近端缓存配置
+	 *
+	 * @since 2.3.4
+	 */
+	public NearCache getNearCache(){
+		return nearCache;
+	}
+
+	/**
+	 * 设置近端缓存配置
+	 *
+	 * @param nearCache
+	 * 		近端缓存配置
+	 *
+	 * @since 2.3.4
+	 */
+	public void setNearCache(NearCache nearCache){
+		this.nearCache = nearCache;
+	}
+
+	/**
+	 * 返回命令自动批量管道配置
+	 *
+	 * @return 命令自动批量管道配置
+	 *
+	 * @since 2.3.4
+	 */
+	public Pipeline getPipeline(){
+		return pipeline;
+	}
+
+	/**
+	 * 设置命令自动批量管道配置
+	 *
+	 * @param pipeline
+	 * 		命令自动批量管道配置
+	 *
+	 * @since 2.3.4
+	 */
+	public void setPipeline(Pipeline pipeline){
+		this.pipeline = pipeline;
+	}
+
 	/**
 	 * Redis sentinel properties
 	 *
@@ -654,4 +714,264 @@ public class RedisProperties {
 
 	}
 
+	/**
+	 * Redis 近端缓存配置
+	 *
+	 * @author yong.teng
+	 * @since 2.3.4
+	 */
+	public final static class NearCache {
+
+		/**
+		 * 是否启用近端缓存
+		 */
+		private boolean enabled;
+
+		/**
+		 * 最大缓存条数
+		 */
+		private int maximumSize = 10000;
+
+		/**
+		 * 写入后过期时间，失效通知丢失时，旧值最长保留该时长
+		 */
+		private Duration expireAfterWrite = Duration.ofSeconds(60);
+
+		/**
+		 * 失效通知频道，为空时不启用失效通知，仅依赖过期时间
+		 */
+		private String invalidationChannel = "buession:near-cache:invalidation";
+
+		/**
+		 * 失效通知订阅断开后的重连间隔
+		 */
+		private Duration invalidationRetryInterval = Duration.ofSeconds(1);
+
+		/**
+		 * 返回是否启用近端缓存
+		 *
+		 * @return 是否启用近端缓存
+		 */
+		public boolean isEnabled(){
+			return enabled;
+		}
+
+		/**
+		 * 设置是否启用近端缓存
+		 *
+		 * @param enabled
+		 * 		是否启用近端缓存
+		 */
+		public void setEnabled(boolean enabled){
+			this.enabled = enabled;
+		}
+
+		/**
+		 * 返回最大缓存条数
+		 *
+		 * @return 最大缓存条数
+		 */
+		public int getMaximumSize(){
+			return maximumSize;
+		}
+
+		/**
+		 * 设置最大缓存条数
+		 *
+		 * @param maximumSize
+		 * 		最大缓存条数
+		 */
+		public void setMaximumSize(int maximumSize){
+			this.maximumSize = maximumSize;
+		}
+
+		/**
+		 * 返回写入后过期时间
+		 *
+		 * @return 写入后过期时间
+		 */
+		public Duration getExpireAfterWrite(){
+			return expireAfterWrite;
+		}
+
+		/**
+		 * 设置写入后过期时间
+		 *
+		 * @param expireAfterWrite
+		 * 		写入后过期时间
+		 */
+		public void setExpireAfterWrite(Duration expireAfterWrite){
+			this.expireAfterWrite = expireAfterWrite;
+		}
+
+		/**
+		 * 返回失效通知频道
+		 *
+		 * @return 失效通知频道
+		 */
+		public String getInvalidationChannel(){
+			return invalidationChannel;
+		}
+
+		/**
+		 * 设置失效通知频道
+		 *
+		 * @param invalidationChannel
+		 * 		失效通知频道
+		 */
+		public void setInvalidationChannel(String invalidationChannel){
+			this.invalidationChannel = invalidationChannel;
+		}
+
+		/**
+		 * 返回失效通知订阅断开后的重连间隔
+		 *
+		 * @return 失效通知订阅断开后的重连间隔
+		 */
+		public Duration getInvalidationRetryInterval(){
+			return invalidationRetryInterval;
+		}
+
+		/**
+		 * 设置失效通知订阅断开后的重连间隔
+		 *
+		 * @param invalidationRetryInterval
+		 * 		失效通知订阅断开后的重连间隔
+		 */
+		public void setInvalidationRetryInterval(Duration invalidationRetryInterval){
+			this.invalidationRetryInterval = invalidationRetryInterval;
+		}
+
+	}
+
+	/**
+	 * Redis 命令自动批量管道配置
+	 *
+	 * @author yong.teng
+	 * @since 2.3.4
+	 */
+	public final static class Pipeline {
+
+		/**
+		 * 是否启用命令自动批量管道
+		 */
+		private boolean enabled;
+
+		/**
+		 * 单次管道最多包含的命令数
+		 */
+		private int maxBatchSize = 128;
+
+		/**
+		 * 收集命令的时间窗口；为 0 时不等待，每次发送上一批执行期间积累的全部命令
+		 */
+		private Duration flushInterval = Duration.ZERO;
+
+		/**
+		 * 最多等待发送的命令数，超过时拒绝新提交的命令
+		 */
+		private int maxPendingCommands = 10000;
+
+		/**
+		 * 最大连接数，显式批量作用域与后台线程各自从中获取连接
+		 */
+		private int maxConnections = 4;
+
+		/**
+		 * 返回是否启用命令自动批量管道
+		 *
+		 * @return 是否启用命令自动批量管道
+		 */
+		public boolean isEnabled(){
+			return enabled;
+		}
+
+		/**
+		 * 设置是否启用命令自动批量管道
+		 *
+		 * @param enabled
+		 * 		是否启用命令自动批量管道
+		 */
+		public void setEnabled(boolean enabled){
+			this.enabled = enabled;
+		}
+
+		/**
+		 * 返回单次管道最多包含的命令数
+		 *
+		 * @return 单次管道最多包含的命令数
+		 */
+		public int getMaxBatchSize(){
+			return maxBatchSize;
+		}
+
+		/**
+		 * 设置单次管道最多包含的命令数
+		 *
+		 * @param maxBatchSize
+		 * 		单次管道最多包含的命令数
+		 */
+		public void setMaxBatchSize(int maxBatchSize){
+			this.maxBatchSize = maxBatchSize;
+		}
+
+		/**
+		 * 返回收集命令的时间窗口
+		 *
+		 * @return 收集命令的时间窗口
+		 */
+		public Duration getFlushInterval(){
+			return flushInterval;
+		}
+
+		/**
+		 * 设置收集命令的时间窗口
+		 *
+		 * @param flushInterval
+		 * 		收集命令的时间窗口
+		 */
+		public void setFlushInterval(Duration flushInterval){
+			this.flushInterval = flushInterval;
+		}
+
+		/**
+		 * 返回最多等待发送的命令数
+		 *
+		 * @return 最多等待发送的命令数
+		 */
+		public int getMaxPendingCommands(){
+			return maxPendingCommands;
+		}
+
+		/**
+		 * 设置最多等待发送的命令数
+		 *
+		 * @param maxPendingCommands
+		 * 		最多等待发送的命令数
+		 */
+		public void setMaxPendingCommands(int maxPendingCommands){
+			this.maxPendingCommands = maxPendingCommands;
+		}
+
+		/**
+		 * 返回最大连接数
+		 *
+		 * @return 最大连接数
+		 */
+		public int getMaxConnections(){
+			return maxConnections;
+		}
+
+		/**
+		 * 设置最大连接数
+		 *
+		 * @param maxConnections
+		 * 		最大连接数
+		 */
+		public void setMaxConnections(int maxConnections){
+			this.maxConnections = maxConnections;
+		}
+
+	}
+
 }
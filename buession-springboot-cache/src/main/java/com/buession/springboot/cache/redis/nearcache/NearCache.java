@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.nearcache;
+
+import com.buession.core.utils.Assert;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Redis 近端缓存，位于 Redis 之前的有界进程内缓存，按写入时间过期，超出容量时淘汰最近最少访问的数据
+ * <p>分段加锁，降低热点数据并发读取的锁竞争；加载期间该键发生失效时，加载结果不写入缓存，避免缓存失效前读取到的旧值。
+ * 每个分段按键的哈希值划分为若干版本槽，失效只递增键所在槽的版本，其它键的加载不受影响。</p>
+ * <p>写入 Redis 后调用 {@link #evict(String)}，失效本地缓存并通过失效通知发布者通知其它节点；
+ * 收到其它节点的失效通知时调用 {@link #invalidate(String)}。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class NearCache {
+
+	private final static int SEGMENTS = 16;
+
+	/**
+	 * 每个分段的版本槽数
+	 */
+	private final static int VERSION_STRIPES = 64;
+
+	private final Segment[] segments = new Segment[SEGMENTS];
+
+	private final long expireAfterWrite;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private volatile Consumer<String> invalidationPublisher;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maximumSize
+	 * 		最大缓存条数
+	 * @param expireAfterWrite
+	 * 		写入后过期时间
+	 */
+	public NearCache(final int maximumSize, final Duration expireAfterWrite) {
+		Assert.isTrue(maximumSize < 1, "Maximum size must be greater than 0.");
+		Assert.isNull(expireAfterWrite, "Expire after write cloud not be null.");
+		Assert.isTrue(expireAfterWrite.isNegative() || expireAfterWrite.isZero(),
+				"Expire after write must be greater than 0.");
+
+		final int segmentCapacity = Math.max(1, (maximumSize + SEGMENTS - 1) / SEGMENTS);
+
+		for(int i = 0; i < SEGMENTS; i++){
+			segments[i] = new Segment(segmentCapacity);
+		}
+
+		this.expireAfterWrite = expireAfterWrite.toNanos();
+	}
+
+	/**
+	 * 设置失效通知发布者，{@link #evict(String)} 时调用，通知其它节点失效该键
+	 *
+	 * @param invalidationPublisher
+	 * 		失效通知发布者，参数为失效的键
+	 */
+	public void setInvalidationPublisher(Consumer<String> invalidationPublisher) {
+		this.invalidationPublisher = invalidationPublisher;
+	}
+
+	/**
+	 * 获取缓存值
+	 *
+	 * @param key
+	 * 		键
+	 *
+	 * @return 缓存值，不存在或已过期时返回 null
+	 */
+	public Object get(final String key) {
+		final Object value = segmentFor(hash(key)).get(key, System.nanoTime());
+
+		if(value == null){
+			missCount.increment();
+		}else{
+			hitCount.increment();
+		}
+
+		return value;
+	}
+
+	/**
+	 * 获取缓存值，不存在时通过 loader 加载并缓存
+	 *
+	 * @param key
+	 * 		键
+	 * @param loader
+	 * 		加载器，通常为读取 Redis，返回 null 时不缓存
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return 缓存值
+	 */
+	@SuppressWarnings({"unchecked"})
+	public <V> V get(final String key, final Supplier<V> loader) {
+		final Object cached = get(key);
+
+		if(cached != null){
+			return (V) cached;
+		}
+
+		final int hash = hash(key);
+		final Segment segment = segmentFor(hash);
+		final long loadVersion = segment.version(hash);
+		final V value = loader.get();
+
+		if(value != null){
+			segment.putIfVersion(key, hash, value, System.nanoTime() + expireAfterWrite, loadVersion);
+		}
+
+		return value;
+	}
+
+	/**
+	 * 写入缓存
+	 *
+	 * @param key
+	 * 		键
+	 * @param value
+	 * 		值
+	 */
+	public void put(final String key, final Object value) {
+		Assert.isNull(value, "Value cloud not be null.");
+		segmentFor(hash(key)).put(key, value, System.nanoTime() + expireAfterWrite);
+	}
+
+	/**
+	 * 失效本地缓存的键，并通知其它节点失效
+	 *
+	 * @param key
+	 * 		键
+	 */
+	public void evict(final String key) {
+		invalidate(key);
+
+		final Consumer<String> publisher = invalidationPublisher;
+
+		if(publisher != null){
+			publisher.accept(key);
+		}
+	}
+
+	/**
+	 * 仅失效本地缓存的键
+	 *
+	 * @param key
+	 * 		键
+	 */
+	public void invalidate(final String key) {
+		final int hash = hash(key);
+		segmentFor(hash).remove(key, hash);
+	}
+
+	/**
+	 * 失效本地全部缓存
+	 */
+	public void invalidateAll() {
+		for(Segment segment : segments){
+			segment.clear();
+		}
+	}
+
+	/**
+	 * 返回缓存条数，包含已过期尚未清理的数据
+	 *
+	 * @return 缓存条数
+	 */
+	public long size() {
+		long size = 0;
+
+		for(Segment segment : segments){
+			size += segment.size();
+		}
+
+		return size;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	private Segment segmentFor(final int hash) {
+		return segments[hash & (SEGMENTS - 1)];
+	}
+
+	private static int hash(final String key) {
+		final int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private final static class Entry {
+
+		private final Object value;
+
+		private final long expireAt;
+
+		Entry(final Object value, final long expireAt) {
+			this.value = value;
+			this.expireAt = expireAt;
+		}
+
+	}
+
+	private final static class Segment {
+
+		private final LinkedHashMap<String, Entry> entries;
+
+		private final long[] versions = new long[VERSION_STRIPES];
+
+		Segment(final int capacity) {
+			this.entries = new LinkedHashMap<String, Entry>(Math.min(capacity, 1024), 0.75F, true) {
+
+				private final static long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+					return size() > capacity;
+				}
+
+			};
+		}
+
+		synchronized Object get(final String key, final long now) {
+			final Entry entry = entries.get(key);
+
+			if(entry == null){
+				return null;
+			}else if(now - entry.expireAt >= 0){
+				entries.remove(key);
+				return null;
+			}else{
+				return entry.value;
+			}
+		}
+
+		synchronized long version(final int hash) {
+			return versions[stripe(hash)];
+		}
+
+		synchronized void put(final String key, final Object value, final long expireAt) {
+			entries.put(key, new Entry(value, expireAt));
+		}
+
+		synchronized void putIfVersion(final String key, final int hash, final Object value, final long expireAt,
+									   final long loadVersion) {
+			// 加锁后比较，与失效操作串行，保证失效之后不会写入失效前加载的值
+			if(versions[stripe(hash)] == loadVersion){
+				entries.put(key, new Entry(value, expireAt));
+			}
+		}
+
+		synchronized void remove(final String key, final int hash) {
+			versions[stripe(hash)]++;
+			entries.remove(key);
+		}
+
+		synchronized void clear() {
+			for(int i = 0; i < versions.length; i++){
+				versions[i]++;
+			}
+
+			entries.clear();
+		}
+
+		synchronized int size() {
+			return entries.size();
+		}
+
+		private static int stripe(final int hash) {
+			// 低位已用于选择分段
+			return (hash >>> 4) & (VERSION_STRIPES - 1);
+		}
+
+	}
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.nearcache;
+
+import com.buession.core.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Pipeline;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 基于 Redis Pub/Sub 的近端缓存失效通道，各节点写入后发布失效的键，订阅到其它节点发布的键时失效本地缓存
+ * <p>订阅连接断开期间可能丢失失效通知，因此每次（重新）订阅成功时失效本地全部缓存；发布失败时仅记录日志，
+ * 其它节点上的旧值最长在过期时间后失效。</p>
+ * <p>失效的键写入有界队列后立即返回，由发布线程批量取出，通过一次 Pipeline 发布，写入 Redis 的线程不等待网络 I/O；
+ * 队列已满时丢弃待发布的键，改为发布失效全部缓存的消息。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class NearCacheInvalidationChannel {
+
+	/**
+	 * 失效全部缓存的消息
+	 */
+	public final static String INVALIDATE_ALL = "*";
+
+	private final static long PUBLISH_POLL_MILLIS = 100;
+
+	private final static char SEPARATOR = ':';
+
+	/**
+	 * 待发布键的最大数量
+	 */
+	private final static int MAX_PENDING = 10000;
+
+	/**
+	 * 单次 Pipeline 发布的最大消息数
+	 */
+	private final static int MAX_BATCH = 256;
+
+	private final NearCache nearCache;
+
+	private final String channel;
+
+	private final Supplier<Jedis> connectionFactory;
+
+	private final Duration retryInterval;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private volatile boolean running;
+
+	private volatile JedisPubSub subscriber;
+
+	private final BlockingQueue<String> pending = new LinkedBlockingQueue<>(MAX_PENDING);
+
+	private final AtomicBoolean overflowed = new AtomicBoolean();
+
+	private Jedis publisher;
+
+	private Thread subscriberThread;
+
+	private Thread publisherThread;
+
+	private final static Logger logger = LoggerFactory.getLogger(NearCacheInvalidationChannel.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param nearCache
+	 * 		近端缓存
+	 * @param channel
+	 * 		失效通知频道
+	 * @param connectionFactory
+	 * 		Redis 连接工厂，订阅线程与发布线程各使用一个连接
+	 * @param retryInterval
+	 * 		订阅断开后的重连间隔
+	 */
+	public NearCacheInvalidationChannel(final NearCache nearCache, final String channel,
+										final Supplier<Jedis> connectionFactory, final Duration retryInterval) {
+		Assert.isNull(nearCache, "NearCache cloud not be null.");
+		Assert.isBlank(channel, "Channel cloud not be empty or null.");
+		Assert.isNull(connectionFactory, "Connection factory cloud not be null.");
+		this.nearCache = nearCache;
+		this.channel = channel;
+		this.connectionFactory = connectionFactory;
+		this.retryInterval = retryInterval;
+	}
+
+	public synchronized void start() {
+		if(running){
+			return;
+		}
+
+		running = true;
+		nearCache.setInvalidationPublisher(this::publish);
+
+		subscriberThread = new Thread(this::subscribe, "redis-near-cache-invalidation");
+		subscriberThread.setDaemon(true);
+		subscriberThread.start();
+
+		publisherThread = new Thread(this::publishPending, "redis-near-cache-invalidation-publisher");
+		publisherThread.setDaemon(true);
+		publisherThread.start();
+	}
+
+	public synchronized void stop() {
+		running = false;
+		nearCache.setInvalidationPublisher(null);
+
+		final JedisPubSub pubSub = subscriber;
+
+		if(pubSub != null && pubSub.isSubscribed()){
+			try{
+				pubSub.unsubscribe();
+			}catch(Exception e){
+				logger.debug("Unsubscribe near cache invalidation channel failure.", e);
+			}
+		}
+
+		if(subscriberThread != null){
+			subscriberThread.interrupt();
+			subscriberThread = null;
+		}
+
+		if(publisherThread != null){
+			// 发布线程发布完剩余的键后关闭连接
+			try{
+				publisherThread.join(PUBLISH_POLL_MILLIS * 10);
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+
+			publisherThread = null;
+		}
+	}
+
+	/**
+	 * 发布失效的键，仅加入待发布队列，由发布线程异步发布
+	 *
+	 * @param key
+	 * 		键
+	 */
+	public void publish(final String key) {
+		if(running == false){
+			return;
+		}
+
+		if(pending.offer(key) == false && overflowed.compareAndSet(false, true)){
+			logger.warn("Near cache invalidation publish queue is full, invalidate all instead.");
+		}
+	}
+
+	private void publishPending() {
+		final List<String> keys = new ArrayList<>(MAX_BATCH);
+
+		try{
+			while(running || pending.isEmpty() == false){
+				final String key;
+
+				try{
+					key = pending.poll(PUBLISH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					return;
+				}
+
+				if(overflowed.getAndSet(false)){
+					// 队列溢出后丢失的键无法确定，改为失效全部缓存
+					pending.clear();
+					keys.clear();
+					keys.add(INVALIDATE_ALL);
+				}else if(key == null){
+					continue;
+				}else{
+					keys.add(key);
+					pending.drainTo(keys, MAX_BATCH - 1);
+				}
+
+				publishBatch(keys);
+				keys.clear();
+			}
+		}finally{
+			closePublisher();
+		}
+	}
+
+	private void publishBatch(final List<String> keys) {
+		try{
+			if(publisher == null){
+				publisher = connectionFactory.get();
+			}
+
+			if(keys.size() == 1){
+				publisher.publish(channel, nodeId + SEPARATOR + keys.get(0));
+			}else{
+				final Pipeline pipeline = publisher.pipelined();
+
+				for(String key : keys){
+					pipeline.publish(channel, nodeId + SEPARATOR + key);
+				}
+
+				pipeline.sync();
+			}
+		}catch(Exception e){
+			logger.warn("Publish near cache invalidation of {} key(s) failure: {}", keys.size(), e.getMessage());
+			closePublisher();
+		}
+	}
+
+	private void subscribe() {
+		while(running){
+			final JedisPubSub pubSub = new InvalidationSubscriber();
+
+			subscriber = pubSub;
+
+			try(Jedis jedis = connectionFactory.get()){
+				jedis.subscribe(pubSub, channel);
+			}catch(Exception e){
+				if(running){
+					logger.warn("Near cache invalidation channel [{}] disconnected, retry after {}: {}", channel,
+							retryInterval, e.getMessage());
+				}
+			}
+
+			// 断开期间的失效通知可能丢失
+			nearCache.invalidateAll();
+
+			if(running){
+				try{
+					Thread.sleep(retryInterval.toMillis());
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private void closePublisher() {
+		if(publisher != null){
+			try{
+				publisher.close();
+			}catch(Exception e){
+				logger.debug("Close near cache invalidation publisher failure.", e);
+			}
+
+			publisher = null;
+		}
+	}
+
+	private final class InvalidationSubscriber extends JedisPubSub {
+
+		@Override
+		public void onSubscribe(String channel, int subscribedChannels) {
+			nearCache.invalidateAll();
+
+			if(logger.isInfoEnabled()){
+				logger.info("Near cache invalidation channel [{}] subscribed.", channel);
+			}
+		}
+
+		@Override
+		public void onMessage(String channel, String message) {
+			final int i = message.indexOf(SEPARATOR);
+
+			if(i < 0 || message.regionMatches(0, nodeId, 0, i) && i == nodeId.length()){
+				return;
+			}
+
+			final String key = message.substring(i + 1);
+
+			if(INVALIDATE_ALL.equals(key)){
+				nearCache.invalidateAll();
+			}else{
+				nearCache.invalidate(key);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.pipeline;
+
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+/**
+ * 加入管道的 Redis 命令，如：{@code pipeline -> pipeline.get(batcher.key("user:1"))}
+ * <p>命令直接作用于 Jedis 管道，键不会自动添加 spring.redis.key-prefix 配置的前缀，值也不经过 RedisTemplate 的序列化；
+ * 需要与 RedisTemplate 读写同一数据时，键须通过 {@link RedisCommandBatcher#key(String)} 添加前缀，值须使用相同的格式。</p>
+ * <p>结果可能在其它线程中完成，回调中不应长时间阻塞。</p>
+ *
+ * @param <T>
+ * 		命令结果类型
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@FunctionalInterface
+public interface PipelineCommand<T> {
+
+	/**
+	 * 将命令加入管道
+	 *
+	 * @param pipeline
+	 * 		管道
+	 *
+	 * @return 命令结果，管道执行后可用
+	 */
+	Response<T> apply(Pipeline pipeline);
+
+}
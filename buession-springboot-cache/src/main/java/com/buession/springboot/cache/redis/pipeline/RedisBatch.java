@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 显式批量作用域，作用域内提交的命令在 {@link #close()} 时作为一个管道执行，结果在返回前于当前线程中完成；
+ * 使用独立于后台线程的连接，非线程安全，应在单个线程中使用
+ *
+ * <pre>
+ * try(RedisBatch batch = batcher.batch()){
+ *     CompletableFuture&lt;String&gt; a = batch.submit(pipeline -&gt; pipeline.get("a"));
+ *     CompletableFuture&lt;String&gt; b = batch.submit(pipeline -&gt; pipeline.get("b"));
+ * }
+ * </pre>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public final class RedisBatch implements AutoCloseable {
+
+	private final RedisCommandBatcher batcher;
+
+	private final List<RedisCommandBatcher.PendingCommand<?>> commands = new ArrayList<>();
+
+	private boolean closed;
+
+	RedisBatch(final RedisCommandBatcher batcher) {
+		this.batcher = batcher;
+	}
+
+	/**
+	 * 提交命令
+	 *
+	 * @param command
+	 * 		命令
+	 * @param <T>
+	 * 		命令结果类型
+	 *
+	 * @return 命令结果，作用域关闭后完成
+	 */
+	public <T> CompletableFuture<T> submit(final PipelineCommand<T> command) {
+		if(closed){
+			throw new IllegalStateException("Batch has been closed.");
+		}
+
+		final RedisCommandBatcher.PendingCommand<T> pendingCommand = new RedisCommandBatcher.PendingCommand<>(command);
+
+		commands.add(pendingCommand);
+		if(commands.size() >= batcher.getMaxBatchSize()){
+			flush();
+		}
+
+		return pendingCommand.future;
+	}
+
+	/**
+	 * 立即执行已提交的命令
+	 */
+	public void flush() {
+		if(commands.isEmpty() == false){
+			batcher.execute(new ArrayList<>(commands), false);
+			commands.clear();
+		}
+	}
+
+	@Override
+	public void close() {
+		if(closed == false){
+			flush();
+			closed = true;
+		}
+	}
+
+}
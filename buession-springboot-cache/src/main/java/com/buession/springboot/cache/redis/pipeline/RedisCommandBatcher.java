@@ -0,0 +1,448 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.pipeline;
+
+import com.buession.core.utils.Assert;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis 命令自动批量执行器，将多个线程提交的独立命令合并为一个 Jedis 管道发送，以减少每条命令的网络往返
+ * <p>命令由后台线程收集：{@code flushInterval} 为 0 时不等待，每次发送上一批执行期间积累的命令；
+ * 大于 0 时在收到第一条命令后最多等待该时长，或积累到 {@code maxBatchSize} 条后发送。
+ * 也可以通过 {@link #batch()} 在显式作用域内收集命令，并在当前线程中执行。</p>
+ * <p>后台线程提交的命令，其结果在完成线程池中完成，结果的回调不会阻塞后台线程；显式作用域的结果在调用线程中完成。</p>
+ * <p>命令直接作用于 Jedis 管道，不会应用 RedisTemplate 的键前缀和序列化，参见 {@link PipelineCommand}。
+ * 各批次从一个小的连接池中获取连接，显式作用域与后台线程互不等待，不支持集群模式。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class RedisCommandBatcher {
+
+	/**
+	 * 默认最大连接数
+	 */
+	public final static int DEFAULT_MAX_CONNECTIONS = 4;
+
+	private final String keyPrefix;
+
+	private final int maxBatchSize;
+
+	private final long flushIntervalNanos;
+
+	private final BlockingQueue<PendingCommand<?>> queue;
+
+	private final BatchExecutor batchExecutor;
+
+	private final Executor completionExecutor;
+
+	private final GenericObjectPool<Jedis> connectionPool;
+
+	private volatile boolean running;
+
+	private Thread flusherThread;
+
+	private final static Logger logger = LoggerFactory.getLogger(RedisCommandBatcher.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param connectionFactory
+	 * 		Redis 连接工厂
+	 * @param keyPrefix
+	 * 		键前缀
+	 * @param maxBatchSize
+	 * 		单次管道最多包含的命令数
+	 * @param flushInterval
+	 * 		收集命令的时间窗口
+	 * @param maxPendingCommands
+	 * 		最多等待发送的命令数
+	 */
+	public RedisCommandBatcher(final Supplier<Jedis> connectionFactory, final String keyPrefix,
+							   final int maxBatchSize, final Duration flushInterval, final int maxPendingCommands) {
+		this(connectionFactory, keyPrefix, maxBatchSize, flushInterval, maxPendingCommands, DEFAULT_MAX_CONNECTIONS,
+				null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param connectionFactory
+	 * 		Redis 连接工厂
+	 * @param keyPrefix
+	 * 		键前缀
+	 * @param maxBatchSize
+	 * 		单次管道最多包含的命令数
+	 * @param flushInterval
+	 * 		收集命令的时间窗口
+	 * @param maxPendingCommands
+	 * 		最多等待发送的命令数
+	 * @param maxConnections
+	 * 		最大连接数
+	 * @param completionExecutor
+	 * 		完成后台线程提交的命令结果的线程池，为 null 时使用 {@link ForkJoinPool#commonPool()}
+	 */
+	public RedisCommandBatcher(final Supplier<Jedis> connectionFactory, final String keyPrefix,
+							   final int maxBatchSize, final Duration flushInterval, final int maxPendingCommands,
+							   final int maxConnections, final Executor completionExecutor) {
+		this(null, createConnectionPool(connectionFactory, maxConnections), keyPrefix, maxBatchSize, flushInterval,
+				maxPendingCommands, completionExecutor);
+	}
+
+	/**
+	 * 构造函数，batchExecutor 不为 null 时不使用 Redis 连接，供测试使用
+	 */
+	RedisCommandBatcher(final BatchExecutor batchExecutor, final GenericObjectPool<Jedis> connectionPool,
+						final String keyPrefix, final int maxBatchSize, final Duration flushInterval,
+						final int maxPendingCommands, final Executor completionExecutor) {
+		Assert.isTrue(maxBatchSize < 1, "Max batch size must be greater than 0.");
+		Assert.isTrue(maxPendingCommands < 1, "Max pending commands must be greater than 0.");
+		this.connectionPool = connectionPool;
+		this.batchExecutor = batchExecutor == null ? this::executePipeline : batchExecutor;
+		this.keyPrefix = keyPrefix == null ? "" : keyPrefix;
+		this.maxBatchSize = maxBatchSize;
+		this.flushIntervalNanos = flushInterval == null || flushInterval.isNegative() ? 0 : flushInterval.toNanos();
+		this.queue = new LinkedBlockingQueue<>(maxPendingCommands);
+		this.completionExecutor = completionExecutor == null ? ForkJoinPool.commonPool() : completionExecutor;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	public synchronized void start() {
+		if(running){
+			return;
+		}
+
+		running = true;
+		flusherThread = new Thread(this::flushLoop, "redis-command-batcher");
+		flusherThread.setDaemon(true);
+		flusherThread.start();
+	}
+
+	public synchronized void stop() {
+		running = false;
+
+		if(flusherThread != null){
+			flusherThread.interrupt();
+
+			try{
+				flusherThread.join(TimeUnit.SECONDS.toMillis(5));
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+
+			flusherThread = null;
+		}
+
+		// 执行停止前已提交的命令
+		final List<PendingCommand<?>> remaining = new ArrayList<>(queue.size());
+
+		queue.drainTo(remaining);
+		for(int i = 0; i < remaining.size(); i += maxBatchSize){
+			execute(new ArrayList<>(remaining.subList(i, Math.min(i + maxBatchSize, remaining.size()))), true);
+		}
+
+		if(connectionPool != null){
+			connectionPool.close();
+		}
+
+		// 停止过程中并发提交的命令
+		PendingCommand<?> command;
+		while((command = queue.poll()) != null){
+			command.future.completeExceptionally(
+					new RejectedExecutionException("Redis command batcher has been stopped."));
+		}
+	}
+
+	/**
+	 * 返回添加键前缀后的键
+	 *
+	 * @param key
+	 * 		键
+	 *
+	 * @return 添加键前缀后的键
+	 */
+	public String key(final String key) {
+		return keyPrefix.isEmpty() ? key : keyPrefix + key;
+	}
+
+	/**
+	 * 提交命令，由后台线程与其它命令合并后执行
+	 *
+	 * @param command
+	 * 		命令
+	 * @param <T>
+	 * 		命令结果类型
+	 *
+	 * @return 命令结果，在完成线程池中完成；等待发送的命令数超过上限或执行器已停止时，以 {@link RejectedExecutionException} 异常完成
+	 */
+	public <T> CompletableFuture<T> submit(final PipelineCommand<T> command) {
+		Assert.isNull(command, "Command cloud not be null.");
+
+		final PendingCommand<T> pendingCommand = new PendingCommand<>(command);
+
+		if(running == false){
+			pendingCommand.future.completeExceptionally(
+					new RejectedExecutionException("Redis command batcher is not running."));
+		}else if(queue.offer(pendingCommand) == false){
+			pendingCommand.future.completeExceptionally(
+					new RejectedExecutionException("Too many pending redis commands: " + queue.size() + "."));
+		}
+
+		return pendingCommand.future;
+	}
+
+	/**
+	 * 打开显式批量作用域
+	 *
+	 * @return 批量作用域
+	 */
+	public RedisBatch batch() {
+		return new RedisBatch(this);
+	}
+
+	/**
+	 * 将命令作为一个管道执行，并完成各命令的结果
+	 *
+	 * @param commands
+	 * 		命令
+	 * @param async
+	 * 		是否在完成线程池中完成结果，为 false 时在当前线程中完成
+	 */
+	void execute(final List<PendingCommand<?>> commands, final boolean async) {
+		batchExecutor.execute(commands);
+
+		if(async){
+			try{
+				completionExecutor.execute(()->complete(commands));
+				return;
+			}catch(RejectedExecutionException e){
+				logger.debug("Completion executor rejected, complete redis command results in current thread.");
+			}
+		}
+
+		complete(commands);
+	}
+
+	private void executePipeline(final List<PendingCommand<?>> commands) {
+		final Response<?>[] responses = new Response<?>[commands.size()];
+		Jedis connection = null;
+
+		try{
+			connection = connectionPool.borrowObject();
+
+			final Pipeline pipeline = connection.pipelined();
+
+			for(int i = 0; i < responses.length; i++){
+				final PendingCommand<?> command = commands.get(i);
+
+				try{
+					responses[i] = command.command.apply(pipeline);
+				}catch(RuntimeException e){
+					command.failure = e;
+				}
+			}
+
+			pipeline.sync();
+			connectionPool.returnObject(connection);
+		}catch(Exception e){
+			logger.warn("Execute redis pipeline of {} commands failure: {}", commands.size(), e.getMessage());
+
+			if(connection != null){
+				invalidateConnection(connection);
+			}
+
+			for(PendingCommand<?> command : commands){
+				command.failure = e;
+			}
+
+			return;
+		}
+
+		for(int i = 0; i < responses.length; i++){
+			if(responses[i] != null){
+				commands.get(i).setResponse(responses[i]);
+			}
+		}
+	}
+
+	private void flushLoop() {
+		List<PendingCommand<?>> commands = new ArrayList<>(maxBatchSize);
+
+		while(running){
+			try{
+				commands.add(queue.take());
+
+				if(flushIntervalNanos > 0){
+					final long deadline = System.nanoTime() + flushIntervalNanos;
+					long remaining;
+
+					while(commands.size() < maxBatchSize && (remaining = deadline - System.nanoTime()) > 0){
+						final PendingCommand<?> command = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+						if(command == null){
+							break;
+						}
+
+						commands.add(command);
+						queue.drainTo(commands, maxBatchSize - commands.size());
+					}
+				}else{
+					queue.drainTo(commands, maxBatchSize - commands.size());
+				}
+			}catch(InterruptedException e){
+				if(running == false){
+					// 已取出的命令交回队列，由 stop 统一执行
+					for(PendingCommand<?> command : commands){
+						if(queue.offer(command) == false){
+							command.future.completeExceptionally(
+									new RejectedExecutionException("Redis command batcher has been stopped."));
+						}
+					}
+					return;
+				}
+			}
+
+			if(commands.isEmpty() == false){
+				// 结果在完成线程池中完成，每批使用新的列表
+				execute(commands, true);
+				commands = new ArrayList<>(maxBatchSize);
+			}
+		}
+	}
+
+	private void invalidateConnection(final Jedis connection) {
+		try{
+			connectionPool.invalidateObject(connection);
+		}catch(Exception e){
+			logger.debug("Invalidate redis command batcher connection failure.", e);
+		}
+	}
+
+	private static void complete(final List<PendingCommand<?>> commands) {
+		for(PendingCommand<?> command : commands){
+			command.complete();
+		}
+	}
+
+	private static GenericObjectPool<Jedis> createConnectionPool(final Supplier<Jedis> connectionFactory,
+																 final int maxConnections) {
+		Assert.isNull(connectionFactory, "Connection factory cloud not be null.");
+		Assert.isTrue(maxConnections < 1, "Max connections must be greater than 0.");
+
+		final GenericObjectPoolConfig<Jedis> config = new GenericObjectPoolConfig<>();
+
+		config.setMaxTotal(maxConnections);
+		config.setMaxIdle(maxConnections);
+		config.setMinIdle(0);
+		config.setJmxEnabled(false);
+
+		return new GenericObjectPool<>(new BasePooledObjectFactory<Jedis>() {
+
+			@Override
+			public Jedis create() {
+				return connectionFactory.get();
+			}
+
+			@Override
+			public PooledObject<Jedis> wrap(Jedis jedis) {
+				return new DefaultPooledObject<>(jedis);
+			}
+
+			@Override
+			public void destroyObject(PooledObject<Jedis> pooledObject) {
+				pooledObject.getObject().close();
+			}
+
+		}, config);
+	}
+
+	/**
+	 * 执行一批命令，并记录各命令的结果或异常，不完成结果
+	 */
+	@FunctionalInterface
+	interface BatchExecutor {
+
+		void execute(List<PendingCommand<?>> commands);
+
+	}
+
+	final static class PendingCommand<T> {
+
+		final PipelineCommand<T> command;
+
+		final CompletableFuture<T> future = new CompletableFuture<>();
+
+		T result;
+
+		Exception failure;
+
+		PendingCommand(final PipelineCommand<T> command) {
+			this.command = command;
+		}
+
+		@SuppressWarnings("unchecked")
+		void setResponse(final Response<?> response) {
+			try{
+				result = ((Response<T>) response).get();
+			}catch(RuntimeException e){
+				failure = e;
+			}
+		}
+
+		void complete() {
+			if(failure == null){
+				future.complete(result);
+			}else{
+				future.completeExceptionally(failure);
+			}
+		}
+
+	}
+
+}
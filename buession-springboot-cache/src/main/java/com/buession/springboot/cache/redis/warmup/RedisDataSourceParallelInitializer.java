@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.warmup;
+
+import com.buession.redis.client.connection.RedisConnection;
+import com.buession.redis.client.connection.datasource.DataSource;
+import com.buession.springboot.boot.startup.ParallelInitializer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+/**
+ * Redis 数据源并行初始化器，获取一次连接，与其它 Bean 的创建并行完成到 Redis 的连接建立
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class RedisDataSourceParallelInitializer implements ParallelInitializer<DataSource> {
+
+	@Override
+	public Class<DataSource> getType() {
+		return DataSource.class;
+	}
+
+	@Override
+	public Collection<Callable<?>> getInitializationTasks(final DataSource dataSource) {
+		return Collections.singletonList(()->{
+			final RedisConnection connection = dataSource.getConnection();
+
+			connection.close();
+			return null;
+		});
+	}
+
+}
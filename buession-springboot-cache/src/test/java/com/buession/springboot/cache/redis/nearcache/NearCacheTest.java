@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.nearcache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class NearCacheTest {
+
+	@Test
+	public void loadIsDiscardedWhenKeyInvalidatedDuringLoad() throws Exception{
+		final NearCache nearCache = new NearCache(100, Duration.ofMinutes(1));
+		final AtomicReference<String> redis = new AtomicReference<>("v1");
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch written = new CountDownLatch(1);
+
+		final CompletableFuture<String> load = CompletableFuture.supplyAsync(()->nearCache.get("key", ()->{
+			final String value = redis.get();
+
+			loading.countDown();
+
+			try{
+				written.await(5, TimeUnit.SECONDS);
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+
+			return value;
+		}));
+
+		// 加载读取到旧值后，其它线程写入 Redis 并失效
+		Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+		redis.set("v2");
+		nearCache.evict("key");
+		written.countDown();
+
+		Assert.assertEquals("v1", load.get(5, TimeUnit.SECONDS));
+		Assert.assertNull(nearCache.get("key"));
+		Assert.assertEquals("v2", nearCache.get("key", redis::get));
+		Assert.assertEquals("v2", nearCache.get("key"));
+	}
+
+	@Test
+	public void loadIsKeptWhenOtherKeyInvalidated(){
+		final NearCache nearCache = new NearCache(100, Duration.ofMinutes(1));
+
+		// "a"、"b" 位于不同分段
+		Assert.assertEquals("1", nearCache.get("a", ()->{
+			nearCache.invalidate("b");
+			return "1";
+		}));
+		Assert.assertEquals("1", nearCache.get("a"));
+	}
+
+	@Test
+	public void loadIsDiscardedWhenAllInvalidated(){
+		final NearCache nearCache = new NearCache(100, Duration.ofMinutes(1));
+
+		Assert.assertEquals("1", nearCache.get("a", ()->{
+			nearCache.invalidateAll();
+			return "1";
+		}));
+		Assert.assertNull(nearCache.get("a"));
+	}
+
+	@Test
+	public void evictPublishesKey(){
+		final NearCache nearCache = new NearCache(100, Duration.ofMinutes(1));
+		final AtomicReference<String> published = new AtomicReference<>();
+
+		nearCache.setInvalidationPublisher(published::set);
+		nearCache.put("key", "value");
+		nearCache.evict("key");
+
+		Assert.assertEquals("key", published.get());
+		Assert.assertNull(nearCache.get("key"));
+	}
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cache.redis.pipeline;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class RedisCommandBatcherTest {
+
+	private final ExecutorService completionExecutor = Executors.newCachedThreadPool();
+
+	private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+	private RedisCommandBatcher batcher;
+
+	@After
+	public void tearDown(){
+		if(batcher != null){
+			batcher.stop();
+		}
+
+		completionExecutor.shutdownNow();
+	}
+
+	@Test
+	public void flushCombinesCommands() throws Exception{
+		batcher = create(this::echo, 10, Duration.ofMillis(200), 100);
+		batcher.start();
+
+		final List<CompletableFuture<Object>> futures = submit(5);
+
+		for(int i = 0; i < futures.size(); i++){
+			Assert.assertEquals(i, futures.get(i).get(5, TimeUnit.SECONDS));
+		}
+
+		Assert.assertEquals(1, batches.size());
+		Assert.assertEquals(5, (int) batches.get(0));
+	}
+
+	@Test
+	public void flushSplitsByMaxBatchSize() throws Exception{
+		batcher = create(this::echo, 2, Duration.ofMillis(200), 100);
+		batcher.start();
+
+		for(CompletableFuture<Object> future : submit(5)){
+			future.get(5, TimeUnit.SECONDS);
+		}
+
+		Assert.assertEquals(5, batches.stream().mapToInt(Integer::intValue).sum());
+
+		for(int size : batches){
+			Assert.assertTrue(size <= 2);
+		}
+	}
+
+	@Test
+	public void blockingCallbackDoesNotStallFlusher() throws Exception{
+		final CountDownLatch entered = new CountDownLatch(1);
+		final AtomicBoolean released = new AtomicBoolean();
+		final CountDownLatch release = new CountDownLatch(1);
+
+		batcher = create(blocking(entered, released), 10, Duration.ZERO, 100);
+		batcher.start();
+
+		// 第一批执行完成前注册回调，回调在完成结果的线程中执行
+		final CompletableFuture<Object> blocked = batcher.submit((pipeline)->null).thenApply((value)->{
+			try{
+				release.await(5, TimeUnit.SECONDS);
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+
+			return value;
+		});
+
+		Assert.assertTrue(entered.await(5, TimeUnit.SECONDS));
+		released.set(true);
+
+		// 第一条命令的回调阻塞期间，后续命令仍能执行并完成
+		Assert.assertEquals(0, batcher.submit((pipeline)->null).get(5, TimeUnit.SECONDS));
+		Assert.assertFalse(blocked.isDone());
+
+		release.countDown();
+		blocked.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void overflowIsRejected() throws Exception{
+		final CountDownLatch entered = new CountDownLatch(1);
+		final AtomicBoolean released = new AtomicBoolean();
+
+		batcher = create(blocking(entered, released), 1, Duration.ZERO, 2);
+		batcher.start();
+
+		final List<CompletableFuture<Object>> futures = submit(1);
+
+		// 第一条命令已被后台线程取出，队列可再容纳 2 条
+		Assert.assertTrue(entered.await(5, TimeUnit.SECONDS));
+		futures.addAll(submit(2));
+
+		final CompletableFuture<Object> rejected = batcher.submit((pipeline)->null);
+
+		try{
+			rejected.get(5, TimeUnit.SECONDS);
+			Assert.fail();
+		}catch(ExecutionException e){
+			Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+		}
+
+		released.set(true);
+
+		for(CompletableFuture<Object> future : futures){
+			future.get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void stopDrainsQueuedCommands() throws Exception{
+		final CountDownLatch entered = new CountDownLatch(1);
+		final AtomicBoolean released = new AtomicBoolean();
+
+		batcher = create(blocking(entered, released), 10, Duration.ZERO, 100);
+		batcher.start();
+
+		final List<CompletableFuture<Object>> futures = submit(1);
+
+		Assert.assertTrue(entered.await(5, TimeUnit.SECONDS));
+		futures.addAll(submit(3));
+
+		completionExecutor.execute(()->{
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+			released.set(true);
+		});
+		batcher.stop();
+
+		for(CompletableFuture<Object> future : futures){
+			future.get(5, TimeUnit.SECONDS);
+		}
+
+		Assert.assertEquals(4, batches.stream().mapToInt(Integer::intValue).sum());
+
+		try{
+			batcher.submit((pipeline)->null).get(5, TimeUnit.SECONDS);
+			Assert.fail();
+		}catch(ExecutionException e){
+			Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+		}
+	}
+
+	private RedisCommandBatcher create(final RedisCommandBatcher.BatchExecutor batchExecutor, final int maxBatchSize,
+									   final Duration flushInterval, final int maxPendingCommands){
+		return new RedisCommandBatcher(batchExecutor, null, "", maxBatchSize, flushInterval, maxPendingCommands,
+				completionExecutor);
+	}
+
+	private List<CompletableFuture<Object>> submit(final int count){
+		final List<CompletableFuture<Object>> futures = new ArrayList<>(count);
+
+		for(int i = 0; i < count; i++){
+			futures.add(batcher.submit((pipeline)->null));
+		}
+
+		return futures;
+	}
+
+	/**
+	 * 以命令在批次中的序号作为结果
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private void echo(final List<RedisCommandBatcher.PendingCommand<?>> commands){
+		batches.add(commands.size());
+
+		for(int i = 0; i < commands.size(); i++){
+			((RedisCommandBatcher.PendingCommand) commands.get(i)).result = i;
+		}
+	}
+
+	/**
+	 * 第一批命令阻塞至 released，忽略中断，模拟执行中的管道
+	 */
+	private RedisCommandBatcher.BatchExecutor blocking(final CountDownLatch entered, final AtomicBoolean released){
+		return (commands)->{
+			entered.countDown();
+
+			while(released.get() == false){
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+			}
+
+			echo(commands);
+		};
+	}
+
+}
@@ -26,6 +26,8 @@ package com.buession.springboot.cli.application;
 
 import com.buession.springboot.boot.application.AbstractApplication;
 import com.buession.springboot.boot.application.Application;
+import com.buession.springboot.boot.application.Daemon;
+import com.buession.springboot.cli.daemon.DaemonEnvironmentListener;
 import org.springframework.boot.Banner;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.builder.SpringApplicationBuilder;
@@ -62,7 +64,9 @@ public abstract class AbstractCliApplication extends AbstractApplication impleme
 	 * @throws IllegalAccessException
 	 * 		没有访问权限的异常
 	 * @since 1.3.1
+	 * @deprecated 使用 {@link #AbstractCliApplication(Banner)}
 	 */
+	@Deprecated
 	protected AbstractCliApplication(final Class<? extends Banner> banner) throws InstantiationException,
 			IllegalAccessException{
 		super(banner);
@@ -106,7 +110,9 @@ public abstract class AbstractCliApplication extends AbstractApplication impleme
 	 * @throws IllegalAccessException
 	 * 		没有访问权限的异常
 	 * @since 2.3.0
+	 * @deprecated 使用 {@link #AbstractCliApplication(Banner, boolean)}
 	 */
+	@Deprecated
 	protected AbstractCliApplication(final Class<? extends Banner> banner, final boolean addCommandLineProperties)
 			throws InstantiationException, IllegalAccessException{
 		super(banner);
@@ -142,9 +148,20 @@ public abstract class AbstractCliApplication extends AbstractApplication impleme
 	public final void run(final String[] args){
 	}
 
+	/**
+	 * 以 {@value Daemon#DAEMON_ARGUMENT} 参数启动时，启用守护进程模式，应用上下文常驻，通过
+	 * {@link com.buession.springboot.cli.daemon.DaemonClient} 调用 {@link com.buession.springboot.cli.daemon.CliCommand}；
+	 * 守护进程模式下不在启动时执行批处理任务
+	 *
+	 * @param clazz
+	 * 		启动应用程序类
+	 *
+	 * @return {@link SpringApplicationBuilder}
+	 */
 	@Override
 	protected SpringApplicationBuilder springApplicationBuilder(final Class<? extends Application> clazz){
-		final SpringApplicationBuilder springApplicationBuilder = super.springApplicationBuilder(clazz);
+		final SpringApplicationBuilder springApplicationBuilder = super.springApplicationBuilder(clazz)
+				.listeners(new DaemonEnvironmentListener());
 
 		if(getAddCommandLineProperties() != null){
 			springApplicationBuilder.addCommandLineProperties(getAddCommandLineProperties());
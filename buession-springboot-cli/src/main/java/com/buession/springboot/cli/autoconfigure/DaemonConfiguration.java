@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.autoconfigure;
+
+import com.buession.core.validator.Validate;
+import com.buession.springboot.cli.daemon.CliCommand;
+import com.buession.springboot.cli.daemon.DaemonClient;
+import com.buession.springboot.cli.daemon.DaemonServer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+
+/**
+ * 守护进程模式自动配置
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(DaemonProperties.class)
+@ConditionalOnProperty(prefix = DaemonProperties.PREFIX, name = "enabled", havingValue = "true")
+public class DaemonConfiguration {
+
+	private final DaemonProperties properties;
+
+	public DaemonConfiguration(DaemonProperties properties) {
+		this.properties = properties;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public DaemonServer daemonServer(ObjectProvider<CliCommand> commands) {
+		final Path file = Validate.hasText(properties.getFile()) ? Paths.get(properties.getFile()) :
+				DaemonClient.getDefaultFile();
+
+		return new DaemonServer(commands.orderedStream().collect(Collectors.toList()), file,
+				properties.getPort(), properties.getMaxConcurrency(), properties.getReadTimeout());
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.autoconfigure;
+
+import com.buession.springboot.boot.autoconfigure.ThreadPoolConfiguration;
+import com.buession.springboot.cli.job.CheckpointRepository;
+import com.buession.springboot.cli.job.FileCheckpointRepository;
+import com.buession.springboot.cli.job.Job;
+import com.buession.springboot.cli.job.JobLauncherRunner;
+import com.buession.springboot.cli.job.JobRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * 批处理任务自动配置，存在 {@link Job} Bean 时，在应用启动完成后执行；
+ * 多分区步骤使用 {@link ThreadPoolConfiguration} 配置的共享线程池
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(JobProperties.class)
+@ConditionalOnBean(Job.class)
+@ConditionalOnProperty(prefix = JobProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+@AutoConfigureAfter(ThreadPoolConfiguration.class)
+public class JobConfiguration {
+
+	private final JobProperties properties;
+
+	public JobConfiguration(JobProperties properties) {
+		this.properties = properties;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = JobProperties.PREFIX, name = "checkpoint.enabled", havingValue = "true",
+			matchIfMissing = true)
+	public CheckpointRepository checkpointRepository() throws IOException {
+		return new FileCheckpointRepository(Paths.get(properties.getCheckpoint().getFile()),
+				properties.getCheckpoint().getFlushInterval());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public JobRunner jobRunner(@Qualifier("threadPoolExecutor") ObjectProvider<ExecutorService> executorService,
+							   ObjectProvider<CheckpointRepository> checkpointRepository) {
+		final JobRunner jobRunner = new JobRunner(executorService.getIfAvailable(),
+				checkpointRepository.getIfAvailable());
+
+		jobRunner.setChunkSize(properties.getChunkSize());
+		jobRunner.setRestart(properties.isRestart());
+
+		return jobRunner;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public JobLauncherRunner jobLauncherRunner(JobRunner jobRunner, ObjectProvider<Job> jobs) {
+		return new JobLauncherRunner(jobRunner, jobs.orderedStream().collect(Collectors.toList()),
+				properties.getNames());
+	}
+
+}
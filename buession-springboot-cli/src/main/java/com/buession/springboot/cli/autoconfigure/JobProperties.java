@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.autoconfigure;
+
+import com.buession.springboot.cli.job.FileCheckpointRepository;
+import com.buession.springboot.cli.job.JobRunner;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 批处理任务配置
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@ConfigurationProperties(prefix = JobProperties.PREFIX)
+public class JobProperties {
+
+	public final static String PREFIX = "spring.cli.job";
+
+	/**
+	 * 是否在应用启动完成后执行任务
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 需要执行的任务名称，为空时执行全部任务
+	 */
+	private List<String> names;
+
+	/**
+	 * 未指定块大小的步骤使用的块大小
+	 */
+	private int chunkSize = JobRunner.DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * 是否从上次失败的断点处继续执行
+	 */
+	private boolean restart = true;
+
+	/**
+	 * 断点配置
+	 */
+	private Checkpoint checkpoint = new Checkpoint();
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public List<String> getNames() {
+		return names;
+	}
+
+	public void setNames(List<String> names) {
+		this.names = names;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	public boolean isRestart() {
+		return restart;
+	}
+
+	public void setRestart(boolean restart) {
+		this.restart = restart;
+	}
+
+	public Checkpoint getCheckpoint() {
+		return checkpoint;
+	}
+
+	public void setCheckpoint(Checkpoint checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
+	/**
+	 * 断点配置
+	 */
+	public static class Checkpoint {
+
+		/**
+		 * 是否记录断点
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 断点文件
+		 */
+		private String file = "job-checkpoint.properties";
+
+		/**
+		 * 分区断点写入文件的间隔，步骤完成或失败时立即写入
+		 */
+		private Duration flushInterval = FileCheckpointRepository.DEFAULT_FLUSH_INTERVAL;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getFile() {
+			return file;
+		}
+
+		public void setFile(String file) {
+			this.file = file;
+		}
+
+		public Duration getFlushInterval() {
+			return flushInterval;
+		}
+
+		public void setFlushInterval(Duration flushInterval) {
+			this.flushInterval = flushInterval;
+		}
+
+	}
+
+}
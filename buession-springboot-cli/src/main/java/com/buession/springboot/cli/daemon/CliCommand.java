@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.daemon;
+
+import java.io.PrintStream;
+
+/**
+ * 守护进程模式下可调用的命令，注册为 Bean 后由 {@link DaemonServer} 按名称分发；
+ * 多个客户端可同时调用同一命令，实现须线程安全，输出须写入参数中的流，而非 {@link System#out}
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public interface CliCommand {
+
+	/**
+	 * 返回命令名称，即客户端的第一个参数
+	 *
+	 * @return 命令名称
+	 */
+	String getName();
+
+	/**
+	 * 执行命令
+	 *
+	 * @param args
+	 * 		命令参数，不含命令名称
+	 * @param out
+	 * 		标准输出，转发至客户端
+	 * @param err
+	 * 		错误输出，转发至客户端
+	 *
+	 * @return 退出码，作为客户端进程的退出码
+	 *
+	 * @throws Exception
+	 * 		执行异常，异常堆栈输出至客户端错误输出，退出码为 1
+	 */
+	int execute(String[] args, PrintStream out, PrintStream err) throws Exception;
+
+}
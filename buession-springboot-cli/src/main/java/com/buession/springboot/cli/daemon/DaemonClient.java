@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * 守护进程瘦客户端，不启动 Spring 上下文，将参数转发至 {@link DaemonServer}，并将命令输出写入本进程的标准输出、错误输出，
+ * 以命令的退出码退出
+ * <p>用法：java -cp app.jar com.buession.springboot.cli.daemon.DaemonClient [--daemon-file=文件] 命令 [参数...]；
+ * 未指定守护进程信息文件时，依次使用系统属性 {@value #DAEMON_FILE_PROPERTY}、用户主目录下的
+ * {@value #DEFAULT_DIRECTORY}/{@value #DEFAULT_FILE_NAME}。</p>
+ * <p>守护进程信息文件中包含令牌，不是当前用户所有、为符号链接或组用户、其他用户可读的文件将被拒绝。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public final class DaemonClient {
+
+	/**
+	 * 指定守护进程信息文件的参数前缀
+	 */
+	public final static String DAEMON_FILE_ARGUMENT = "--daemon-file=";
+
+	/**
+	 * 指定守护进程信息文件的系统属性
+	 */
+	public final static String DAEMON_FILE_PROPERTY = "spring.cli.daemon.file";
+
+	/**
+	 * 默认守护进程信息文件所在目录，相对于用户主目录，权限为 700
+	 */
+	public final static String DEFAULT_DIRECTORY = ".buession";
+
+	/**
+	 * 默认守护进程信息文件名称
+	 */
+	public final static String DEFAULT_FILE_NAME = "buession-cli.daemon";
+
+	private DaemonClient() {
+
+	}
+
+	public static void main(String[] args) {
+		Path file = null;
+		String[] commandArgs = args;
+
+		if(args.length > 0 && args[0].startsWith(DAEMON_FILE_ARGUMENT)){
+			file = Paths.get(args[0].substring(DAEMON_FILE_ARGUMENT.length()));
+			commandArgs = Arrays.copyOfRange(args, 1, args.length);
+		}else if(System.getProperty(DAEMON_FILE_PROPERTY) != null){
+			file = Paths.get(System.getProperty(DAEMON_FILE_PROPERTY));
+		}
+
+		if(file == null){
+			file = getDefaultFile();
+		}
+
+		int exitCode;
+
+		try{
+			exitCode = execute(file, commandArgs, System.out, System.err);
+		}catch(IOException e){
+			System.err.println("Cli daemon unavailable (" + file + "): " + e.getMessage());
+			exitCode = 1;
+		}
+
+		System.exit(exitCode);
+	}
+
+	/**
+	 * 返回默认守护进程信息文件
+	 *
+	 * @return 用户主目录下的 {@value #DEFAULT_DIRECTORY}/{@value #DEFAULT_FILE_NAME}
+	 */
+	public static Path getDefaultFile() {
+		return Paths.get(System.getProperty("user.home"), DEFAULT_DIRECTORY, DEFAULT_FILE_NAME);
+	}
+
+	/**
+	 * 调用守护进程执行命令
+	 *
+	 * @param file
+	 * 		守护进程信息文件
+	 * @param args
+	 * 		命令名称及参数
+	 * @param out
+	 * 		标准输出
+	 * @param err
+	 * 		错误输出
+	 *
+	 * @return 退出码
+	 *
+	 * @throws IOException
+	 * 		守护进程信息文件不存在、不安全，连接失败等 I/O 异常
+	 */
+	public static int execute(final Path file, final String[] args, final OutputStream out, final OutputStream err)
+			throws IOException {
+		final Properties properties = new Properties();
+
+		checkFile(file);
+
+		try(InputStream inputStream = Files.newInputStream(file)){
+			properties.load(inputStream);
+		}
+
+		final String port = properties.getProperty(DaemonProtocol.PORT);
+		final String token = properties.getProperty(DaemonProtocol.TOKEN);
+
+		if(port == null || token == null){
+			throw new IOException("Invalid daemon file: " + file);
+		}
+
+		try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(port))){
+			final DataOutputStream request = new DataOutputStream(
+					new BufferedOutputStream(socket.getOutputStream()));
+			final DataInputStream response = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+			DaemonProtocol.writeRequest(request, token, args);
+
+			return DaemonProtocol.readResponse(response, out, err);
+		}
+	}
+
+	/**
+	 * 校验守护进程信息文件为当前用户所有，且组用户、其他用户不可读写，防止读取他人伪造的文件或泄露令牌
+	 *
+	 * @param file
+	 * 		守护进程信息文件
+	 *
+	 * @throws IOException
+	 * 		文件不存在或不安全
+	 */
+	static void checkFile(final Path file) throws IOException {
+		if(Files.isSymbolicLink(file)){
+			throw new IOException("Daemon file " + file + " is a symbolic link.");
+		}
+
+		final UserPrincipal owner = Files.getOwner(file, LinkOption.NOFOLLOW_LINKS);
+		final UserPrincipal user = file.getFileSystem().getUserPrincipalLookupService()
+				.lookupPrincipalByName(System.getProperty("user.name"));
+
+		if(owner.equals(user) == false){
+			throw new IOException("Daemon file " + file + " is owned by " + owner.getName() + ", not current user.");
+		}
+
+		if(file.getFileSystem().supportedFileAttributeViews().contains("posix")){
+			for(PosixFilePermission permission : Files.getPosixFilePermissions(file, LinkOption.NOFOLLOW_LINKS)){
+				if(permission != PosixFilePermission.OWNER_READ && permission != PosixFilePermission.OWNER_WRITE &&
+						permission != PosixFilePermission.OWNER_EXECUTE){
+					throw new IOException("Daemon file " + file + " is accessible by group or others, " +
+							"permissions should be 600.");
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.daemon;
+
+import com.buession.springboot.boot.application.Daemon;
+import com.buession.springboot.cli.autoconfigure.DaemonProperties;
+import com.buession.springboot.cli.autoconfigure.JobProperties;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.lang.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 守护进程模式环境监听器，以 {@value Daemon#DAEMON_ARGUMENT} 参数启动时，以最高优先级的属性源启用守护进程模式，
+ * 并关闭启动时执行批处理任务，不会被配置文件、环境变量中的同名配置覆盖
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class DaemonEnvironmentListener implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+	/**
+	 * 属性源名称
+	 */
+	public final static String PROPERTY_SOURCE_NAME = "cliDaemon";
+
+	@Override
+	public void onApplicationEvent(@NonNull ApplicationEnvironmentPreparedEvent event) {
+		if(Daemon.isDaemon(event.getArgs()) == false){
+			return;
+		}
+
+		final Map<String, Object> properties = new HashMap<>(2);
+
+		properties.put(DaemonProperties.PREFIX + ".enabled", true);
+		properties.put(JobProperties.PREFIX + ".enabled", false);
+
+		event.getEnvironment().getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME,
+				properties));
+	}
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 守护进程通信协议
+ * <p>客户端请求：令牌（{@link DataOutputStream#writeUTF(String)}）、参数个数（int）、各参数（writeUTF）。</p>
+ * <p>服务端响应：若干帧，每帧为类型（byte）、长度（int）、内容；类型为 {@link #STDOUT}、{@link #STDERR} 时内容为输出字节，
+ * 类型为 {@link #EXIT} 时长度即为退出码，无内容，为最后一帧。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public final class DaemonProtocol {
+
+	/**
+	 * 标准输出帧
+	 */
+	public final static byte STDOUT = 1;
+
+	/**
+	 * 错误输出帧
+	 */
+	public final static byte STDERR = 2;
+
+	/**
+	 * 退出帧
+	 */
+	public final static byte EXIT = 3;
+
+	/**
+	 * 单次请求最大参数个数
+	 */
+	public final static int MAX_ARGUMENTS = 1024;
+
+	/**
+	 * 守护进程信息文件中端口的属性名称
+	 */
+	public final static String PORT = "port";
+
+	/**
+	 * 守护进程信息文件中令牌的属性名称
+	 */
+	public final static String TOKEN = "token";
+
+	private DaemonProtocol() {
+
+	}
+
+	/**
+	 * 写入请求
+	 *
+	 * @param out
+	 * 		输出流
+	 * @param token
+	 * 		令牌
+	 * @param args
+	 * 		参数
+	 *
+	 * @throws IOException
+	 * 		I/O 异常
+	 */
+	public static void writeRequest(final DataOutputStream out, final String token, final String[] args)
+			throws IOException {
+		out.writeUTF(token);
+		out.writeInt(args.length);
+
+		for(String arg : args){
+			out.writeUTF(arg);
+		}
+
+		out.flush();
+	}
+
+	/**
+	 * 读取响应帧并转发至输出流，直至退出帧
+	 *
+	 * @param in
+	 * 		输入流
+	 * @param out
+	 * 		标准输出
+	 * @param err
+	 * 		错误输出
+	 *
+	 * @return 退出码
+	 *
+	 * @throws IOException
+	 * 		I/O 异常或响应格式错误
+	 */
+	public static int readResponse(final DataInputStream in, final OutputStream out, final OutputStream err)
+			throws IOException {
+		final byte[] buffer = new byte[8192];
+
+		while(true){
+			final byte type = in.readByte();
+			int length = in.readInt();
+
+			if(type == EXIT){
+				out.flush();
+				err.flush();
+				return length;
+			}else if(type != STDOUT && type != STDERR || length < 0){
+				throw new IOException("Invalid daemon response frame: " + type);
+			}
+
+			final OutputStream target = type == STDOUT ? out : err;
+
+			while(length > 0){
+				final int n = in.read(buffer, 0, Math.min(buffer.length, length));
+
+				if(n < 0){
+					throw new IOException("Unexpected end of daemon response.");
+				}
+
+				target.write(buffer, 0, n);
+				length -= n;
+			}
+
+			target.flush();
+		}
+	}
+
+	/**
+	 * 服务端帧写入器，多个输出流共享同一连接
+	 */
+	final static class FrameWriter {
+
+		private final DataOutputStream out;
+
+		FrameWriter(final DataOutputStream out) {
+			this.out = out;
+		}
+
+		OutputStream stream(final byte type) {
+			return new OutputStream() {
+
+				@Override
+				public void write(int b) throws IOException {
+					write(new byte[]{(byte) b}, 0, 1);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					if(len > 0){
+						FrameWriter.this.write(type, b, off, len);
+					}
+				}
+
+				@Override
+				public void flush() throws IOException {
+					FrameWriter.this.flush();
+				}
+
+			};
+		}
+
+		synchronized void write(final byte type, final byte[] b, final int off, final int len) throws IOException {
+			out.writeByte(type);
+			out.writeInt(len);
+			out.write(b, off, len);
+		}
+
+		synchronized void flush() throws IOException {
+			out.flush();
+		}
+
+		synchronized void exit(final int code) throws IOException {
+			out.writeByte(EXIT);
+			out.writeInt(code);
+			out.flush();
+		}
+
+	}
+
+}
@@ -0,0 +1,365 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.daemon;
+
+import com.buession.core.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 常驻守护进程服务端，在已完成启动和预热的应用上下文中执行客户端发来的命令，避免每次调用都启动 Spring 上下文
+ * <p>仅监听本机回环地址，端口及随机令牌写入权限为 600 的守护进程信息文件，所在目录不存在时以 700 权限创建，
+ * 客户端须读取该文件并携带令牌，其它本机用户无法调用；通信协议参见 {@link DaemonProtocol}。</p>
+ * <p>监听线程为非守护线程，应用在命令行运行器执行完成后保持运行，直至应用上下文关闭。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class DaemonServer implements SmartLifecycle {
+
+	/**
+	 * 命令不存在或缺少命令名称时的退出码
+	 */
+	public final static int COMMAND_NOT_FOUND = 127;
+
+	private final static int TOKEN_LENGTH = 32;
+
+	private final Map<String, CliCommand> commands = new TreeMap<>();
+
+	private final Path file;
+
+	private final int port;
+
+	private final int maxConcurrency;
+
+	private final Duration readTimeout;
+
+	private final String token;
+
+	private volatile ServerSocket serverSocket;
+
+	private ExecutorService executorService;
+
+	private final static Logger logger = LoggerFactory.getLogger(DaemonServer.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param commands
+	 * 		命令
+	 * @param file
+	 * 		守护进程信息文件
+	 * @param port
+	 * 		监听端口，为 0 时随机分配
+	 * @param maxConcurrency
+	 * 		最大并发命令数，超出后新的请求被拒绝
+	 * @param readTimeout
+	 * 		读取请求超时时间
+	 */
+	public DaemonServer(final Collection<CliCommand> commands, final Path file, final int port,
+						final int maxConcurrency, final Duration readTimeout) {
+		Assert.isNull(file, "Daemon file cloud not be null.");
+		Assert.isTrue(maxConcurrency < 1, "Max concurrency must be greater than 0.");
+
+		for(CliCommand command : commands){
+			final CliCommand existing = this.commands.putIfAbsent(command.getName(), command);
+			Assert.isTrue(existing != null, "Duplicate command name: " + command.getName());
+		}
+
+		this.file = file.toAbsolutePath();
+		this.port = port;
+		this.maxConcurrency = maxConcurrency;
+		this.readTimeout = readTimeout;
+		this.token = generateToken();
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * 返回实际监听的端口
+	 *
+	 * @return 实际监听的端口，未启动时返回 -1
+	 */
+	public int getPort() {
+		final ServerSocket socket = serverSocket;
+		return socket == null ? -1 : socket.getLocalPort();
+	}
+
+	@Override
+	public void start() {
+		try{
+			final ServerSocket socket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+
+			writeDaemonFile(socket.getLocalPort());
+			serverSocket = socket;
+		}catch(IOException e){
+			throw new IllegalStateException("Start cli daemon failure.", e);
+		}
+
+		executorService = new ThreadPoolExecutor(0, maxConcurrency, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+				new CustomizableThreadFactory("cli-daemon-"));
+
+		final Thread acceptor = new Thread(this::accept, "cli-daemon-acceptor");
+
+		acceptor.setDaemon(false);
+		acceptor.start();
+
+		logger.info("Cli daemon listening on {}:{}, daemon file: {}, commands: {}",
+				serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort(), file, commands.keySet());
+	}
+
+	@Override
+	public void stop() {
+		final ServerSocket socket = serverSocket;
+
+		serverSocket = null;
+
+		if(socket != null){
+			try{
+				socket.close();
+			}catch(IOException e){
+				logger.warn("Close cli daemon server socket failure.", e);
+			}
+		}
+
+		if(executorService != null){
+			executorService.shutdown();
+		}
+
+		try{
+			Files.deleteIfExists(file);
+		}catch(IOException e){
+			logger.warn("Delete cli daemon file {} failure.", file, e);
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return serverSocket != null;
+	}
+
+	private void accept() {
+		ServerSocket socket;
+
+		while((socket = serverSocket) != null){
+			final Socket client;
+
+			try{
+				client = socket.accept();
+			}catch(SocketException e){
+				// 服务端已关闭
+				break;
+			}catch(IOException e){
+				logger.warn("Accept cli daemon connection failure.", e);
+				continue;
+			}
+
+			try{
+				executorService.execute(()->handle(client));
+			}catch(RejectedExecutionException e){
+				logger.warn("Cli daemon too busy, reject connection.");
+				reject(client);
+			}
+		}
+	}
+
+	private void handle(final Socket socket) {
+		try(Socket client = socket){
+			client.setSoTimeout((int) readTimeout.toMillis());
+
+			final DataInputStream in = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+			final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(client.getOutputStream()));
+
+			if(MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+					in.readUTF().getBytes(StandardCharsets.UTF_8)) == false){
+				logger.warn("Cli daemon connection with invalid token, rejected.");
+				return;
+			}
+
+			final int argc = in.readInt();
+
+			if(argc < 0 || argc > DaemonProtocol.MAX_ARGUMENTS){
+				logger.warn("Cli daemon request with invalid arguments count {}, rejected.", argc);
+				return;
+			}
+
+			final String[] args = new String[argc];
+
+			for(int i = 0; i < argc; i++){
+				args[i] = in.readUTF();
+			}
+
+			client.setSoTimeout(0);
+
+			final DaemonProtocol.FrameWriter writer = new DaemonProtocol.FrameWriter(out);
+			final PrintStream stdout = createPrintStream(writer.stream(DaemonProtocol.STDOUT));
+			final PrintStream stderr = createPrintStream(writer.stream(DaemonProtocol.STDERR));
+			final int exitCode = dispatch(args, stdout, stderr);
+
+			stdout.flush();
+			stderr.flush();
+			writer.exit(exitCode);
+		}catch(IOException e){
+			logger.debug("Cli daemon connection failure.", e);
+		}
+	}
+
+	private int dispatch(final String[] args, final PrintStream out, final PrintStream err) {
+		final CliCommand command = args.length == 0 ? null : commands.get(args[0]);
+
+		if(command == null){
+			if(args.length > 0){
+				err.println("Unknown command: " + args[0]);
+			}
+
+			err.println("Available commands: " + String.join(", ", commands.keySet()));
+
+			return COMMAND_NOT_FOUND;
+		}
+
+		final long startTime = System.nanoTime();
+
+		try{
+			return command.execute(Arrays.copyOfRange(args, 1, args.length), out, err);
+		}catch(Exception e){
+			e.printStackTrace(err);
+			return 1;
+		}finally{
+			if(logger.isInfoEnabled()){
+				logger.info("Cli daemon command [{}] finished in {} ms.", command.getName(),
+						TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+			}
+		}
+	}
+
+	private void writeDaemonFile(final int localPort) throws IOException {
+		final Path directory = file.getParent();
+		final Path temp;
+		final Properties properties = new Properties();
+
+		if(FileSystems.getDefault().supportedFileAttributeViews().contains("posix")){
+			if(directory != null && Files.exists(directory) == false){
+				Files.createDirectories(directory,
+						PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+			}
+
+			temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp",
+					PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+		}else{
+			if(directory != null){
+				Files.createDirectories(directory);
+			}
+
+			temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		}
+
+		properties.setProperty(DaemonProtocol.PORT, Integer.toString(localPort));
+		properties.setProperty(DaemonProtocol.TOKEN, token);
+
+		try{
+			try(OutputStream outputStream = Files.newOutputStream(temp)){
+				properties.store(outputStream, "Cli daemon");
+			}
+
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+		}finally{
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static void reject(final Socket socket) {
+		try(Socket client = socket){
+			final DataOutputStream out = new DataOutputStream(client.getOutputStream());
+			final byte[] message = "Cli daemon too busy, try again later.\n".getBytes(StandardCharsets.UTF_8);
+
+			out.writeByte(DaemonProtocol.STDERR);
+			out.writeInt(message.length);
+			out.write(message);
+			out.writeByte(DaemonProtocol.EXIT);
+			out.writeInt(1);
+			out.flush();
+		}catch(IOException e){
+			logger.debug("Reject cli daemon connection failure.", e);
+		}
+	}
+
+	private static PrintStream createPrintStream(final OutputStream outputStream) {
+		try{
+			return new PrintStream(outputStream, true, StandardCharsets.UTF_8.name());
+		}catch(UnsupportedEncodingException e){
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String generateToken() {
+		final byte[] bytes = new byte[TOKEN_LENGTH];
+		final StringBuilder sb = new StringBuilder(TOKEN_LENGTH * 2);
+
+		new SecureRandom().nextBytes(bytes);
+
+		for(byte b : bytes){
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import java.io.IOException;
+
+/**
+ * 断点存储，记录各分区已处理的数据条数及已完成的步骤，任务失败后重新执行时从断点处继续
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public interface CheckpointRepository {
+
+	/**
+	 * 返回分区已处理的数据条数
+	 *
+	 * @param job
+	 * 		任务名称
+	 * @param step
+	 * 		步骤名称
+	 * @param partition
+	 * 		分区序号
+	 * @param partitions
+	 * 		分区总数，分区总数变化后，原有断点不再有效
+	 *
+	 * @return 已处理的数据条数，没有断点时返回 0
+	 */
+	long getPosition(String job, String step, int partition, int partitions);
+
+	/**
+	 * 记录分区已处理的数据条数，实现可延迟持久化，调用 {@link #flush()} 时写入存储
+	 *
+	 * @param job
+	 * 		任务名称
+	 * @param step
+	 * 		步骤名称
+	 * @param partition
+	 * 		分区序号
+	 * @param partitions
+	 * 		分区总数
+	 * @param position
+	 * 		已处理的数据条数
+	 *
+	 * @throws IOException
+	 * 		存储异常
+	 */
+	void savePosition(String job, String step, int partition, int partitions, long position) throws IOException;
+
+	/**
+	 * 返回步骤是否已完成
+	 *
+	 * @param job
+	 * 		任务名称
+	 * @param step
+	 * 		步骤名称
+	 *
+	 * @return 步骤是否已完成
+	 */
+	boolean isCompleted(String job, String step);
+
+	/**
+	 * 标记步骤已完成
+	 *
+	 * @param job
+	 * 		任务名称
+	 * @param step
+	 * 		步骤名称
+	 *
+	 * @throws IOException
+	 * 		存储异常
+	 */
+	void complete(String job, String step) throws IOException;
+
+	/**
+	 * 将尚未持久化的断点写入存储
+	 *
+	 * @throws IOException
+	 * 		存储异常
+	 */
+	default void flush() throws IOException {
+	}
+
+	/**
+	 * 清除任务的全部断点
+	 *
+	 * @param job
+	 * 		任务名称
+	 *
+	 * @throws IOException
+	 * 		存储异常
+	 */
+	void clear(String job) throws IOException;
+
+}
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import com.buession.core.utils.Assert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * 基于本地 properties 文件的 {@link CheckpointRepository}，每次写入先写入临时文件，再原子替换原文件，
+ * 进程异常退出时不会留下不完整的断点文件
+ * <p>分区断点仅更新内存，距上次写入超过写入间隔时才写入文件，步骤完成、清除断点及调用 {@link #flush()} 时立即写入；
+ * 文件写入在断点锁之外进行，不阻塞其它分区记录断点。进程异常退出时，最多丢失一个写入间隔内的断点，重新执行时这些块将被再次处理。</p>
+ * <p>断点以“任务/步骤/”为前缀存储，任务名称及步骤名称不能包含“/”。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class FileCheckpointRepository implements CheckpointRepository {
+
+	/**
+	 * 默认写入间隔
+	 */
+	public final static Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+	private final static char SEPARATOR = '/';
+
+	private final static String COMPLETED = "completed";
+
+	private final Path file;
+
+	private final long flushIntervalNanos;
+
+	private final Properties properties = new Properties();
+
+	/**
+	 * 内存中断点的版本，每次更新加 1
+	 */
+	private long version;
+
+	/**
+	 * 已写入文件的断点版本
+	 */
+	private long storedVersion;
+
+	private long storedAt = System.nanoTime();
+
+	/**
+	 * 文件写入锁，保证按版本顺序写入
+	 */
+	private final Object storeLock = new Object();
+
+	private long writtenVersion;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param file
+	 * 		断点文件
+	 *
+	 * @throws IOException
+	 * 		读取断点文件异常
+	 */
+	public FileCheckpointRepository(final Path file) throws IOException {
+		this(file, DEFAULT_FLUSH_INTERVAL);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param file
+	 * 		断点文件
+	 * @param flushInterval
+	 * 		分区断点写入间隔，为 0 时每次记录断点均写入文件
+	 *
+	 * @throws IOException
+	 * 		读取断点文件异常
+	 */
+	public FileCheckpointRepository(final Path file, final Duration flushInterval) throws IOException {
+		Assert.isNull(file, "Checkpoint file cloud not be null.");
+		Assert.isNull(flushInterval, "Checkpoint flush interval cloud not be null.");
+		Assert.isTrue(flushInterval.isNegative(), "Checkpoint flush interval cloud not be negative.");
+		this.file = file.toAbsolutePath();
+		this.flushIntervalNanos = flushInterval.toNanos();
+
+		if(Files.exists(this.file)){
+			try(InputStream inputStream = Files.newInputStream(this.file)){
+				properties.load(inputStream);
+			}
+		}
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	@Override
+	public synchronized long getPosition(final String job, final String step, final int partition,
+										 final int partitions) {
+		final String value = properties.getProperty(positionKey(job, step, partition, partitions));
+		return value == null ? 0L : Long.parseLong(value);
+	}
+
+	@Override
+	public void savePosition(final String job, final String step, final int partition, final int partitions,
+							 final long position) throws IOException {
+		final String key = positionKey(job, step, partition, partitions);
+		final Properties snapshot;
+		final long snapshotVersion;
+
+		synchronized(this){
+			properties.setProperty(key, Long.toString(position));
+			version++;
+
+			if(System.nanoTime() - storedAt < flushIntervalNanos){
+				return;
+			}
+
+			snapshot = snapshot();
+			snapshotVersion = version;
+		}
+
+		store(snapshot, snapshotVersion);
+	}
+
+	@Override
+	public synchronized boolean isCompleted(final String job, final String step) {
+		return Boolean.parseBoolean(properties.getProperty(key(job, step) + COMPLETED));
+	}
+
+	@Override
+	public void complete(final String job, final String step) throws IOException {
+		final String prefix = key(job, step);
+		final Properties snapshot;
+		final long snapshotVersion;
+
+		synchronized(this){
+			for(String name : properties.stringPropertyNames()){
+				if(name.startsWith(prefix)){
+					properties.remove(name);
+				}
+			}
+
+			properties.setProperty(prefix + COMPLETED, Boolean.TRUE.toString());
+			version++;
+
+			snapshot = snapshot();
+			snapshotVersion = version;
+		}
+
+		store(snapshot, snapshotVersion);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		final Properties snapshot;
+		final long snapshotVersion;
+
+		synchronized(this){
+			if(storedVersion == version){
+				return;
+			}
+
+			snapshot = snapshot();
+			snapshotVersion = version;
+		}
+
+		store(snapshot, snapshotVersion);
+	}
+
+	@Override
+	public void clear(final String job) throws IOException {
+		validateName(job, "Job");
+
+		final String prefix = job + SEPARATOR;
+		final Properties snapshot;
+		final long snapshotVersion;
+
+		synchronized(this){
+			boolean removed = false;
+
+			for(String name : properties.stringPropertyNames()){
+				if(name.startsWith(prefix)){
+					properties.remove(name);
+					removed = true;
+				}
+			}
+
+			if(removed == false){
+				return;
+			}
+
+			version++;
+
+			snapshot = snapshot();
+			snapshotVersion = version;
+		}
+
+		store(snapshot, snapshotVersion);
+	}
+
+	/**
+	 * 在断点锁内复制当前断点，并标记为已写入，避免其它线程重复写入同一版本
+	 */
+	private Properties snapshot() {
+		final Properties snapshot = new Properties();
+
+		snapshot.putAll(properties);
+		storedVersion = version;
+		storedAt = System.nanoTime();
+
+		return snapshot;
+	}
+
+	private void store(final Properties snapshot, final long snapshotVersion) throws IOException {
+		synchronized(storeLock){
+			// 更新的版本已写入
+			if(snapshotVersion <= writtenVersion){
+				return;
+			}
+
+			final Path directory = file.getParent();
+
+			if(directory != null){
+				Files.createDirectories(directory);
+			}
+
+			final Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+			try{
+				try(OutputStream outputStream = Files.newOutputStream(temp)){
+					snapshot.store(outputStream, "Job checkpoints");
+				}
+
+				try{
+					Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				}catch(AtomicMoveNotSupportedException e){
+					Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}catch(IOException e){
+				synchronized(this){
+					// 写入失败，下次记录断点或 flush 时重试
+					if(storedVersion == snapshotVersion){
+						storedVersion = 0;
+						storedAt = System.nanoTime() - flushIntervalNanos;
+					}
+				}
+
+				throw e;
+			}finally{
+				Files.deleteIfExists(temp);
+			}
+
+			writtenVersion = snapshotVersion;
+		}
+	}
+
+	private static String key(final String job, final String step) {
+		validateName(job, "Job");
+		validateName(step, "Step");
+		return job + SEPARATOR + step + SEPARATOR;
+	}
+
+	private static String positionKey(final String job, final String step, final int partition,
+									  final int partitions) {
+		return key(job, step) + partitions + SEPARATOR + partition;
+	}
+
+	private static void validateName(final String name, final String type) {
+		Assert.isTrue(name.indexOf(SEPARATOR) >= 0, type + " name '" + name + "' cloud not contain '" + SEPARATOR +
+				"'.");
+	}
+
+}
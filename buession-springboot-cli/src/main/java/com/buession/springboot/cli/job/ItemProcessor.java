@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+/**
+ * 数据处理器，多个分区并行时会被多个线程同时调用，须线程安全
+ *
+ * @param <I>
+ * 		输入数据类型
+ * @param <O>
+ * 		输出数据类型
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@FunctionalInterface
+public interface ItemProcessor<I, O> {
+
+	/**
+	 * 处理数据
+	 *
+	 * @param item
+	 * 		输入数据
+	 *
+	 * @return 输出数据，返回 null 时该数据被过滤，不写入
+	 *
+	 * @throws Exception
+	 * 		处理异常
+	 */
+	O process(I item) throws Exception;
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+/**
+ * 数据读取器，每个分区一个实例，仅在单个线程中使用
+ *
+ * @param <T>
+ * 		数据类型
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@FunctionalInterface
+public interface ItemReader<T> {
+
+	/**
+	 * 打开读取器，并定位到断点位置；默认实现通过逐条读取并丢弃跳过已处理的数据，可定位的数据源应覆盖此方法
+	 *
+	 * @param position
+	 * 		已处理的数据条数，从头开始时为 0
+	 *
+	 * @throws Exception
+	 * 		打开或定位异常
+	 */
+	default void open(final long position) throws Exception {
+		for(long i = 0; i < position; i++){
+			if(read() == null){
+				break;
+			}
+		}
+	}
+
+	/**
+	 * 读取下一条数据
+	 *
+	 * @return 下一条数据，没有更多数据时返回 null
+	 *
+	 * @throws Exception
+	 * 		读取异常
+	 */
+	T read() throws Exception;
+
+	/**
+	 * 关闭读取器
+	 *
+	 * @throws Exception
+	 * 		关闭异常
+	 */
+	default void close() throws Exception {
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import java.util.List;
+
+/**
+ * 数据写入器，按块写入；多个分区并行时会被多个线程同时调用，须线程安全
+ *
+ * @param <T>
+ * 		数据类型
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@FunctionalInterface
+public interface ItemWriter<T> {
+
+	/**
+	 * 在步骤开始时打开写入器
+	 *
+	 * @throws Exception
+	 * 		打开异常
+	 */
+	default void open() throws Exception {
+	}
+
+	/**
+	 * 写入一块数据，写入成功后记录断点；写入须幂等，进程在写入后、断点记录前退出时，重启后该块会被重新写入
+	 *
+	 * @param items
+	 * 		数据
+	 *
+	 * @throws Exception
+	 * 		写入异常
+	 */
+	void write(List<? extends T> items) throws Exception;
+
+	/**
+	 * 在步骤结束时关闭写入器
+	 *
+	 * @throws Exception
+	 * 		关闭异常
+	 */
+	default void close() throws Exception {
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import com.buession.core.utils.Assert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批处理任务，按顺序执行的一组 {@link Step}；
+ * 注册为 Bean 后，由 {@link JobLauncherRunner} 在应用启动完成后执行
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class Job {
+
+	private final String name;
+
+	private final List<Step<?, ?>> steps;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param name
+	 * 		任务名称，用于记录断点
+	 * @param steps
+	 * 		步骤
+	 */
+	public Job(final String name, final List<Step<?, ?>> steps) {
+		Assert.isBlank(name, "Job name cloud not be empty or null.");
+		Assert.isEmpty(steps, "Job steps cloud not be empty or null.");
+		this.name = name;
+		this.steps = Collections.unmodifiableList(steps);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param name
+	 * 		任务名称，用于记录断点
+	 * @param steps
+	 * 		步骤
+	 */
+	public Job(final String name, final Step<?, ?>... steps) {
+		this(name, Arrays.asList(steps));
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public List<Step<?, ?>> getSteps() {
+		return steps;
+	}
+
+}
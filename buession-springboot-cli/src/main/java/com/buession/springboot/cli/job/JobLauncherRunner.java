@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 在应用启动完成后依次执行 {@link Job}，任一任务失败时终止并抛出异常，应用以非 0 状态退出
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class JobLauncherRunner implements CommandLineRunner {
+
+	private final JobRunner jobRunner;
+
+	private final List<Job> jobs;
+
+	private final Collection<String> names;
+
+	private final static Logger logger = LoggerFactory.getLogger(JobLauncherRunner.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param jobRunner
+	 * 		任务执行器
+	 * @param jobs
+	 * 		任务
+	 * @param names
+	 * 		需要执行的任务名称，为空时执行全部任务
+	 */
+	public JobLauncherRunner(final JobRunner jobRunner, final List<Job> jobs, final Collection<String> names) {
+		Assert.isNull(jobRunner, "JobRunner cloud not be null.");
+		this.jobRunner = jobRunner;
+		this.jobs = jobs;
+		this.names = names;
+	}
+
+	@Override
+	public void run(String... args) throws Exception {
+		for(Job job : jobs){
+			if(Validate.isEmpty(names) || names.contains(job.getName())){
+				jobRunner.run(job);
+			}else if(logger.isDebugEnabled()){
+				logger.debug("Job [{}] not in {}, skipped.", job.getName(), names);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import com.buession.core.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 批处理任务执行器，按顺序执行任务的各个步骤
+ * <p>多分区步骤的各分区提交到共享线程池并行执行，未配置线程池，或共享线程池的拒绝策略会静默丢弃任务
+ * （{@link ThreadPoolExecutor.DiscardPolicy}、{@link ThreadPoolExecutor.DiscardOldestPolicy}）时，为该步骤创建临时线程池，
+ * 避免被丢弃的分区永远不会完成；
+ * 任一分区失败后，其它分区在当前块完成后停止，已写入的块均已记录断点。</p>
+ * <p>配置了 {@link CheckpointRepository} 时，每写入一块记录一次断点，步骤完成后标记为已完成，任务失败后重新执行时跳过已完成的步骤，
+ * 并从断点处继续；任务全部完成后清除断点。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class JobRunner {
+
+	/**
+	 * 默认块大小
+	 */
+	public final static int DEFAULT_CHUNK_SIZE = 100;
+
+	private final ExecutorService executorService;
+
+	private final CheckpointRepository checkpointRepository;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	private boolean restart = true;
+
+	private final static Logger logger = LoggerFactory.getLogger(JobRunner.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param executorService
+	 * 		执行分区的线程池，为 null 时为每个多分区步骤创建临时线程池
+	 * @param checkpointRepository
+	 * 		断点存储，为 null 时不记录断点
+	 */
+	public JobRunner(final ExecutorService executorService, final CheckpointRepository checkpointRepository) {
+		this.executorService = executorService;
+		this.checkpointRepository = checkpointRepository;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * 设置未指定块大小的步骤使用的块大小
+	 *
+	 * @param chunkSize
+	 * 		块大小
+	 */
+	public void setChunkSize(int chunkSize) {
+		Assert.isTrue(chunkSize < 1, "Chunk size must be greater than 0.");
+		this.chunkSize = chunkSize;
+	}
+
+	public boolean isRestart() {
+		return restart;
+	}
+
+	/**
+	 * 设置是否从上次失败的断点处继续执行，为 false 时忽略已有断点，从头执行
+	 *
+	 * @param restart
+	 * 		是否从断点处继续执行
+	 */
+	public void setRestart(boolean restart) {
+		this.restart = restart;
+	}
+
+	/**
+	 * 执行任务
+	 *
+	 * @param job
+	 * 		任务
+	 *
+	 * @return 本次执行的各步骤指标，已完成而跳过的步骤不包含在内
+	 *
+	 * @throws JobExecutionException
+	 * 		任务执行异常
+	 */
+	public List<StepMetrics> run(final Job job) throws JobExecutionException {
+		Assert.isNull(job, "Job cloud not be null.");
+
+		final List<StepMetrics> result = new ArrayList<>(job.getSteps().size());
+
+		if(restart == false){
+			clearCheckpoint(job);
+		}
+
+		logger.info("Job [{}] started.", job.getName());
+
+		for(Step<?, ?> step : job.getSteps()){
+			if(checkpointRepository != null && checkpointRepository.isCompleted(job.getName(), step.getName())){
+				logger.info("Job [{}] step [{}] already completed, skipped.", job.getName(), step.getName());
+				continue;
+			}
+
+			final StepMetrics metrics = runStep(job, step);
+
+			result.add(metrics);
+			logger.info("Job [{}] step [{}] completed: {}", job.getName(), step.getName(), metrics);
+
+			if(checkpointRepository != null){
+				try{
+					checkpointRepository.complete(job.getName(), step.getName());
+				}catch(IOException e){
+					throw new JobExecutionException("Save checkpoint of job [" + job.getName() + "] step [" +
+							step.getName() + "] failure.", e);
+				}
+			}
+		}
+
+		clearCheckpoint(job);
+		logger.info("Job [{}] completed.", job.getName());
+
+		return result;
+	}
+
+	private <I, O> StepMetrics runStep(final Job job, final Step<I, O> step) throws JobExecutionException {
+		final int partitions = step.getPartitions();
+		final int stepChunkSize = step.getChunkSize() == null ? chunkSize : step.getChunkSize();
+		final StepMetrics metrics = new StepMetrics(job.getName(), step.getName(), partitions);
+		final AtomicBoolean failed = new AtomicBoolean(false);
+
+		try{
+			step.getWriter().open();
+		}catch(Exception e){
+			throw stepFailure(job, step, e);
+		}
+
+		Exception failure = null;
+
+		try{
+			if(partitions == 1){
+				runPartition(job, step, 0, stepChunkSize, metrics, failed);
+			}else{
+				runPartitions(job, step, stepChunkSize, metrics, failed);
+			}
+		}catch(Exception e){
+			failure = e;
+		}finally{
+			try{
+				step.getWriter().close();
+			}catch(Exception e){
+				if(failure == null){
+					failure = e;
+				}else{
+					failure.addSuppressed(e);
+				}
+			}
+
+			metrics.finish();
+		}
+
+		if(failure != null && checkpointRepository != null){
+			// 持久化失败前已写入的块的断点
+			try{
+				checkpointRepository.flush();
+			}catch(IOException e){
+				failure.addSuppressed(e);
+			}
+		}
+
+		if(failure != null){
+			throw failure instanceof JobExecutionException ? (JobExecutionException) failure : stepFailure(job, step,
+					failure);
+		}
+
+		return metrics;
+	}
+
+	private <I, O> void runPartitions(final Job job, final Step<I, O> step, final int chunkSize,
+									  final StepMetrics metrics, final AtomicBoolean failed) throws Exception {
+		final int partitions = step.getPartitions();
+		final ExecutorService executor = executorService == null || isDiscarding(executorService) ?
+				Executors.newFixedThreadPool(partitions,
+						new CustomizableThreadFactory(job.getName() + '-' + step.getName() + '-')) : executorService;
+		final List<Future<?>> futures = new ArrayList<>(partitions);
+		Exception failure = null;
+
+		try{
+			for(int i = 0; i < partitions; i++){
+				final int partition = i;
+
+				futures.add(executor.submit(()->{
+					runPartition(job, step, partition, chunkSize, metrics, failed);
+					return null;
+				}));
+			}
+		}catch(RejectedExecutionException e){
+			failed.set(true);
+			failure = e;
+		}
+
+		try{
+			for(Future<?> future : futures){
+				try{
+					future.get();
+				}catch(ExecutionException e){
+					final Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+
+					if(failure == null){
+						failure = cause;
+					}else{
+						failure.addSuppressed(cause);
+					}
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					failed.set(true);
+					throw e;
+				}
+			}
+		}finally{
+			if(executor != executorService){
+				executor.shutdown();
+			}
+		}
+
+		if(failure != null){
+			throw failure;
+		}
+	}
+
+	/**
+	 * 返回线程池的拒绝策略是否会静默丢弃任务，被丢弃的任务的 {@link Future} 永远不会完成
+	 */
+	private static boolean isDiscarding(final ExecutorService executorService) {
+		if(executorService instanceof ThreadPoolExecutor){
+			final RejectedExecutionHandler handler = ((ThreadPoolExecutor) executorService).getRejectedExecutionHandler();
+			return handler instanceof ThreadPoolExecutor.DiscardPolicy ||
+					handler instanceof ThreadPoolExecutor.DiscardOldestPolicy;
+		}
+
+		return false;
+	}
+
+	@SuppressWarnings({"unchecked"})
+	private <I, O> void runPartition(final Job job, final Step<I, O> step, final int partition, final int chunkSize,
+									 final StepMetrics metrics, final AtomicBoolean failed) throws Exception {
+		final int partitions = step.getPartitions();
+		final ItemProcessor<? super I, ? extends O> processor = step.getProcessor();
+		final ItemWriter<? super O> writer = step.getWriter();
+		long position = checkpointRepository == null ? 0L : checkpointRepository.getPosition(job.getName(),
+				step.getName(), partition, partitions);
+		final ItemReader<I> reader = step.getReaderFactory().create(partition, partitions);
+		Exception failure = null;
+
+		if(position > 0){
+			logger.info("Job [{}] step [{}] partition {} restart from position {}.", job.getName(), step.getName(),
+					partition, position);
+		}
+
+		try{
+			reader.open(position);
+
+			boolean exhausted = false;
+
+			while(exhausted == false && failed.get() == false){
+				final List<O> chunk = new ArrayList<>(chunkSize);
+				int read = 0;
+
+				while(read < chunkSize){
+					final I item = reader.read();
+
+					if(item == null){
+						exhausted = true;
+						break;
+					}
+
+					read++;
+
+					final O output = processor == null ? (O) item : processor.process(item);
+
+					if(output != null){
+						chunk.add(output);
+					}
+				}
+
+				if(read == 0){
+					break;
+				}
+
+				if(chunk.isEmpty() == false){
+					writer.write(chunk);
+				}
+
+				position += read;
+				metrics.chunk(read, chunk.size());
+
+				if(checkpointRepository != null){
+					checkpointRepository.savePosition(job.getName(), step.getName(), partition, partitions,
+							position);
+				}
+			}
+		}catch(Exception e){
+			failed.set(true);
+			failure = e;
+			throw e;
+		}finally{
+			try{
+				reader.close();
+			}catch(Exception e){
+				if(failure == null){
+					failed.set(true);
+					throw e;
+				}else{
+					failure.addSuppressed(e);
+				}
+			}
+		}
+	}
+
+	private void clearCheckpoint(final Job job) throws JobExecutionException {
+		if(checkpointRepository != null){
+			try{
+				checkpointRepository.clear(job.getName());
+			}catch(IOException e){
+				throw new JobExecutionException("Clear checkpoint of job [" + job.getName() + "] failure.", e);
+			}
+		}
+	}
+
+	private static JobExecutionException stepFailure(final Job job, final Step<?, ?> step, final Exception e) {
+		return new JobExecutionException("Job [" + job.getName() + "] step [" + step.getName() + "] failure.", e);
+	}
+
+}
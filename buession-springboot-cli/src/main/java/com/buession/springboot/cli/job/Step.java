@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import com.buession.core.utils.Assert;
+
+/**
+ * 分块批处理步骤，由读取、处理、写入三个阶段组成；
+ * 每个分区独立读取数据，每读取 chunkSize 条数据处理后写入一次，并记录断点
+ *
+ * @param <I>
+ * 		读取的数据类型
+ * @param <O>
+ * 		写入的数据类型
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public final class Step<I, O> {
+
+	private final String name;
+
+	private final ItemReaderFactory<I> readerFactory;
+
+	private final ItemProcessor<? super I, ? extends O> processor;
+
+	private final ItemWriter<? super O> writer;
+
+	private final Integer chunkSize;
+
+	private final int partitions;
+
+	private Step(final Builder<I, O> builder) {
+		Assert.isBlank(builder.name, "Step name cloud not be empty or null.");
+		Assert.isNull(builder.readerFactory, "Step reader cloud not be null.");
+		Assert.isNull(builder.writer, "Step writer cloud not be null.");
+		Assert.isTrue(builder.chunkSize != null && builder.chunkSize < 1, "Chunk size must be greater than 0.");
+		Assert.isTrue(builder.partitions < 1, "Partitions must be greater than 0.");
+
+		this.name = builder.name;
+		this.readerFactory = builder.readerFactory;
+		this.processor = builder.processor;
+		this.writer = builder.writer;
+		this.chunkSize = builder.chunkSize;
+		this.partitions = builder.partitions;
+	}
+
+	/**
+	 * 创建步骤构建器
+	 *
+	 * @param name
+	 * 		步骤名称，同一任务内唯一，用于记录断点
+	 * @param <I>
+	 * 		读取的数据类型
+	 * @param <O>
+	 * 		写入的数据类型
+	 *
+	 * @return 步骤构建器
+	 */
+	public static <I, O> Builder<I, O> builder(final String name) {
+		return new Builder<>(name);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public ItemReaderFactory<I> getReaderFactory() {
+		return readerFactory;
+	}
+
+	public ItemProcessor<? super I, ? extends O> getProcessor() {
+		return processor;
+	}
+
+	public ItemWriter<? super O> getWriter() {
+		return writer;
+	}
+
+	/**
+	 * 返回块大小，未设置时使用 {@link JobRunner} 的默认块大小
+	 *
+	 * @return 块大小
+	 */
+	public Integer getChunkSize() {
+		return chunkSize;
+	}
+
+	public int getPartitions() {
+		return partitions;
+	}
+
+	/**
+	 * 步骤构建器
+	 *
+	 * @param <I>
+	 * 		读取的数据类型
+	 * @param <O>
+	 * 		写入的数据类型
+	 */
+	public final static class Builder<I, O> {
+
+		private final String name;
+
+		private ItemReaderFactory<I> readerFactory;
+
+		private ItemProcessor<? super I, ? extends O> processor;
+
+		private ItemWriter<? super O> writer;
+
+		private Integer chunkSize;
+
+		private int partitions = 1;
+
+		private Builder(final String name) {
+			this.name = name;
+		}
+
+		/**
+		 * 设置单分区的数据读取器
+		 *
+		 * @param reader
+		 * 		数据读取器
+		 *
+		 * @return 步骤构建器
+		 */
+		public Builder<I, O> reader(final ItemReader<I> reader) {
+			Assert.isNull(reader, "Step reader cloud not be null.");
+			this.readerFactory = (partition, partitions)->reader;
+			this.partitions = 1;
+			return this;
+		}
+
+		/**
+		 * 设置分区数据读取器工厂及分区数，各分区在线程池中并行执行
+		 *
+		 * @param readerFactory
+		 * 		分区数据读取器工厂
+		 * @param partitions
+		 * 		分区数
+		 *
+		 * @return 步骤构建器
+		 */
+		public Builder<I, O> reader(final ItemReaderFactory<I> readerFactory, final int partitions) {
+			this.readerFactory = readerFactory;
+			this.partitions = partitions;
+			return this;
+		}
+
+		public Builder<I, O> processor(final ItemProcessor<? super I, ? extends O> processor) {
+			this.processor = processor;
+			return this;
+		}
+
+		public Builder<I, O> writer(final ItemWriter<? super O> writer) {
+			this.writer = writer;
+			return this;
+		}
+
+		public Builder<I, O> chunkSize(final int chunkSize) {
+			this.chunkSize = chunkSize;
+			return this;
+		}
+
+		public Step<I, O> build() {
+			return new Step<>(this);
+		}
+
+	}
+
+}
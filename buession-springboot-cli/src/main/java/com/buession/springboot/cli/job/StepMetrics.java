@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 步骤执行指标，统计读取、过滤、写入的数据条数及写入吞吐量
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public final class StepMetrics {
+
+	private final String job;
+
+	private final String step;
+
+	private final int partitions;
+
+	private final LongAdder readCount = new LongAdder();
+
+	private final LongAdder filterCount = new LongAdder();
+
+	private final LongAdder writeCount = new LongAdder();
+
+	private final LongAdder chunkCount = new LongAdder();
+
+	private final long startTime = System.nanoTime();
+
+	private volatile long endTime;
+
+	StepMetrics(final String job, final String step, final int partitions) {
+		this.job = job;
+		this.step = step;
+		this.partitions = partitions;
+	}
+
+	public String getJob() {
+		return job;
+	}
+
+	public String getStep() {
+		return step;
+	}
+
+	public int getPartitions() {
+		return partitions;
+	}
+
+	public long getReadCount() {
+		return readCount.sum();
+	}
+
+	public long getFilterCount() {
+		return filterCount.sum();
+	}
+
+	public long getWriteCount() {
+		return writeCount.sum();
+	}
+
+	public long getChunkCount() {
+		return chunkCount.sum();
+	}
+
+	/**
+	 * 返回执行时长，步骤未结束时返回已执行的时长
+	 *
+	 * @return 执行时长
+	 */
+	public Duration getDuration() {
+		final long end = endTime;
+		return Duration.ofNanos((end == 0 ? System.nanoTime() : end) - startTime);
+	}
+
+	/**
+	 * 返回写入吞吐量
+	 *
+	 * @return 每秒写入的数据条数
+	 */
+	public double getThroughput() {
+		final long nanos = getDuration().toNanos();
+		return nanos == 0 ? 0D : getWriteCount() * 1_000_000_000D / nanos;
+	}
+
+	void chunk(final int read, final int written) {
+		readCount.add(read);
+		filterCount.add(read - written);
+		writeCount.add(written);
+		chunkCount.increment();
+	}
+
+	void finish() {
+		endTime = System.nanoTime();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("job: %s, step: %s, partitions: %d, read: %d, filtered: %d, written: %d, chunks: %d, " +
+						"duration: %d ms, throughput: %.2f items/s", job, step, partitions, getReadCount(),
+				getFilterCount(), getWriteCount(), getChunkCount(), getDuration().toMillis(), getThroughput());
+	}
+
+}
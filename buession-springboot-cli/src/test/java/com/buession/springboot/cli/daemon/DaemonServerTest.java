@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.daemon;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class DaemonServerTest {
+
+	private Path directory;
+
+	private DaemonServer server;
+
+	@Before
+	public void setUp() throws IOException{
+		directory = Files.createTempDirectory("daemon-test");
+		server = new DaemonServer(Arrays.asList(new EchoCommand()), directory.resolve("sub").resolve("cli.daemon"), 0,
+				2, Duration.ofSeconds(5));
+		server.start();
+	}
+
+	@After
+	public void tearDown() throws IOException{
+		server.stop();
+		Files.deleteIfExists(directory.resolve("forged.daemon"));
+		Files.deleteIfExists(directory.resolve("sub"));
+		Files.deleteIfExists(directory);
+	}
+
+	@Test
+	public void roundTrip() throws IOException{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+		final int exitCode = DaemonClient.execute(server.getFile(), new String[]{"echo", "hello", "世界"}, out, err);
+
+		Assert.assertEquals(3, exitCode);
+		Assert.assertEquals("hello 世界\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+		Assert.assertEquals("2\n", new String(err.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void unknownCommand() throws IOException{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+		final int exitCode = DaemonClient.execute(server.getFile(), new String[]{"missing"}, out, err);
+
+		Assert.assertEquals(DaemonServer.COMMAND_NOT_FOUND, exitCode);
+		Assert.assertEquals(0, out.size());
+		Assert.assertTrue(new String(err.toByteArray(), StandardCharsets.UTF_8).contains("Unknown command: missing"));
+	}
+
+	@Test(expected = IOException.class)
+	public void badToken() throws IOException{
+		final Properties properties = new Properties();
+
+		try(InputStream inputStream = Files.newInputStream(server.getFile())){
+			properties.load(inputStream);
+		}
+
+		properties.setProperty(DaemonProtocol.TOKEN, "invalid");
+
+		final Path forged = directory.resolve("forged.daemon");
+
+		try(OutputStream outputStream = Files.newOutputStream(forged)){
+			properties.store(outputStream, null);
+		}
+
+		if(isPosix()){
+			Files.setPosixFilePermissions(forged, PosixFilePermissions.fromString("rw-------"));
+		}
+
+		// 令牌错误时服务端直接关闭连接，不返回退出帧
+		DaemonClient.execute(forged, new String[]{"echo"}, new ByteArrayOutputStream(),
+				new ByteArrayOutputStream());
+	}
+
+	@Test
+	public void daemonFilePermissions() throws IOException{
+		Assume.assumeTrue(isPosix());
+
+		Assert.assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(
+				server.getFile().getParent())));
+		Assert.assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(
+				server.getFile())));
+	}
+
+	@Test
+	public void refuseReadableDaemonFile() throws IOException{
+		Assume.assumeTrue(isPosix());
+
+		Files.setPosixFilePermissions(server.getFile(), PosixFilePermissions.fromString("rw-r--r--"));
+
+		try{
+			DaemonClient.execute(server.getFile(), new String[]{"echo"}, new ByteArrayOutputStream(),
+					new ByteArrayOutputStream());
+			Assert.fail();
+		}catch(IOException e){
+			Assert.assertTrue(e.getMessage().contains("group or others"));
+		}
+	}
+
+	private static boolean isPosix(){
+		return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+	}
+
+	private final static class EchoCommand implements CliCommand {
+
+		@Override
+		public String getName(){
+			return "echo";
+		}
+
+		@Override
+		public int execute(String[] args, PrintStream out, PrintStream err){
+			out.println(String.join(" ", args));
+			err.println(args.length);
+			return 3;
+		}
+
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class FileCheckpointRepositoryTest {
+
+	private Path directory;
+
+	private Path file;
+
+	@Before
+	public void setUp() throws IOException{
+		directory = Files.createTempDirectory("checkpoint-test");
+		file = directory.resolve("checkpoint.properties");
+	}
+
+	@After
+	public void tearDown() throws IOException{
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(directory);
+	}
+
+	@Test
+	public void savePositionIsDeferredUntilFlush() throws IOException{
+		final FileCheckpointRepository repository = new FileCheckpointRepository(file, Duration.ofHours(1));
+
+		repository.savePosition("job", "step", 0, 1, 100);
+		repository.savePosition("job", "step", 0, 1, 200);
+
+		Assert.assertEquals(200, repository.getPosition("job", "step", 0, 1));
+		Assert.assertFalse(Files.exists(file));
+
+		repository.flush();
+
+		Assert.assertEquals(200, new FileCheckpointRepository(file).getPosition("job", "step", 0, 1));
+	}
+
+	@Test
+	public void completeIsWrittenImmediately() throws IOException{
+		final FileCheckpointRepository repository = new FileCheckpointRepository(file, Duration.ofHours(1));
+
+		repository.savePosition("job", "step", 0, 1, 100);
+		repository.complete("job", "step");
+
+		final FileCheckpointRepository reloaded = new FileCheckpointRepository(file);
+
+		Assert.assertTrue(reloaded.isCompleted("job", "step"));
+		Assert.assertEquals(0, reloaded.getPosition("job", "step", 0, 1));
+	}
+
+	@Test
+	public void zeroIntervalWritesEveryPosition() throws IOException{
+		final FileCheckpointRepository repository = new FileCheckpointRepository(file, Duration.ZERO);
+
+		repository.savePosition("job", "step", 1, 2, 100);
+
+		Assert.assertEquals(100, new FileCheckpointRepository(file).getPosition("job", "step", 1, 2));
+		Assert.assertEquals(0, new FileCheckpointRepository(file).getPosition("job", "step", 1, 3));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectSeparatorInJobName() throws IOException{
+		new FileCheckpointRepository(file).savePosition("a/b", "step", 0, 1, 1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectSeparatorInStepName() throws IOException{
+		new FileCheckpointRepository(file).isCompleted("job", "a/b");
+	}
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.cli.job;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class JobRunnerTest {
+
+	private Path directory;
+
+	private Path file;
+
+	@Before
+	public void setUp() throws IOException{
+		directory = Files.createTempDirectory("job-runner-test");
+		file = directory.resolve("checkpoint.properties");
+	}
+
+	@After
+	public void tearDown() throws IOException{
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(directory);
+	}
+
+	@Test
+	public void restartFromCheckpoint() throws Exception{
+		final List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+		final Job failing = new Job("import", Step.<Integer, Integer>builder("copy").reader(new ListReader(10))
+				.writer((items)->{
+					if(items.contains(7)){
+						throw new IllegalStateException("write failure");
+					}
+
+					written.addAll(items);
+				}).chunkSize(3).build());
+
+		// 写入间隔较长，验证失败时断点仍被写入文件
+		final JobRunner runner = new JobRunner(null, new FileCheckpointRepository(file, Duration.ofHours(1)));
+
+		try{
+			runner.run(failing);
+			Assert.fail();
+		}catch(JobExecutionException e){
+			Assert.assertEquals("write failure", e.getCause().getMessage());
+		}
+
+		Assert.assertEquals(6, written.size());
+
+		written.clear();
+
+		final Job job = new Job("import", Step.<Integer, Integer>builder("copy").reader(new ListReader(10))
+				.writer(written::addAll).chunkSize(3).build());
+		final FileCheckpointRepository repository = new FileCheckpointRepository(file);
+
+		Assert.assertEquals(6, repository.getPosition("import", "copy", 0, 1));
+
+		final List<StepMetrics> metrics = new JobRunner(null, repository).run(job);
+
+		Assert.assertEquals(Arrays.asList(6, 7, 8, 9), written);
+		Assert.assertEquals(4, metrics.get(0).getReadCount());
+		Assert.assertEquals(0, new FileCheckpointRepository(file).getPosition("import", "copy", 0, 1));
+	}
+
+	@Test
+	public void failingPartitionStopsSiblings() throws Exception{
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		final AtomicInteger read = new AtomicInteger();
+		final Job job = new Job("partitioned", Step.<Integer, Integer>builder("copy")
+				.reader((partition, partitions)->{
+					if(partition == 0){
+						return ()->{
+							throw new IllegalStateException("read failure");
+						};
+					}
+
+					return ()->{
+						Thread.sleep(1);
+						return read.incrementAndGet();
+					};
+				}, 2).writer((items)->{
+				}).chunkSize(10).build());
+
+		try{
+			new JobRunner(executor, null).run(job);
+			Assert.fail();
+		}catch(JobExecutionException e){
+			Assert.assertEquals("read failure", e.getCause().getMessage());
+		}finally{
+			executor.shutdownNow();
+		}
+
+		Assert.assertTrue(read.get() < 1000);
+	}
+
+	@Test(timeout = 10000)
+	public void discardingExecutorDoesNotDropPartitions() throws Exception{
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+				new SynchronousQueue<>(), new ThreadPoolExecutor.DiscardPolicy());
+		final AtomicInteger written = new AtomicInteger();
+		final Job job = new Job("discard", Step.<Integer, Integer>builder("copy")
+				.reader((partition, partitions)->new ListReader(5), 3).writer((items)->{
+					Thread.sleep(10);
+					written.addAndGet(items.size());
+				}).chunkSize(2).build());
+
+		try{
+			new JobRunner(executor, null).run(job);
+		}finally{
+			executor.shutdownNow();
+		}
+
+		Assert.assertEquals(15, written.get());
+	}
+
+	@Test
+	public void filteredItemsAdvancePosition() throws Exception{
+		final List<Integer> written = new ArrayList<>();
+		final AtomicInteger chunks = new AtomicInteger();
+		final CheckpointRepository repository = new FileCheckpointRepository(file);
+		final Job job = new Job("filter", Step.<Integer, Integer>builder("even").reader(new ListReader(10))
+				.processor((item)->item % 2 == 0 ? item : null).writer((items)->{
+					if(chunks.incrementAndGet() == 2){
+						throw new IllegalStateException("write failure");
+					}
+
+					written.addAll(items);
+				}).chunkSize(4).build());
+
+		try{
+			new JobRunner(null, repository).run(job);
+			Assert.fail();
+		}catch(JobExecutionException e){
+			Assert.assertEquals("write failure", e.getCause().getMessage());
+		}
+
+		// 第一块读取 4 条，过滤 2 条，断点为读取的条数
+		Assert.assertEquals(Arrays.asList(0, 2), written);
+		Assert.assertEquals(4, repository.getPosition("filter", "even", 0, 1));
+
+		final Job restarted = new Job("filter", Step.<Integer, Integer>builder("even").reader(new ListReader(10))
+				.processor((item)->item % 2 == 0 ? item : null).writer(written::addAll).chunkSize(4).build());
+		final List<StepMetrics> metrics = new JobRunner(null, repository).run(restarted);
+
+		Assert.assertEquals(6, metrics.get(0).getReadCount());
+		Assert.assertEquals(3, metrics.get(0).getFilterCount());
+		Assert.assertEquals(3, metrics.get(0).getWriteCount());
+		Assert.assertEquals(Arrays.asList(0, 2, 4, 6, 8), written);
+	}
+
+	private final static class ListReader implements ItemReader<Integer> {
+
+		private final int size;
+
+		private int index;
+
+		ListReader(final int size){
+			this.size = size;
+		}
+
+		@Override
+		public Integer read(){
+			return index < size ? index++ : null;
+		}
+
+	}
+
+}
@@ -24,6 +24,9 @@
  */
 package com.buession.springboot.datasource.autoconfigure;
 
+import com.buession.springboot.boot.startup.ParallelInitializationPostProcessor;
+import com.buession.springboot.datasource.warmup.DataSourceParallelInitializer;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionMessage;
@@ -35,6 +38,7 @@ import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.autoconfigure.jdbc.metadata.DataSourcePoolMetadataProvidersConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
@@ -59,6 +63,19 @@ import javax.sql.XADataSource;
 @Import({DataSourcePoolMetadataProvidersConfiguration.class})
 public class DataSourceAutoConfiguration {
 
+	@Bean
+	@ConditionalOnProperty(prefix = ParallelInitializationPostProcessor.PREFIX, name = "enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	public static DataSourceParallelInitializer dataSourceParallelInitializer() {
+		return new DataSourceParallelInitializer();
+	}
+
+	@Bean
+	public static LazyInitializationExcludeFilter dataSourceLazyInitializationExcludeFilter() {
+		return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class,
+				com.buession.springboot.datasource.core.DataSource.class);
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@Conditional(PooledDataSourceCondition.class)
 	@ConditionalOnMissingBean({DataSource.class, XADataSource.class})
@@ -26,6 +26,8 @@ package com.buession.springboot.datasource.autoconfigure;
 
 import com.buession.jdbc.datasource.config.PoolConfiguration;
 import com.buession.springboot.datasource.core.DataSource;
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.beans.BeanUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -34,6 +36,8 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.function.Function;
+
 /**
  * DataSource Auto Configuration
  *
@@ -49,9 +53,67 @@ public class DataSourceConfiguration {
 		this.properties = properties;
 	}
 
+	/**
+	 * 创建数据源
+	 *
+	 * @param type
+	 * 		数据源类型
+	 * @param poolConfiguration
+	 * 		连接池配置
+	 * @param dataSourceProperties
+	 * 		数据源配置
+	 * @param <T>
+	 *        {@link javax.sql.DataSource} 实现类
+	 * @param <P>
+	 *        {@link PoolConfiguration} 实现类
+	 * @param <D>
+	 *        {@link com.buession.jdbc.datasource.DataSource} 实现类
+	 *
+	 * @return 数据源
+	 *
+	 * @deprecated 使用 {@link #createDataSource(Class, Function, PoolConfiguration, DataSourceProperties)}
+	 */
+	@Deprecated
 	protected static <T extends javax.sql.DataSource, P extends PoolConfiguration, D extends com.buession.jdbc.datasource.DataSource<T, P>> DataSource createDataSource(
 			final Class<D> type, final P poolConfiguration, final DataSourceProperties dataSourceProperties) {
-		final DataSourceInitializer<T, P, D> dataSourceInitializer = new DataSourceInitializer<>(type,
+		return createDataSource(type, (properties)->{
+			try{
+				return BeanUtils.instantiateClass(type.getConstructor(
+						org.springframework.boot.autoconfigure.jdbc.DataSourceProperties.class), properties);
+			}catch(NoSuchMethodException e){
+				throw new BeanInstantiationException(type,
+						"Can't specify more arguments than constructor parameters");
+			}
+		}, poolConfiguration, dataSourceProperties);
+	}
+
+	/**
+	 * 创建数据源
+	 *
+	 * @param type
+	 * 		数据源类型
+	 * @param factory
+	 * 		数据源工厂，通常为数据源类型的构造函数引用
+	 * @param poolConfiguration
+	 * 		连接池配置
+	 * @param dataSourceProperties
+	 * 		数据源配置
+	 * @param <T>
+	 *        {@link javax.sql.DataSource} 实现类
+	 * @param <P>
+	 *        {@link PoolConfiguration} 实现类
+	 * @param <D>
+	 *        {@link com.buession.jdbc.datasource.DataSource} 实现类
+	 *
+	 * @return 数据源
+	 *
+	 * @since 2.3.4
+	 */
+	protected static <T extends javax.sql.DataSource, P extends PoolConfiguration, D extends com.buession.jdbc.datasource.DataSource<T, P>> DataSource createDataSource(
+			final Class<D> type,
+			final Function<org.springframework.boot.autoconfigure.jdbc.DataSourceProperties, D> factory,
+			final P poolConfiguration, final DataSourceProperties dataSourceProperties) {
+		final DataSourceInitializer<T, P, D> dataSourceInitializer = new DataSourceInitializer<>(type, factory,
 				poolConfiguration, dataSourceProperties);
 		return dataSourceInitializer.createDataSource();
 	}
@@ -75,7 +137,8 @@ public class DataSourceConfiguration {
 		@Bean
 		@ConfigurationProperties(prefix = DataSourceProperties.PREFIX + ".hikari")
 		public DataSource dataSource() {
-			return createDataSource(DataSources.HikariDataSource.class, properties.getHikari(), properties);
+			return createDataSource(DataSources.HikariDataSource.class, DataSources.HikariDataSource::new,
+					properties.getHikari(), properties);
 		}
 
 	}
@@ -99,7 +162,8 @@ public class DataSourceConfiguration {
 		@Bean
 		@ConfigurationProperties(prefix = DataSourceProperties.PREFIX + ".dbcp2")
 		public DataSource dataSource() {
-			return createDataSource(DataSources.Dbcp2DataSource.class, properties.getDbcp2(), properties);
+			return createDataSource(DataSources.Dbcp2DataSource.class, DataSources.Dbcp2DataSource::new,
+					properties.getDbcp2(), properties);
 		}
 
 	}
@@ -123,7 +187,8 @@ public class DataSourceConfiguration {
 		@Bean
 		@ConfigurationProperties(prefix = DataSourceProperties.PREFIX + ".druid")
 		public DataSource dataSource() {
-			return createDataSource(DataSources.DruidDataSource.class, properties.getDruid(), properties);
+			return createDataSource(DataSources.DruidDataSource.class, DataSources.DruidDataSource::new,
+					properties.getDruid(), properties);
 		}
 
 	}
@@ -147,7 +212,8 @@ public class DataSourceConfiguration {
 		@Bean
 		@ConfigurationProperties(prefix = DataSourceProperties.PREFIX + ".tomcat")
 		public DataSource dataSource() {
-			return createDataSource(DataSources.TomcatDataSource.class, properties.getTomcat(), properties);
+			return createDataSource(DataSources.TomcatDataSource.class, DataSources.TomcatDataSource::new,
+					properties.getTomcat(), properties);
 		}
 
 	}
@@ -169,7 +235,8 @@ public class DataSourceConfiguration {
 
 		@Bean
 		public DataSource dataSource() {
-			return createDataSource(DataSources.GenericDataSource.class, properties.getGeneric(), properties);
+			return createDataSource(DataSources.GenericDataSource.class, DataSources.GenericDataSource::new,
+					properties.getGeneric(), properties);
 		}
 
 	}
@@ -30,10 +30,8 @@ import com.buession.jdbc.datasource.config.PoolConfiguration;
 import com.buession.springboot.datasource.core.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeanInstantiationException;
-import org.springframework.beans.BeanUtils;
 
-import java.lang.reflect.Constructor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -51,7 +49,9 @@ import java.util.stream.Collectors;
  */
 class DataSourceInitializer<T extends javax.sql.DataSource, P extends PoolConfiguration, D extends com.buession.jdbc.datasource.DataSource<T, P>> {
 
-	private final Class<D> type;
+	private final Class<?> type;
+
+	private final Function<org.springframework.boot.autoconfigure.jdbc.DataSourceProperties, D> factory;
 
 	private final P poolConfiguration;
 
@@ -59,8 +59,11 @@ class DataSourceInitializer<T extends javax.sql.DataSource, P extends PoolConfig
 
 	private final static Logger logger = LoggerFactory.getLogger(DataSourceInitializer.class);
 
-	DataSourceInitializer(final Class<D> type, final P poolConfiguration, final DataSourceProperties properties) {
+	DataSourceInitializer(final Class<?> type,
+						  final Function<org.springframework.boot.autoconfigure.jdbc.DataSourceProperties, D> factory,
+						  final P poolConfiguration, final DataSourceProperties properties) {
 		this.type = type;
+		this.factory = factory;
 		this.poolConfiguration = poolConfiguration;
 		this.properties = properties;
 	}
@@ -91,17 +94,11 @@ class DataSourceInitializer<T extends javax.sql.DataSource, P extends PoolConfig
 	}
 
 	private T createDataSource(final org.springframework.boot.autoconfigure.jdbc.DataSourceProperties properties) {
-		try{
-			final Constructor<D> constructor = type.getConstructor(
-					org.springframework.boot.autoconfigure.jdbc.DataSourceProperties.class);
-			final D instance = BeanUtils.instantiateClass(constructor, properties);
+		final D instance = factory.apply(properties);
 
-			instance.setPoolConfiguration(poolConfiguration);
+		instance.setPoolConfiguration(poolConfiguration);
 
-			return instance.createDataSource();
-		}catch(NoSuchMethodException e){
-			throw new BeanInstantiationException(type, "Can't specify more arguments than constructor parameters");
-		}
+		return instance.createDataSource();
 	}
 
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.datasource.warmup;
+
+import com.buession.core.validator.Validate;
+import com.buession.springboot.boot.startup.ParallelInitializer;
+import com.buession.springboot.datasource.core.DataSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 数据源并行初始化器，Master 库及各 Slave 库数据源分别获取一次连接，并行完成连接池的初始化
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class DataSourceParallelInitializer implements ParallelInitializer<DataSource> {
+
+	@Override
+	public Class<DataSource> getType() {
+		return DataSource.class;
+	}
+
+	@Override
+	public Collection<Callable<?>> getInitializationTasks(final DataSource dataSource) {
+		final List<Callable<?>> tasks = new ArrayList<>();
+
+		if(dataSource.getMaster() != null){
+			tasks.add(()->{
+				DataSourceWarmer.warmUp(dataSource.getMaster());
+				return null;
+			});
+		}
+
+		if(Validate.isNotEmpty(dataSource.getSlaves())){
+			for(javax.sql.DataSource slave : dataSource.getSlaves()){
+				tasks.add(()->{
+					DataSourceWarmer.warmUp(slave);
+					return null;
+				});
+			}
+		}
+
+		return tasks;
+	}
+
+}
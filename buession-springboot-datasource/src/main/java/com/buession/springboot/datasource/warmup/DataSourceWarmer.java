@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.datasource.warmup;
+
+import com.buession.core.validator.Validate;
+import com.buession.springboot.boot.warmup.ApplicationWarmer;
+import com.buession.springboot.datasource.core.DataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 数据源预热器，从 Master 库及各 Slave 库数据源获取一次连接，触发连接池初始化并按初始连接数、最小空闲连接数填充连接池
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class DataSourceWarmer implements ApplicationWarmer {
+
+	private final DataSource dataSource;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param dataSource
+	 * 		主从数据源
+	 */
+	public DataSourceWarmer(final DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	@Override
+	public void warmUp() throws SQLException {
+		if(dataSource.getMaster() != null){
+			warmUp(dataSource.getMaster());
+		}
+
+		if(Validate.isNotEmpty(dataSource.getSlaves())){
+			for(javax.sql.DataSource slave : dataSource.getSlaves()){
+				warmUp(slave);
+			}
+		}
+	}
+
+	static void warmUp(final javax.sql.DataSource dataSource) throws SQLException {
+		try(Connection connection = dataSource.getConnection()){
+			connection.isValid(0);
+		}
+	}
+
+}
@@ -26,9 +26,12 @@ package com.buession.springboot.geoip.autoconfigure;
 
 import com.buession.core.validator.Validate;
 import com.buession.geoip.spring.GeoIPResolverFactoryBean;
+import com.buession.springboot.boot.startup.ParallelInitializationPostProcessor;
+import com.buession.springboot.geoip.warmup.GeoIPParallelInitializer;
 import com.maxmind.geoip2.DatabaseReader;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -63,4 +66,11 @@ public class GeoIPResolverConfiguration {
 		return factory;
 	}
 
+	@Bean
+	@ConditionalOnProperty(prefix = ParallelInitializationPostProcessor.PREFIX, name = "enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	public static GeoIPParallelInitializer geoIPParallelInitializer(){
+		return new GeoIPParallelInitializer();
+	}
+
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.geoip.warmup;
+
+import com.buession.geoip.Resolver;
+import com.buession.springboot.boot.warmup.ApplicationWarmer;
+
+/**
+ * GeoIP 预热器，执行一次 IP 查询，完成 GeoIP 数据库的加载及内存映射
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class GeoIPWarmer implements ApplicationWarmer {
+
+	private final static String WARM_UP_IP = "8.8.8.8";
+
+	private final Resolver resolver;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param resolver
+	 *        {@link Resolver}
+	 */
+	public GeoIPWarmer(final Resolver resolver){
+		this.resolver = resolver;
+	}
+
+	@Override
+	public void warmUp() throws Exception{
+		resolver.location(WARM_UP_IP);
+	}
+
+}
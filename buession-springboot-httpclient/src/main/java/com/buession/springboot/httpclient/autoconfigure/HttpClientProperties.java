@@ -29,6 +29,7 @@ import com.buession.httpclient.core.Configuration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.util.List;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -45,6 +46,13 @@ public class HttpClientProperties extends Configuration {
 	@NestedConfigurationProperty
 	private OkHttp okHttp = new OkHttp();
 
+	/**
+	 * 预热 URL，应用就绪前请求这些 URL，预先建立到目标主机的连接
+	 *
+	 * @since 2.3.4
+	 */
+	private List<String> warmUpUrls;
+
 	public ApacheClient getApacheClient(){
 		return apacheClient;
 	}
@@ -61,6 +69,14 @@ public class HttpClientProperties extends Configuration {
 		this.okHttp = okHttp;
 	}
 
+	public List<String> getWarmUpUrls(){
+		return warmUpUrls;
+	}
+
+	public void setWarmUpUrls(List<String> warmUpUrls){
+		this.warmUpUrls = warmUpUrls;
+	}
+
 	public final static class ApacheClient {
 
 		private IOReactorConfig ioReactor = new IOReactorConfig();
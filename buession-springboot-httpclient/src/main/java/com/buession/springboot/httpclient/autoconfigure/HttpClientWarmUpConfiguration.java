@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.httpclient.autoconfigure;
+
+import com.buession.httpclient.HttpClient;
+import com.buession.springboot.boot.warmup.ApplicationWarmUpListener;
+import com.buession.springboot.httpclient.warmup.HttpClientWarmer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HttpClient 预热 Auto Configuration，未配置 spring.httpclient.warm-up-urls 时预热器不执行任何请求
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(HttpClientProperties.class)
+@AutoConfigureAfter({ApacheHttpClientConfiguration.class, OkHttpHttpClientConfiguration.class})
+@ConditionalOnBean(name = AbstractHttpClientConfiguration.HTTP_CLIENT_BEAN_NAME, value = HttpClient.class)
+@ConditionalOnProperty(prefix = ApplicationWarmUpListener.PREFIX, name = "httpclient.enabled", havingValue = "true", matchIfMissing = true)
+public class HttpClientWarmUpConfiguration extends AbstractHttpClientConfiguration {
+
+	public HttpClientWarmUpConfiguration(HttpClientProperties properties) {
+		super(properties);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public HttpClientWarmer httpClientWarmer(@Qualifier(HTTP_CLIENT_BEAN_NAME) HttpClient httpClient) {
+		return new HttpClientWarmer(httpClient, properties.getWarmUpUrls());
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.httpclient.warmup;
+
+import com.buession.httpclient.HttpClient;
+import com.buession.springboot.boot.warmup.ApplicationWarmer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * HttpClient 预热器，依次请求配置的预热 URL，预先完成 DNS 解析、TCP 及 TLS 握手，并将连接保留在连接池中
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class HttpClientWarmer implements ApplicationWarmer {
+
+	private final HttpClient httpClient;
+
+	private final List<String> urls;
+
+	private final static Logger logger = LoggerFactory.getLogger(HttpClientWarmer.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param httpClient
+	 *        {@link HttpClient}
+	 * @param urls
+	 * 		预热 URL，为空时不执行预热
+	 */
+	public HttpClientWarmer(final HttpClient httpClient, final List<String> urls){
+		this.httpClient = httpClient;
+		this.urls = urls;
+	}
+
+	@Override
+	public void warmUp(){
+		if(urls == null || urls.isEmpty()){
+			return;
+		}
+
+		for(String url : urls){
+			try{
+				httpClient.get(url);
+			}catch(Exception e){
+				logger.warn("Warm up http client with url {} failure: {}", url, e.getMessage());
+			}
+		}
+	}
+
+}
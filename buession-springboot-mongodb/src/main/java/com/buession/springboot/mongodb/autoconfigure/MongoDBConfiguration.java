@@ -26,16 +26,22 @@ package com.buession.springboot.mongodb.autoconfigure;
 
 import com.buession.core.validator.Validate;
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoTypeMapper;
-import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.lang.NonNull;
 
 /**
  * @author Yong.Teng
@@ -46,19 +52,44 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 @Import({MongoDataAutoConfiguration.class})
 public class MongoDBConfiguration {
 
-	public MongoDBConfiguration(MongoDBProperties properties, ObjectProvider<MongoMappingContext> mongoMappingContext,
-								ObjectProvider<MappingMongoConverter> mappingMongoConverter) {
-		MongoMappingContext mappingContext = mongoMappingContext.getIfAvailable();
-		MongoTypeMapper mongoTypeMapper;
+	/**
+	 * 在 {@link MappingMongoConverter} 创建时为其设置 {@link MongoTypeMapper}，{@link MappingMongoConverter}
+	 * 延迟初始化时，{@link MongoTypeMapper} 的创建随之延迟
+	 *
+	 * @param properties
+	 * 		MongoDB 配置
+	 *
+	 * @return {@link BeanPostProcessor}
+	 *
+	 * @since 2.3.4
+	 */
+	@Bean
+	public static BeanPostProcessor mongoTypeMapperBeanPostProcessor(ObjectProvider<MongoDBProperties> properties) {
+		return new BeanPostProcessor() {
 
+			@Override
+			public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName)
+					throws BeansException {
+				if(bean instanceof MappingMongoConverter){
+					final MappingMongoConverter mongoConverter = (MappingMongoConverter) bean;
+					mongoConverter.setTypeMapper(createMongoTypeMapper(properties.getObject(),
+							mongoConverter.getMappingContext()));
+				}
+
+				return bean;
+			}
+
+		};
+	}
+
+	private static MongoTypeMapper createMongoTypeMapper(final MongoDBProperties properties,
+														 final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
 		if(properties.getTypeMapper() != null){
-			mongoTypeMapper = BeanUtils.instantiateClass(properties.getTypeMapper());
+			return BeanUtils.instantiateClass(properties.getTypeMapper());
 		}else{
-			mongoTypeMapper = new DefaultMongoTypeMapper(
-					Validate.hasText(properties.getTypeKey()) ? properties.getTypeKey() : null, mappingContext);
+			return new DefaultMongoTypeMapper(Validate.hasText(properties.getTypeKey()) ? properties.getTypeKey() :
+					null, mappingContext);
 		}
-
-		mappingMongoConverter.ifAvailable((mongoConverter)->mongoConverter.setTypeMapper(mongoTypeMapper));
 	}
 
 }
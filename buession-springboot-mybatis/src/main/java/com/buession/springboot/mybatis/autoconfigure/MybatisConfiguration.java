@@ -29,7 +29,6 @@ package com.buession.springboot.mybatis.autoconfigure;
 import com.buession.core.collect.Arrays;
 import com.buession.core.converter.mapper.PropertyMapper;
 import com.buession.core.utils.Assert;
-import com.buession.core.utils.FieldUtils;
 import com.buession.core.validator.Validate;
 import com.buession.springboot.datasource.autoconfigure.DataSourceConfiguration;
 import com.buession.springboot.datasource.core.DataSource;
@@ -188,29 +187,15 @@ public class MybatisConfiguration {
 
 		Class<? extends LanguageDriver> defaultLanguageDriver = properties.getDefaultScriptingLanguageDriver();
 		if(Validate.isNotEmpty(languageDrivers)){
-			try{
-				FieldUtils.writeField(sessionFactoryBean, "scriptingLanguageDrivers", languageDrivers);
-			}catch(IllegalAccessException e){
-				if(logger.isWarnEnabled()){
-					logger.warn("Set field 'scriptingLanguageDrivers' for {} error: {}",
-							SqlSessionFactoryBean.class.getName(), e.getMessage());
-				}
-			}
+			sessionFactoryBean.setScriptingLanguageDrivers(languageDrivers);
 
 			if(defaultLanguageDriver == null && languageDrivers.length == 1){
 				defaultLanguageDriver = languageDrivers[0].getClass();
 			}
 		}
 
-		try{
-			FieldUtils.writeDeclaredField(sessionFactoryBean, "defaultScriptingLanguageDriver", defaultLanguageDriver,
-					true);
-		}catch(IllegalAccessException e){
-			if(logger.isWarnEnabled()){
-				logger.warn("Set field 'defaultScriptingLanguageDriver' for {} error: {}",
-						SqlSessionFactoryBean.class.getName(), e.getMessage());
-			}
-		}
+		mapper.alwaysApplyingWhenNonNull().from(defaultLanguageDriver)
+				.to(sessionFactoryBean::setDefaultScriptingLanguageDriver);
 
 		return sessionFactoryBean;
 	}
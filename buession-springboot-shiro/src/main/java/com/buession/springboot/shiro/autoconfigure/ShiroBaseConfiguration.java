@@ -28,6 +28,8 @@ import com.buession.redis.RedisTemplate;
 import com.buession.security.shiro.DefaultRedisManager;
 import com.buession.security.shiro.RedisManager;
 import com.buession.security.shiro.cache.RedisCacheManager;
+import com.buession.springboot.cache.redis.nearcache.NearCache;
+import com.buession.springboot.shiro.cache.NearCachedRedisManager;
 import org.apache.shiro.cache.CacheManager;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -53,8 +55,12 @@ public class ShiroBaseConfiguration {
 	@Bean
 	@ConditionalOnBean(RedisTemplate.class)
 	@ConditionalOnMissingBean
-	public RedisManager redisManager(ObjectProvider<RedisTemplate> redisTemplate){
-		return new DefaultRedisManager(redisTemplate.getIfAvailable());
+	public RedisManager redisManager(ObjectProvider<RedisTemplate> redisTemplate,
+									 ObjectProvider<NearCache> nearCache){
+		final RedisManager redisManager = new DefaultRedisManager(redisTemplate.getIfAvailable());
+		final NearCache cache = nearCache.getIfAvailable();
+
+		return cache == null ? redisManager : NearCachedRedisManager.create(redisManager, cache);
 	}
 
 	@Bean
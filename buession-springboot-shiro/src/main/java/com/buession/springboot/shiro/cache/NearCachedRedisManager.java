@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.shiro.cache;
+
+import com.buession.core.utils.Assert;
+import com.buession.security.shiro.RedisManager;
+import com.buession.springboot.cache.redis.nearcache.NearCache;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 在 {@link RedisManager} 之前加入 {@link NearCache}，由 Shiro 的 RedisCacheManager、RedisSessionDAO 共享
+ * <p>以单个 byte[] 键读取 byte[] 值的 get 方法优先读取近端缓存；以 set、del、remove、expire 等开头，首个参数为键的写入方法，
+ * 执行后失效该键并通知其它节点；其它方法直接调用被代理的 {@link RedisManager}。
+ * 通过动态代理实现，不依赖 {@link RedisManager} 各版本的具体方法签名。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public final class NearCachedRedisManager {
+
+	private final static String[] WRITE_METHOD_PREFIXES = {"set", "del", "remove", "expire", "persist", "incr",
+			"decr", "append", "getSet", "getDel"};
+
+	private NearCachedRedisManager() {
+
+	}
+
+	/**
+	 * 创建带近端缓存的 {@link RedisManager}
+	 *
+	 * @param redisManager
+	 * 		被代理的 {@link RedisManager}
+	 * @param nearCache
+	 * 		近端缓存
+	 *
+	 * @return 带近端缓存的 {@link RedisManager}
+	 */
+	public static RedisManager create(final RedisManager redisManager, final NearCache nearCache) {
+		Assert.isNull(redisManager, "RedisManager cloud not be null.");
+		Assert.isNull(nearCache, "NearCache cloud not be null.");
+
+		return (RedisManager) Proxy.newProxyInstance(NearCachedRedisManager.class.getClassLoader(),
+				new Class<?>[]{RedisManager.class}, new NearCacheInvocationHandler(redisManager, nearCache));
+	}
+
+	private final static class NearCacheInvocationHandler implements InvocationHandler {
+
+		private final RedisManager redisManager;
+
+		private final NearCache nearCache;
+
+		NearCacheInvocationHandler(final RedisManager redisManager, final NearCache nearCache) {
+			this.redisManager = redisManager;
+			this.nearCache = nearCache;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if(method.getDeclaringClass() == Object.class){
+				return invokeObjectMethod(proxy, method, args);
+			}
+
+			final Class<?>[] parameterTypes = method.getParameterTypes();
+
+			if("get".equals(method.getName()) && parameterTypes.length == 1 && parameterTypes[0] == byte[].class &&
+					method.getReturnType() == byte[].class){
+				final byte[] value = nearCache.get(toKey((byte[]) args[0]), ()->(byte[]) invokeUnchecked(method,
+						args));
+				return value == null ? null : value.clone();
+			}
+
+			final Object result = invoke(method, args);
+
+			if(isWriteMethod(method.getName()) && parameterTypes.length > 0){
+				if(args[0] instanceof byte[]){
+					nearCache.evict(toKey((byte[]) args[0]));
+				}else if(args[0] instanceof byte[][]){
+					for(byte[] key : (byte[][]) args[0]){
+						nearCache.evict(toKey(key));
+					}
+				}
+			}
+
+			return result;
+		}
+
+		private Object invokeObjectMethod(final Object proxy, final Method method, final Object[] args)
+				throws Throwable {
+			switch(method.getName()){
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "NearCachedRedisManager[" + redisManager + "]";
+				default:
+					return invoke(method, args);
+			}
+		}
+
+		private Object invoke(final Method method, final Object[] args) throws Throwable {
+			try{
+				return method.invoke(redisManager, args);
+			}catch(InvocationTargetException e){
+				throw e.getTargetException();
+			}
+		}
+
+		private Object invokeUnchecked(final Method method, final Object[] args) {
+			try{
+				return method.invoke(redisManager, args);
+			}catch(InvocationTargetException e){
+				final Throwable target = e.getTargetException();
+
+				if(target instanceof RuntimeException){
+					throw (RuntimeException) target;
+				}else if(target instanceof Error){
+					throw (Error) target;
+				}else{
+					throw new IllegalStateException(target);
+				}
+			}catch(IllegalAccessException e){
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private static boolean isWriteMethod(final String name) {
+			for(String prefix : WRITE_METHOD_PREFIXES){
+				if(name.startsWith(prefix)){
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		private static String toKey(final byte[] key) {
+			return new String(key, StandardCharsets.ISO_8859_1);
+		}
+
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.shiro.concurrent;
+
+import com.buession.springboot.boot.concurrent.ContextPropagator;
+import org.apache.shiro.subject.Subject;
+import org.apache.shiro.util.ThreadContext;
+
+/**
+ * Shiro {@link Subject} 线程上下文传播器，使线程池中执行的任务可以通过 SecurityUtils.getSubject() 获取提交任务时的
+ * {@link Subject}
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class SubjectContextPropagator implements ContextPropagator<Subject> {
+
+	@Override
+	public Subject capture(){
+		return ThreadContext.getSubject();
+	}
+
+	@Override
+	public Subject restore(Subject context){
+		final Subject previous = ThreadContext.getSubject();
+
+		ThreadContext.bind(context);
+
+		return previous;
+	}
+
+	@Override
+	public void reset(Subject previous){
+		if(previous == null){
+			ThreadContext.unbindSubject();
+		}else{
+			ThreadContext.bind(previous);
+		}
+	}
+
+}
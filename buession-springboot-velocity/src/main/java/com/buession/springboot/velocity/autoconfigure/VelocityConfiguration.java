@@ -35,6 +35,7 @@ import org.apache.velocity.runtime.RuntimeConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -152,6 +153,19 @@ public class VelocityConfiguration {
 			return resolver;
 		}
 
+		/**
+		 * Servlet Web 应用中，模板引擎及视图解析器位于请求处理链路上，始终立即初始化
+		 *
+		 * @return {@link LazyInitializationExcludeFilter}
+		 *
+		 * @since 2.3.4
+		 */
+		@Bean
+		public static LazyInitializationExcludeFilter velocityLazyInitializationExcludeFilter() {
+			return LazyInitializationExcludeFilter.forBeanTypes(VelocityConfigurer.class,
+					com.buession.velocity.servlet.VelocityViewResolver.class);
+		}
+
 		@Bean
 		@ConditionalOnEnabledResourceChain
 		@ConditionalOnMissingFilterBean(ResourceUrlEncodingFilter.class)
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.velocity.autoconfigure;
+
+import com.buession.springboot.boot.warmup.ApplicationWarmUpListener;
+import com.buession.springboot.velocity.warmup.VelocityWarmer;
+import com.buession.velocity.spring.VelocityConfigurer;
+import org.apache.velocity.app.VelocityEngine;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Optional;
+
+/**
+ * Velocity 模板预热自动配置类
+ * <p>{@link VelocityEngine} 默认延迟初始化（spring.lazy-initialization.modules 包含 velocity），预热时引擎尚未创建则跳过，
+ * 不会因预热提前创建引擎；显式设置 spring.warm-up.velocity.enabled=true 时，预热时创建引擎并加载模板。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(VelocityProperties.class)
+@ConditionalOnClass({VelocityEngine.class})
+@AutoConfigureAfter(VelocityConfiguration.class)
+@ConditionalOnProperty(prefix = ApplicationWarmUpListener.PREFIX, name = "velocity.enabled", havingValue = "true", matchIfMissing = true)
+public class VelocityWarmUpConfiguration {
+
+	private final VelocityProperties properties;
+
+	public VelocityWarmUpConfiguration(VelocityProperties properties) {
+		this.properties = properties;
+	}
+
+	@Bean
+	@Conditional(OnVelocityEngineCondition.class)
+	@ConditionalOnMissingBean
+	public VelocityWarmer velocityWarmer(ApplicationContext applicationContext, Environment environment,
+										 ConfigurableListableBeanFactory beanFactory,
+										 ObjectProvider<VelocityConfigurer> velocityConfigurer,
+										 ObjectProvider<VelocityEngine> velocityEngine) {
+		final boolean force = environment.getProperty(ApplicationWarmUpListener.PREFIX + ".velocity.enabled",
+				Boolean.class, false);
+
+		return new VelocityWarmer(()->force || isInitialized(beanFactory) ?
+				Optional.ofNullable(velocityConfigurer.getIfAvailable()).map(VelocityConfigurer::getVelocityEngine)
+						.orElseGet(velocityEngine::getIfAvailable) : null, applicationContext,
+				properties.getResourceLoaderPath(), properties.getSuffix());
+	}
+
+	/**
+	 * 返回 {@link VelocityEngine} 是否已创建；预热在所有非延迟初始化的单例创建完成之后执行，未创建说明引擎延迟初始化且尚未使用
+	 */
+	private static boolean isInitialized(final ConfigurableListableBeanFactory beanFactory) {
+		for(String beanName : beanFactory.getBeanNamesForType(VelocityConfigurer.class, true, false)){
+			if(beanFactory.containsSingleton(beanName)){
+				return true;
+			}
+		}
+
+		for(String beanName : beanFactory.getBeanNamesForType(VelocityEngine.class, true, false)){
+			if(beanFactory.containsSingleton(BeanFactoryUtils.transformedBeanName(beanName))){
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * {@link AnyNestedCondition} that checks that either {@link VelocityConfigurer} or {@link VelocityEngine} bean
+	 * is present.
+	 */
+	static class OnVelocityEngineCondition extends AnyNestedCondition {
+
+		OnVelocityEngineCondition() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@ConditionalOnBean(VelocityConfigurer.class)
+		static class HasVelocityConfigurer {
+
+		}
+
+		@ConditionalOnBean(VelocityEngine.class)
+		static class HasVelocityEngine {
+
+		}
+
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.velocity.warmup;
+
+import com.buession.springboot.boot.warmup.ApplicationWarmer;
+import org.apache.velocity.app.VelocityEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Velocity 预热器，加载并解析模板路径下的所有模板，模板缓存开启时，后续请求直接使用已解析的模板；
+ * {@link VelocityEngine} 提供者返回 null 时（如引擎延迟初始化，尚未创建）跳过预热
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class VelocityWarmer implements ApplicationWarmer {
+
+	private final Supplier<VelocityEngine> velocityEngine;
+
+	private final ResourcePatternResolver resourcePatternResolver;
+
+	private final String resourceLoaderPath;
+
+	private final String suffix;
+
+	private final static Logger logger = LoggerFactory.getLogger(VelocityWarmer.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param velocityEngine
+	 *        {@link VelocityEngine}
+	 * @param resourcePatternResolver
+	 *        {@link ResourcePatternResolver}
+	 * @param resourceLoaderPath
+	 * 		模板路径，多个以逗号分隔
+	 * @param suffix
+	 * 		模板后缀
+	 */
+	public VelocityWarmer(final VelocityEngine velocityEngine, final ResourcePatternResolver resourcePatternResolver,
+						  final String resourceLoaderPath, final String suffix) {
+		this(()->velocityEngine, resourcePatternResolver, resourceLoaderPath, suffix);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param velocityEngine
+	 *        {@link VelocityEngine} 提供者，返回 null 时跳过预热
+	 * @param resourcePatternResolver
+	 *        {@link ResourcePatternResolver}
+	 * @param resourceLoaderPath
+	 * 		模板路径，多个以逗号分隔
+	 * @param suffix
+	 * 		模板后缀
+	 */
+	public VelocityWarmer(final Supplier<VelocityEngine> velocityEngine,
+						  final ResourcePatternResolver resourcePatternResolver, final String resourceLoaderPath,
+						  final String suffix) {
+		this.velocityEngine = velocityEngine;
+		this.resourcePatternResolver = resourcePatternResolver;
+		this.resourceLoaderPath = resourceLoaderPath;
+		this.suffix = suffix;
+	}
+
+	@Override
+	public void warmUp() throws IOException {
+		final VelocityEngine velocityEngine = this.velocityEngine.get();
+
+		if(velocityEngine == null){
+			if(logger.isDebugEnabled()){
+				logger.debug("Velocity engine has not been initialized, skip warm up.");
+			}
+			return;
+		}
+
+		int count = 0;
+
+		for(String path : StringUtils.commaDelimitedListToStringArray(resourceLoaderPath)){
+			String location = path.trim();
+
+			if(location.endsWith("/") == false){
+				location += "/";
+			}
+
+			final Resource root = resourcePatternResolver.getResource(location);
+
+			if(root.exists() == false){
+				continue;
+			}
+
+			final String rootUrl = root.getURL().toString();
+
+			for(Resource resource : resourcePatternResolver.getResources(location + "**/*" + suffix)){
+				final String url = resource.getURL().toString();
+
+				if(url.startsWith(rootUrl) == false){
+					continue;
+				}
+
+				final String name = url.substring(rootUrl.length());
+
+				try{
+					velocityEngine.getTemplate(name);
+					count++;
+				}catch(RuntimeException e){
+					logger.warn("Warm up velocity template {} failure: {}", name, e.getMessage());
+				}
+			}
+		}
+
+		if(logger.isDebugEnabled()){
+			logger.debug("Warm up {} velocity template(s).", count);
+		}
+	}
+
+}
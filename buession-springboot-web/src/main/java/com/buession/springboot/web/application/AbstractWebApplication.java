@@ -76,7 +76,9 @@ public abstract class AbstractWebApplication extends AbstractApplication impleme
 	 * @throws IllegalAccessException
 	 * 		没有访问权限的异常
 	 * @since 1.3.1
+	 * @deprecated 使用 {@link #AbstractWebApplication(Banner)}
 	 */
+	@Deprecated
 	protected AbstractWebApplication(final Class<? extends Banner> banner) throws InstantiationException,
 			IllegalAccessException {
 		super(banner);
@@ -96,7 +98,9 @@ public abstract class AbstractWebApplication extends AbstractApplication impleme
 	 * 		没有访问权限的异常
 	 * @see WebApplicationType
 	 * @since 1.3.1
+	 * @deprecated 使用 {@link #AbstractWebApplication(WebApplicationType, Banner)}
 	 */
+	@Deprecated
 	protected AbstractWebApplication(final WebApplicationType webApplicationType,
 									 final Class<? extends Banner> banner) throws InstantiationException,
 			IllegalAccessException {
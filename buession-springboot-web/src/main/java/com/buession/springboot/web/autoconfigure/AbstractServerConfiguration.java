@@ -24,11 +24,8 @@
  */
 package com.buession.springboot.web.autoconfigure;
 
-import com.buession.core.utils.StringUtils;
-import com.buession.core.utils.SystemPropertyUtils;
-import com.buession.core.validator.Validate;
+import com.buession.springboot.web.utils.ResponseHeaderBlock;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -47,24 +44,7 @@ public abstract class AbstractServerConfiguration {
 	}
 
 	protected static Map<String, String> buildHeaders(final Map<String, String> headers){
-		final Map<String, String> result = new HashMap<>(headers.size());
-
-		headers.forEach((name, value)->{
-			if(value != null){
-				if(value.length() > 1 && StringUtils.startsWith(value, HEADER_VARIABLE_IDENTIFIER_CHAR)){
-					String propertyName = value.substring(1);
-					String propertyValue = SystemPropertyUtils.getProperty(propertyName);
-
-					if(Validate.hasText(propertyValue)){
-						result.put(name, propertyValue);
-					}
-				}else{
-					result.put(name, value);
-				}
-			}
-		});
-
-		return result;
+		return ResponseHeaderBlock.resolve(headers);
 	}
 
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.web.autoconfigure;
+
+import com.buession.springboot.boot.autoconfigure.ThreadPoolProperties;
+import com.buession.springboot.web.concurrent.RequestAttributesContextPropagator;
+import com.buession.springboot.web.concurrent.SecurityContextPropagator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 线程池线程上下文传播自动配置，将请求和 Spring Security 上下文传播到线程池中执行的任务
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = ThreadPoolProperties.PREFIX, name = "enabled", havingValue = "true")
+public class ContextPropagationConfiguration {
+
+	@Bean
+	@ConditionalOnProperty(prefix = ThreadPoolProperties.PREFIX, name = "context-propagation.enabled",
+			havingValue = "true", matchIfMissing = true)
+	@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+	@ConditionalOnMissingBean
+	public RequestAttributesContextPropagator requestAttributesContextPropagator(){
+		return new RequestAttributesContextPropagator();
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass({SecurityContextHolder.class})
+	@ConditionalOnProperty(prefix = ThreadPoolProperties.PREFIX, name = "context-propagation.enabled",
+			havingValue = "true", matchIfMissing = true)
+	static class SecurityContextPropagatorConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public SecurityContextPropagator securityContextPropagator(){
+			return new SecurityContextPropagator();
+		}
+
+	}
+
+}
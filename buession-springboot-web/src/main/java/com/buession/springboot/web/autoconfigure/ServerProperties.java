@@ -28,6 +28,7 @@ package com.buession.springboot.web.autoconfigure;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -46,6 +47,13 @@ public class ServerProperties {
 	 */
 	private Map<String, String> responseHeaders = new LinkedHashMap<>(16, 0.8F);
 
+	/**
+	 * 自定义响应头中 $ 变量的刷新间隔，为空时仅在启动时解析一次
+	 *
+	 * @since 2.3.4
+	 */
+	private Duration responseHeadersRefreshInterval;
+
 	/**
 	 * Server 信息响应头名称
 	 */
@@ -90,6 +98,29 @@ public class ServerProperties {
 		this.responseHeaders = responseHeaders;
 	}
 
+	/**
+	 * 返回自定义响应头中 $ 变量的刷新间隔
+	 *
+	 * @return 自定义响应头中 $ 变量的刷新间隔
+	 *
+	 * @since 2.3.4
+	 */
+	public Duration getResponseHeadersRefreshInterval(){
+		return responseHeadersRefreshInterval;
+	}
+
+	/**
+	 * 设置自定义响应头中 $ 变量的刷新间隔
+	 *
+	 * @param responseHeadersRefreshInterval
+	 * 		自定义响应头中 $ 变量的刷新间隔
+	 *
+	 * @since 2.3.4
+	 */
+	public void setResponseHeadersRefreshInterval(Duration responseHeadersRefreshInterval){
+		this.responseHeadersRefreshInterval = responseHeadersRefreshInterval;
+	}
+
 	/**
 	 * 返回 Server 信息响应头名称
 	 *
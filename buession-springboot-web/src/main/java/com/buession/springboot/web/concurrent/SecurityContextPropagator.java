@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.web.concurrent;
+
+import com.buession.springboot.boot.concurrent.ContextPropagator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Spring Security {@link SecurityContext} 线程上下文传播器
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public class SecurityContextPropagator implements ContextPropagator<SecurityContext> {
+
+	@Override
+	public SecurityContext capture(){
+		final SecurityContext context = SecurityContextHolder.getContext();
+		return context.getAuthentication() == null ? null : context;
+	}
+
+	@Override
+	public SecurityContext restore(SecurityContext context){
+		final SecurityContext previous = SecurityContextHolder.getContext();
+
+		SecurityContextHolder.setContext(context);
+
+		return previous;
+	}
+
+	@Override
+	public void reset(SecurityContext previous){
+		if(previous == null || previous.getAuthentication() == null){
+			SecurityContextHolder.clearContext();
+		}else{
+			SecurityContextHolder.setContext(previous);
+		}
+	}
+
+}
@@ -34,6 +34,7 @@ import org.springframework.boot.autoconfigure.web.ErrorProperties;
 import org.springframework.boot.autoconfigure.web.ResourceProperties;
 import org.springframework.boot.web.reactive.error.ErrorAttributes;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
@@ -62,12 +63,16 @@ import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Yong.Teng
@@ -92,6 +97,104 @@ public abstract class AbstractErrorWebExceptionHandler
 
 	private final static Logger pageNotFoundLogger = LoggerFactory.getLogger(PAGE_NOT_FOUND_LOG_CATEGORY);
 
+	/**
+	 * 当前请求已解析的 HTTP 状态在 {@link org.springframework.web.server.ServerWebExchange} 中的属性名称，
+	 * 避免同一次错误渲染中重复构建错误属性
+	 */
+	private final static String HTTP_STATUS_ATTRIBUTE = AbstractErrorWebExceptionHandler.class.getName() +
+			".HTTP_STATUS";
+
+	/**
+	 * 各 HTTP 状态不变的错误属性：state、code、message、status
+	 */
+	private final static Map<HttpStatus, Map<String, Object>> STATUS_ATTRIBUTES = new EnumMap<>(HttpStatus.class);
+
+	/**
+	 * 异常类型与处理方法的映射，按顺序匹配，子类须在父类之前
+	 */
+	private final static Map<Class<? extends Throwable>, ExceptionResolver> EXCEPTION_RESOLVER_MAPPINGS =
+			new LinkedHashMap<>(16);
+
+	private final static ExceptionResolver NO_EXCEPTION_RESOLVER = (handler, request, response, throwable)->null;
+
+	/**
+	 * 异常类型到处理方法的缓存，每个异常类型仅匹配一次
+	 */
+	private final static ClassValue<ExceptionResolver> EXCEPTION_RESOLVERS = new ClassValue<ExceptionResolver>() {
+
+		@Override
+		protected ExceptionResolver computeValue(Class<?> type) {
+			for(Map.Entry<Class<? extends Throwable>, ExceptionResolver> e : EXCEPTION_RESOLVER_MAPPINGS.entrySet()){
+				if(e.getKey().isAssignableFrom(type)){
+					return e.getValue();
+				}
+			}
+
+			return NO_EXCEPTION_RESOLVER;
+		}
+
+	};
+
+	private final static AcceptMatcher TEXT_HTML_ACCEPT_MATCHER = new AcceptMatcher(MediaType.TEXT_HTML);
+
+	private final static AcceptMatcher JSON_ACCEPT_MATCHER = new AcceptMatcher(MediaType.APPLICATION_JSON);
+
+	static {
+		for(HttpStatus httpStatus : HttpStatus.values()){
+			final Map<String, Object> attributes = new HashMap<>(6);
+
+			attributes.put("state", false);
+			attributes.put("code", httpStatus.value());
+			attributes.put("message", httpStatus.getReasonPhrase());
+			attributes.put("status", httpStatus);
+
+			STATUS_ATTRIBUTES.put(httpStatus, Collections.unmodifiableMap(attributes));
+		}
+
+		EXCEPTION_RESOLVER_MAPPINGS.put(MethodArgumentNotValidException.class,
+				(handler, request, response, throwable)->handler.handleMethodArgumentNotValidException(request,
+						response, (MethodArgumentNotValidException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(BindException.class,
+				(handler, request, response, throwable)->handler.handleBindException(request, response,
+						(BindException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(WebExchangeBindException.class,
+				(handler, request, response, throwable)->handler.handleWebExchangeBindException(request, response,
+						(WebExchangeBindException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(ServerWebInputException.class,
+				(handler, request, response, throwable)->handler.handleServerWebInputException(request, response,
+						(ServerWebInputException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(TypeMismatchException.class,
+				(handler, request, response, throwable)->handler.handleTypeMismatchException(request, response,
+						(TypeMismatchException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(HttpMessageNotReadableException.class,
+				(handler, request, response, throwable)->handler.handleHttpMessageNotReadableException(request,
+						response, (HttpMessageNotReadableException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(MethodNotAllowedException.class,
+				(handler, request, response, throwable)->handler.handleMethodNotAllowedException(request, response,
+						(MethodNotAllowedException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(NotAcceptableStatusException.class,
+				(handler, request, response, throwable)->handler.handleNotAcceptableException(request, response,
+						(NotAcceptableStatusException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(MediaTypeNotSupportedStatusException.class,
+				(handler, request, response, throwable)->handler.handleMediaTypeNotSupportedException(request,
+						response, (MediaTypeNotSupportedStatusException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(UnsupportedMediaTypeStatusException.class,
+				(handler, request, response, throwable)->handler.handleUnsupportedMediaTypeException(request,
+						response, (UnsupportedMediaTypeStatusException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(ConversionNotSupportedException.class,
+				(handler, request, response, throwable)->handler.handleConversionNotSupportedException(request,
+						response, (ConversionNotSupportedException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(HttpMessageNotWritableException.class,
+				(handler, request, response, throwable)->handler.handleHttpMessageNotWritableException(request,
+						response, (HttpMessageNotWritableException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(ResponseStatusException.class,
+				(handler, request, response, throwable)->handler.handleResponseStatusException(request, response,
+						(ResponseStatusException) throwable));
+		EXCEPTION_RESOLVER_MAPPINGS.put(AsyncRequestTimeoutException.class,
+				(handler, request, response, throwable)->handler.handleAsyncRequestTimeoutException(request,
+						response, (AsyncRequestTimeoutException) throwable));
+	}
+
 	public AbstractErrorWebExceptionHandler(ErrorAttributes errorAttributes, ResourceProperties resourceProperties,
 											ErrorProperties errorProperties, ApplicationContext applicationContext) {
 		super(errorAttributes, resourceProperties, applicationContext);
@@ -140,42 +243,11 @@ public abstract class AbstractErrorWebExceptionHandler
 	protected Map<String, Object> doResolveException(final ServerRequest request, final ServerResponse response,
 													 final Throwable throwable) {
 		try{
-			if(throwable instanceof MethodArgumentNotValidException){
-				return handleMethodArgumentNotValidException(request, response,
-						(MethodArgumentNotValidException) throwable);
-			}else if(throwable instanceof BindException){
-				return handleBindException(request, response, (BindException) throwable);
-			}else if(throwable instanceof WebExchangeBindException){
-				return handleWebExchangeBindException(request, response, (WebExchangeBindException) throwable);
-			}else if(throwable instanceof ServerWebInputException){
-				return handleServerWebInputException(request, response, (ServerWebInputException) throwable);
-			}else if(throwable instanceof TypeMismatchException){
-				return handleTypeMismatchException(request, response, (TypeMismatchException) throwable);
-			}else if(throwable instanceof HttpMessageNotReadableException){
-				return handleHttpMessageNotReadableException(request, response,
-						(HttpMessageNotReadableException) throwable);
-			}else if(throwable instanceof MethodNotAllowedException){
-				return handleMethodNotAllowedException(request, response, (MethodNotAllowedException) throwable);
-			}else if(throwable instanceof NotAcceptableStatusException){
-				return handleNotAcceptableException(request, response, (NotAcceptableStatusException) throwable);
-			}else if(throwable instanceof MediaTypeNotSupportedStatusException){
-				return handleMediaTypeNotSupportedException(request, response,
-						(MediaTypeNotSupportedStatusException) throwable);
-			}else if(throwable instanceof UnsupportedMediaTypeStatusException){
-				return handleUnsupportedMediaTypeException(request, response,
-						(UnsupportedMediaTypeStatusException) throwable);
-				//}else if(throwable instanceof MissingPathVariableException){
-				//return handleMissingPathVariable(request, response, (MissingPathVariableException) throwable);
-			}else if(throwable instanceof ConversionNotSupportedException){
-				return handleConversionNotSupportedException(request, response,
-						(ConversionNotSupportedException) throwable);
-			}else if(throwable instanceof HttpMessageNotWritableException){
-				return handleHttpMessageNotWritableException(request, response,
-						(HttpMessageNotWritableException) throwable);
-			}else if(throwable instanceof ResponseStatusException){
-				return handleResponseStatusException(request, response, (ResponseStatusException) throwable);
-			}else if(throwable instanceof AsyncRequestTimeoutException){
-				return handleAsyncRequestTimeoutException(request, response, (AsyncRequestTimeoutException) throwable);
+			final ExceptionResolver exceptionResolver = throwable == null ? NO_EXCEPTION_RESOLVER :
+					EXCEPTION_RESOLVERS.get(throwable.getClass());
+
+			if(exceptionResolver != NO_EXCEPTION_RESOLVER){
+				return exceptionResolver.resolve(this, request, response, throwable);
 			}
 		}catch(Exception handlerEx){
 			if(logger.isWarnEnabled()){
@@ -490,33 +562,11 @@ public abstract class AbstractErrorWebExceptionHandler
 	}
 
 	protected RequestPredicate acceptTextHtml() {
-		return (serverRequest)->{
-			try{
-				List<MediaType> acceptedMediaTypes = serverRequest.headers().accept();
-
-				acceptedMediaTypes.remove(MediaType.ALL);
-				MediaType.sortBySpecificityAndQuality(acceptedMediaTypes);
-
-				return acceptedMediaTypes.stream().anyMatch(MediaType.TEXT_HTML::isCompatibleWith);
-			}catch(InvalidMediaTypeException ex){
-				return false;
-			}
-		};
+		return TEXT_HTML_ACCEPT_MATCHER::matches;
 	}
 
 	protected RequestPredicate acceptJson() {
-		return (serverRequest)->{
-			try{
-				List<MediaType> acceptedMediaTypes = serverRequest.headers().accept();
-
-				acceptedMediaTypes.remove(MediaType.ALL);
-				MediaType.sortBySpecificityAndQuality(acceptedMediaTypes);
-
-				return acceptedMediaTypes.stream().anyMatch(MediaType.APPLICATION_JSON::isCompatibleWith);
-			}catch(InvalidMediaTypeException ex){
-				return false;
-			}
-		};
+		return JSON_ACCEPT_MATCHER::matches;
 	}
 
 	protected ServerHttpResponse getServerHttpResponse(final ServerRequest request) {
@@ -537,17 +587,29 @@ public abstract class AbstractErrorWebExceptionHandler
 	}
 
 	protected HttpStatus getHttpStatus(final ServerRequest request) {
+		final Map<String, Object> attributes = request.exchange().getAttributes();
+		final Object resolvedStatus = attributes.get(HTTP_STATUS_ATTRIBUTE);
+
+		if(resolvedStatus instanceof HttpStatus){
+			return (HttpStatus) resolvedStatus;
+		}
+
 		boolean includeStackTrace = isIncludeStackTrace(request, MediaType.TEXT_HTML);
 		Map<String, Object> errorAttributes = getErrorAttributes(request, includeStackTrace);
 		Object status = errorAttributes.get("status");
+		HttpStatus httpStatus = null;
 
 		if(status instanceof HttpStatus){
-			return (HttpStatus) status;
+			httpStatus = (HttpStatus) status;
 		}else if(status instanceof Integer){
-			return HttpStatus.resolve((Integer) status);
+			httpStatus = HttpStatus.resolve((Integer) status);
 		}
 
-		return null;
+		if(httpStatus != null){
+			attributes.put(HTTP_STATUS_ATTRIBUTE, httpStatus);
+		}
+
+		return httpStatus;
 	}
 
 	protected String[] determineViewName(final ServerRequest request, final Throwable throwable,
@@ -584,12 +646,8 @@ public abstract class AbstractErrorWebExceptionHandler
 	protected Map<String, Object> doResolve(final ServerRequest request, final Throwable throwable) {
 		HttpStatus httpStatus = getHttpStatus(request);
 
-		Map<String, Object> result = new HashMap<>(6);
+		Map<String, Object> result = new HashMap<>(STATUS_ATTRIBUTES.get(httpStatus));
 
-		result.put("state", false);
-		result.put("code", httpStatus.value());
-		result.put("message", httpStatus.getReasonPhrase());
-		result.put("status", httpStatus);
 		result.put("timestamp", new Date());
 		result.put(exceptionAttribute, throwable);
 
@@ -660,4 +718,71 @@ public abstract class AbstractErrorWebExceptionHandler
 		return sb.toString();
 	}
 
+	@FunctionalInterface
+	private interface ExceptionResolver {
+
+		Map<String, Object> resolve(AbstractErrorWebExceptionHandler handler, ServerRequest request,
+									ServerResponse response, Throwable throwable);
+
+	}
+
+	/**
+	 * 按 Accept 请求头原始值缓存媒体类型协商结果
+	 */
+	private final static class AcceptMatcher {
+
+		/**
+		 * Accept 请求头由客户端决定，限制缓存条数，超出后不再缓存
+		 */
+		private final static int MAX_CACHE_SIZE = 256;
+
+		private final MediaType mediaType;
+
+		private final Map<String, Boolean> cache = new ConcurrentHashMap<>(16);
+
+		AcceptMatcher(final MediaType mediaType) {
+			this.mediaType = mediaType;
+		}
+
+		boolean matches(final ServerRequest request) {
+			final List<String> values = request.headers().header(HttpHeaders.ACCEPT);
+
+			if(values.isEmpty()){
+				return false;
+			}
+
+			final String accept = values.size() == 1 ? values.get(0) : String.join(",", values);
+			Boolean result = cache.get(accept);
+
+			if(result == null){
+				result = negotiate(accept);
+
+				if(cache.size() < MAX_CACHE_SIZE){
+					cache.putIfAbsent(accept, result);
+				}
+			}
+
+			return result;
+		}
+
+		private boolean negotiate(final String accept) {
+			try{
+				boolean skipAll = true;
+
+				for(MediaType acceptedMediaType : MediaType.parseMediaTypes(accept)){
+					if(skipAll && MediaType.ALL.equals(acceptedMediaType)){
+						skipAll = false;
+					}else if(mediaType.isCompatibleWith(acceptedMediaType)){
+						return true;
+					}
+				}
+
+				return false;
+			}catch(InvalidMediaTypeException ex){
+				return false;
+			}
+		}
+
+	}
+
 }
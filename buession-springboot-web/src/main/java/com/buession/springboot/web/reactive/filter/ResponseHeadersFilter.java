@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.web.reactive.filter;
+
+import com.buession.springboot.web.utils.ResponseHeaderBlock;
+import org.springframework.lang.NonNull;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 响应头 Filter，响应头在构造时预先解析、校验，每个请求直接写入，已存在的同名响应头将被覆盖
+ *
+ * @author Yong.Teng
+ * @see com.buession.web.reactive.filter.ResponseHeadersFilter
+ * @see ResponseHeaderBlock
+ * @since 2.3.4
+ */
+public class ResponseHeadersFilter extends com.buession.web.reactive.filter.ResponseHeadersFilter {
+
+	/**
+	 * 预编译的响应头
+	 */
+	private final ResponseHeaderBlock headerBlock;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param headerBlock
+	 * 		预编译的响应头
+	 */
+	public ResponseHeadersFilter(final ResponseHeaderBlock headerBlock) {
+		super();
+		this.headerBlock = headerBlock;
+	}
+
+	@NonNull
+	@Override
+	public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+		if(headerBlock.isEmpty() == false){
+			headerBlock.forEach(exchange.getResponse().getHeaders()::set);
+		}
+
+		return chain.filter(exchange);
+	}
+
+}
@@ -26,13 +26,13 @@
  */
 package com.buession.springboot.web.servlet.autoconfigure;
 
-import com.buession.core.validator.Validate;
 import com.buession.springboot.web.autoconfigure.AbstractServerConfiguration;
 import com.buession.springboot.web.autoconfigure.ServerProperties;
+import com.buession.springboot.web.servlet.filter.ResponseHeadersFilter;
 import com.buession.springboot.web.servlet.filter.ServerInfoFilter;
+import com.buession.springboot.web.utils.ResponseHeaderBlock;
 import com.buession.web.servlet.filter.PoweredByFilter;
 import com.buession.web.servlet.filter.PrintUrlFilter;
-import com.buession.web.servlet.filter.ResponseHeadersFilter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -53,15 +53,10 @@ public class ServletServerConfiguration extends AbstractServerConfiguration {
 	}
 
 	@Bean
-	@ConditionalOnMissingBean
+	@ConditionalOnMissingBean(com.buession.web.servlet.filter.ResponseHeadersFilter.class)
 	public ResponseHeadersFilter responseHeadersFilter(){
-		final ResponseHeadersFilter responseHeadersFilter = new ResponseHeadersFilter();
-
-		if(Validate.isNotEmpty(properties.getResponseHeaders())){
-			responseHeadersFilter.setHeaders(buildHeaders(properties.getResponseHeaders()));
-		}
-
-		return responseHeadersFilter;
+		return new ResponseHeadersFilter(new ResponseHeaderBlock(properties.getResponseHeaders(),
+				properties.getResponseHeadersRefreshInterval()));
 	}
 
 	@Bean
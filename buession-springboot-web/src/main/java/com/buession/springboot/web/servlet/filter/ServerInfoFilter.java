@@ -25,7 +25,7 @@
 package com.buession.springboot.web.servlet.filter;
 
 import com.buession.core.validator.Validate;
-import com.buession.springboot.web.utils.ServerInfoFilterUtils;
+import com.buession.springboot.web.utils.ServerInfoFormatter;
 import org.springframework.lang.NonNull;
 
 /**
@@ -57,6 +57,11 @@ public class ServerInfoFilter extends com.buession.web.servlet.filter.ServerInfo
 	 */
 	private final String stripSuffix;
 
+	/**
+	 * Server 信息格式化器
+	 */
+	private final ServerInfoFormatter formatter;
+
 	/**
 	 * 构造函数
 	 *
@@ -83,12 +88,13 @@ public class ServerInfoFilter extends com.buession.web.servlet.filter.ServerInfo
 		this.suffix = suffix;
 		this.stripPrefix = stripPrefix;
 		this.stripSuffix = stripSuffix;
+		this.formatter = new ServerInfoFormatter(prefix, stripPrefix, suffix, stripSuffix);
 	}
 
 	@Override
 	@NonNull
 	protected String format(@NonNull final String serverName) {
-		return ServerInfoFilterUtils.format(serverName, prefix, stripPrefix, suffix, stripSuffix);
+		return formatter.format(serverName);
 	}
 
 }
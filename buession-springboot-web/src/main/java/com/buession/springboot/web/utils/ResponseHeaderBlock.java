@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.web.utils;
+
+import com.buession.core.utils.StringUtils;
+import com.buession.core.utils.SystemPropertyUtils;
+import com.buession.core.validator.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 预编译的响应头，将配置的响应头（值以 $ 开头时，取对应的系统属性或环境变量）解析、校验后编译为不可变的响应头块，
+ * 每个响应一次性写入
+ * <p>Servlet、WebFlux 均通过 {@link #forEach(BiConsumer)} 写入预先校验的名称、值数组；存在 $ 变量且指定了刷新间隔时，
+ * 超过刷新间隔后的首个请求重新解析变量，否则仅在构造时解析一次，也可调用 {@link #refresh()} 手动刷新。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.3.4
+ */
+public final class ResponseHeaderBlock {
+
+	private final static char VARIABLE_IDENTIFIER_CHAR = '$';
+
+	private final Map<String, String> definitions;
+
+	private final boolean variable;
+
+	private final long refreshIntervalNanos;
+
+	private volatile Headers headers;
+
+	private final static Logger logger = LoggerFactory.getLogger(ResponseHeaderBlock.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param definitions
+	 * 		配置的响应头
+	 * @param refreshInterval
+	 * 		$ 变量刷新间隔，为 null 时不刷新
+	 */
+	public ResponseHeaderBlock(final Map<String, String> definitions, final Duration refreshInterval) {
+		this.definitions = definitions == null ? Collections.emptyMap() :
+				Collections.unmodifiableMap(new LinkedHashMap<>(definitions));
+		this.variable = this.definitions.values().stream().anyMatch(ResponseHeaderBlock::isVariable);
+		this.refreshIntervalNanos = variable && refreshInterval != null && refreshInterval.isNegative() == false ?
+				refreshInterval.toNanos() : -1;
+		this.headers = compile(this.definitions);
+	}
+
+	/**
+	 * 返回是否没有任何响应头
+	 *
+	 * @return 没有任何响应头时，返回 true；否则，返回 false
+	 */
+	public boolean isEmpty() {
+		return getHeaders().names.length == 0;
+	}
+
+	/**
+	 * 依次处理每个响应头
+	 *
+	 * @param action
+	 * 		处理函数，参数为响应头名称、值
+	 */
+	public void forEach(final BiConsumer<String, String> action) {
+		final Headers current = getHeaders();
+
+		for(int i = 0; i < current.names.length; i++){
+			action.accept(current.names[i], current.values[i]);
+		}
+	}
+
+	/**
+	 * 重新解析 $ 变量
+	 */
+	public void refresh() {
+		headers = compile(definitions);
+	}
+
+	/**
+	 * 解析响应头，值以 $ 开头时，取对应的系统属性或环境变量，为空时忽略该响应头
+	 *
+	 * @param definitions
+	 * 		配置的响应头
+	 *
+	 * @return 解析后的响应头
+	 */
+	public static Map<String, String> resolve(final Map<String, String> definitions) {
+		final Map<String, String> result = new LinkedHashMap<>(definitions.size());
+
+		definitions.forEach((name, value)->{
+			if(value != null){
+				if(isVariable(value)){
+					String propertyValue = SystemPropertyUtils.getProperty(value.substring(1));
+
+					if(Validate.hasText(propertyValue)){
+						result.put(name, propertyValue);
+					}
+				}else{
+					result.put(name, value);
+				}
+			}
+		});
+
+		return result;
+	}
+
+	private Headers getHeaders() {
+		final Headers current = headers;
+
+		if(refreshIntervalNanos >= 0 && System.nanoTime() - current.resolvedAt >= refreshIntervalNanos){
+			refresh();
+			return headers;
+		}
+
+		return current;
+	}
+
+	private static boolean isVariable(final String value) {
+		return value != null && value.length() > 1 && StringUtils.startsWith(value, VARIABLE_IDENTIFIER_CHAR);
+	}
+
+	private static Headers compile(final Map<String, String> definitions) {
+		final Map<String, String> resolved = resolve(definitions);
+		final List<String> names = new ArrayList<>(resolved.size());
+		final List<String> values = new ArrayList<>(resolved.size());
+
+		resolved.forEach((name, value)->{
+			if(isValidName(name) == false){
+				logger.warn("Ignore response header '{}': invalid header name.", name);
+			}else if(isValidValue(value) == false){
+				logger.warn("Ignore response header '{}': invalid header value.", name);
+			}else{
+				names.add(name);
+				values.add(value);
+			}
+		});
+
+		return new Headers(names.toArray(new String[0]), values.toArray(new String[0]), System.nanoTime());
+	}
+
+	private static boolean isValidName(final String name) {
+		if(Validate.isEmpty(name)){
+			return false;
+		}
+
+		for(int i = 0; i < name.length(); i++){
+			final char c = name.charAt(i);
+
+			// RFC 7230 token
+			if(c <= ' ' || c >= 0x7F || "()<>@,;:\\\"/[]?={}".indexOf(c) >= 0){
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isValidValue(final String value) {
+		for(int i = 0; i < value.length(); i++){
+			final char c = value.charAt(i);
+
+			if(c == '\r' || c == '\n' || c == 0){
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private final static class Headers {
+
+		private final String[] names;
+
+		private final String[] values;
+
+		private final long resolvedAt;
+
+		Headers(final String[] names, final String[] values, final long resolvedAt) {
+			this.names = names;
+			this.values = values;
+			this.resolvedAt = resolvedAt;
+		}
+
+	}
+
+}
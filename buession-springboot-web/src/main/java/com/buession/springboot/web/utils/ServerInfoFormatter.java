@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2024 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.springboot.web.utils;
+
+import com.buession.core.validator.Validate;
+
+/**
+ * Server 信息格式化器，前缀、后缀及需删除的前缀、后缀在构造时确定，并缓存最近一次格式化的结果；
+ * 服务器名称不变时，直接返回缓存的响应头值，不再分配任何对象
+ *
+ * @author Yong.Teng
+ * @see ServerInfoFilterUtils
+ * @since 2.3.4
+ */
+public final class ServerInfoFormatter {
+
+	private final String prefix;
+
+	private final String stripPrefix;
+
+	private final String suffix;
+
+	private final String stripSuffix;
+
+	private volatile Formatted formatted;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param prefix
+	 * 		前缀
+	 * @param stripPrefix
+	 * 		删除前缀
+	 * @param suffix
+	 * 		后缀
+	 * @param stripSuffix
+	 * 		删除后缀
+	 */
+	public ServerInfoFormatter(final String prefix, final String stripPrefix, final String suffix,
+							   final String stripSuffix) {
+		this.prefix = Validate.hasText(prefix) ? prefix : "";
+		this.stripPrefix = Validate.hasText(stripPrefix) ? stripPrefix : null;
+		this.suffix = Validate.hasText(suffix) ? suffix : "";
+		this.stripSuffix = Validate.hasText(stripSuffix) ? stripSuffix : null;
+	}
+
+	/**
+	 * 格式化服务器名称
+	 *
+	 * @param serverName
+	 * 		服务器名称
+	 *
+	 * @return 响应头值
+	 */
+	public String format(final String serverName) {
+		final Formatted current = formatted;
+
+		if(current != null && (current.serverName == serverName || current.serverName.equals(serverName))){
+			return current.value;
+		}
+
+		final String value = doFormat(serverName);
+
+		formatted = new Formatted(serverName, value);
+
+		return value;
+	}
+
+	private String doFormat(final String serverName) {
+		int begin = 0;
+		int end = serverName.length();
+
+		if(stripPrefix != null && serverName.startsWith(stripPrefix)){
+			begin = stripPrefix.length();
+		}
+
+		if(stripSuffix != null && end - begin >= stripSuffix.length() && serverName.endsWith(stripSuffix)){
+			end -= stripSuffix.length();
+		}
+
+		return prefix + serverName.substring(begin, end) + suffix;
+	}
+
+	private final static class Formatted {
+
+		private final String serverName;
+
+		private final String value;
+
+		Formatted(final String serverName, final String value) {
+			this.serverName = serverName;
+			this.value = value;
+		}
+
+	}
+
+}